@@ -38,6 +38,7 @@ const GET_SCOREBOARD_MEMBER_API_URL = (gameId, clubId) => `${SCOREBOARD_API_URL}
 const GAME_JOIN_API_URL = (gameId) => `${GAME_API_URL}/${gameId}/scoreboards`;
 const GAME_JOIN_CANCEL_API_URL = (gameId) => `${GAME_API_URL}/${gameId}/scoreboards`;
 const GET_GAME_PARTICIPANTS_API_URL = (gameId) => `${GAME_API_URL}/${gameId}/participants`;
+const GET_GAME_AFFINITY_API_URL = (gameId) => `${GAME_API_URL}/${gameId}/affinity`;
 const SIDE_JOIN_API_URL = (gameId, memberId, sideType) => `${SCOREBOARD_API_URL}/joinSide?gameId=${gameId}&memberId=${memberId}&sideType=${sideType}`;
 const CONFIRM_CHECK_API_URL = (gameId, memberId) => `${SCOREBOARD_API_URL}/confirmedJoin?gameId=${gameId}&memberId=${memberId}`;
 const GRADE_SETTING_API_URL = (gameId) => `${SCOREBOARD_API_URL}/setGrade?gameId=${gameId}`;
@@ -290,6 +291,14 @@ export const getGameParticipantsRequest = async (gameId, accessToken) => {
     return responseBody;
 }
 
+// 웹소켓 연결 전에 이 게임을 맡는 서버 조회
+export const getGameAffinityRequest = async (gameId, accessToken) => {
+    const responseBody = await axios.get(GET_GAME_AFFINITY_API_URL(gameId), bearerAuthorization(accessToken))
+        .then(responseDataHandler)
+        .catch(responseErrorHandler);
+    return responseBody;
+}
+
 export const sideJoinRequest = async (gameId, memberId, sideType, accessToken) => {
     const responseBody = await axios.post(SIDE_JOIN_API_URL(gameId, memberId, sideType), {}, bearerAuthorization(accessToken))
         .then(responseDataHandler)
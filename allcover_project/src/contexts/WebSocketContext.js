@@ -3,6 +3,7 @@ import { Client } from '@stomp/stompjs';
 import SockJS from 'sockjs-client';
 import { useCookies } from 'react-cookie';
 import { ACCESS_TOKEN } from '../constants';
+import { getGameAffinityRequest } from '../apis';
 
 const WebSocketContext = createContext();
 
@@ -25,16 +26,37 @@ export const WebSocketProvider = ({ children, gameId }) => {
     // STOMP 클라이언트 참조
     const stompClientRef = useRef(null);
     const subscriptionRef = useRef(null);
+    const userSubscriptionRef = useRef(null);
+
+    // 재연결 시 이어받기용: 마지막으로 반영한 이벤트의 epoch/seq (같은 게임일 때만 사용)
+    const streamRef = useRef({ gameId: null, epoch: null, seq: null });
+    // 이어받기 응답 전에 도착한 실시간 이벤트 (응답을 반영한 뒤 순서대로 전달)
+    const pendingEventsRef = useRef(null);
     
     // 서버 환경에 따른 WebSocket URL 설정
     const ROOT_API_DOMAIN = process.env.REACT_APP_API_URL || 'https://pinpal.co.kr';
+
+    // 이 게임을 맡는 서버 주소 (같은 게임의 소켓이 한 서버로 모이도록 연결 전에 조회)
+    const [ownerUrl, setOwnerUrl] = useState(null);
+
+    useEffect(() => {
+        if (!gameId || !token) return;
+        let cancelled = false;
+        setOwnerUrl(null);
+        getGameAffinityRequest(gameId, token).then((response) => {
+            if (cancelled) return;
+            // 주소가 없거나 조회에 실패하면 기본 주소로 연결
+            setOwnerUrl(response && response.url ? response.url : ROOT_API_DOMAIN);
+        });
+        return () => { cancelled = true; };
+    }, [gameId, token, ROOT_API_DOMAIN]);
     
     // STOMP WebSocket URL 설정 (SockJS 사용)
     const getStompWebSocketUrl = () => {
-        if (!gameId) return null;
+        if (!gameId || !ownerUrl) return null;
         
         // SockJS는 HTTP/HTTPS URL 사용
-        const stompUrl = `${ROOT_API_DOMAIN}/ws`;
+        const stompUrl = `${ownerUrl}/ws`;
         
         console.log('🔗 STOMP SockJS URL:', stompUrl);
         console.log('🔗 ROOT_API_DOMAIN:', ROOT_API_DOMAIN);
@@ -110,29 +132,100 @@ export const WebSocketProvider = ({ children, gameId }) => {
 
             // 스코어보드 구독
             if (gameId) {
-                const subscription = client.subscribe(`/sub/scoreboard/${gameId}`, (message) => {
+                // 등록된 핸들러들에게 메시지 전달
+                const dispatch = (data, message) => {
+                    messageHandlers.forEach(handler => {
+                        try {
+                            handler(data, message);
+                        } catch (error) {
+                            console.error('메시지 핸들러 에러:', error);
+                        }
+                    });
+                };
+
+                // 같은 epoch에서 이미 반영한 seq 이하의 이벤트는 건너뜀
+                const isNewEvent = (data) => {
+                    const stream = streamRef.current;
+                    return data.seq == null || data.epoch !== stream.epoch || stream.seq == null || data.seq > stream.seq;
+                };
+
+                // 서버가 resync 표시했거나, 같은 epoch에서 바로 다음 seq가 아닌(중복/누락) 이벤트, epoch가 바뀐 이벤트
+                // → 노드끼리 seq가 겹친 경우라 건너뛰지 않고 스냅샷을 다시 받음
+                const breaksStream = (data) => {
+                    const stream = streamRef.current;
+                    if (data.resync) {
+                        return true;
+                    }
+                    if (data.seq == null || stream.seq == null) {
+                        return false;
+                    }
+                    return data.epoch !== stream.epoch || data.seq !== stream.seq + 1;
+                };
+
+                const remember = (data) => {
+                    if (data.seq != null && data.epoch) {
+                        streamRef.current = { gameId, epoch: data.epoch, seq: data.seq };
+                    }
+                };
+
+                const handleMessage = (message) => {
                     try {
                         const data = JSON.parse(message.body);
                         console.log('📨 STOMP 메시지 수신:', data);
-                        
-                        // 등록된 핸들러들에게 메시지 전달
-                        messageHandlers.forEach(handler => {
-                            try {
-                                handler(data, message);
-                            } catch (error) {
-                                console.error('메시지 핸들러 에러:', error);
+
+                        // 이어받기 응답(놓친 이벤트 목록) 또는 스냅샷
+                        if (data.type === 'resume' || data.type === 'initialData') {
+                            if (data.type === 'resume') {
+                                if (data.events.some(event => event.resync)) {
+                                    requestSnapshotReload();
+                                    return;
+                                }
+                                data.events.filter(isNewEvent).forEach(event => dispatch(event, message));
+                            } else {
+                                dispatch(data, message);
                             }
-                        });
+                            remember(data);
+
+                            const pending = pendingEventsRef.current || [];
+                            pendingEventsRef.current = null;
+                            pending.filter(isNewEvent).forEach(event => {
+                                dispatch(event, message);
+                                remember(event);
+                            });
+                            return;
+                        }
+
+                        if (pendingEventsRef.current) {
+                            pendingEventsRef.current.push(data);
+                            return;
+                        }
+                        if (breaksStream(data)) {
+                            console.warn('⚠️ 이벤트 순서가 이어지지 않아 스냅샷을 다시 요청:', { epoch: data.epoch, seq: data.seq });
+                            requestSnapshotReload();
+                            return;
+                        }
+                        dispatch(data, message);
+                        remember(data);
                     } catch (error) {
                         console.error('STOMP 메시지 파싱 에러:', error);
                     }
-                });
+                };
+
+                const subscription = client.subscribe(`/sub/scoreboard/${gameId}`, handleMessage);
+                // 초기 데이터(스냅샷)는 요청한 세션에게만 전송됨
+                userSubscriptionRef.current = client.subscribe(`/user/queue/scoreboard/${gameId}`, handleMessage);
                 
                 subscriptionRef.current = subscription;
                 console.log(`📡 스코어보드 구독 완료: /sub/scoreboard/${gameId}`);
                 
-                // 초기 데이터 요청
-                requestInitialData();
+                // 같은 게임에 다시 연결된 경우 놓친 이벤트만 요청, 처음이면 초기 데이터 요청
+                const stream = streamRef.current;
+                if (stream.gameId === gameId && stream.epoch && stream.seq != null) {
+                    requestResume();
+                } else {
+                    streamRef.current = { gameId, epoch: null, seq: null };
+                    requestInitialData();
+                }
             }
         };
 
@@ -187,6 +280,10 @@ export const WebSocketProvider = ({ children, gameId }) => {
             subscriptionRef.current = null;
             console.log('📡 STOMP 구독 해제');
         }
+        if (userSubscriptionRef.current) {
+            userSubscriptionRef.current.unsubscribe();
+            userSubscriptionRef.current = null;
+        }
         
         if (stompClientRef.current && stompClientRef.current.connected) {
             stompClientRef.current.deactivate();
@@ -240,6 +337,37 @@ export const WebSocketProvider = ({ children, gameId }) => {
         }
     }, [gameId, sendStompMessage]);
 
+    // 스냅샷 다시 받기 (응답이 올 때까지 들어오는 이벤트는 모아 두었다가 스냅샷 이후 것만 반영)
+    const requestSnapshotReload = useCallback(() => {
+        pendingEventsRef.current = [];
+        const success = sendStompMessage('/pub/requestInitialData', { gameId: gameId, timestamp: Date.now() });
+        if (success) {
+            console.log('📤 스냅샷 재요청 전송:', gameId);
+        } else {
+            pendingEventsRef.current = null;
+            console.error('❌ 스냅샷 재요청 전송 실패');
+        }
+    }, [gameId, sendStompMessage]);
+
+    // 재연결 후 이어받기 요청 (epoch가 다르거나 범위를 벗어나면 서버가 스냅샷으로 응답)
+    const requestResume = useCallback(() => {
+        const { epoch, seq } = streamRef.current;
+        const requestMessage = {
+            gameId: gameId,
+            epoch: epoch,
+            lastSeq: seq
+        };
+
+        pendingEventsRef.current = [];
+        const success = sendStompMessage('/pub/resume', requestMessage);
+        if (success) {
+            console.log('📤 이어받기 요청 전송:', requestMessage);
+        } else {
+            pendingEventsRef.current = null;
+            console.error('❌ 이어받기 요청 전송 실패');
+        }
+    }, [gameId, sendStompMessage]);
+
     // 인증된 메시지 전송 (STOMP 방식)
     const sendAuthenticatedMessage = useCallback((message) => {
         if (!token) {
@@ -145,6 +145,17 @@ function WaitingRoom() {
             
             // 2. members 배열의 해당 사용자 팀 번호 업데이트
             updateMemberTeamNumber(data.userId, data.teamNumber);
+        } else if (data.type === 'cardSelectRejected') {
+            // 다른 사람이 먼저 선택한 카드 → 미리 표시해 둔 내 선택을 되돌림
+            const cardKey = `${data.grade}-${data.cardIndex}`;
+            setSelectedCards(prev => {
+                if (prev[cardKey]?.userId !== data.userId) {
+                    return prev;
+                }
+                const { [cardKey]: _rejected, ...rest } = prev;
+                return rest;
+            });
+            alert('이미 다른 회원이 선택한 카드입니다. 다른 카드를 선택해주세요.');
         } else if (data.type === 'cardDrawReset') {
             setCardDrawData(null);
             setSelectedCards({});
@@ -0,0 +1,125 @@
+package com.kh.pinpal2.base.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * 로컬 캐시를 감싸 evict / clear를 다른 노드에도 전파
+ * - @CacheEvict, CacheManager를 통한 무효화 모두 여기를 거침
+ * - 트랜잭션 안이면 커밋 후에 전파 (다른 노드가 커밋 전 데이터로 다시 적재하는 것 방지)
+ * - 다른 노드에서 온 무효화는 apply로 로컬에만 반영 (다시 전파하지 않음)
+ */
+public class BroadcastingCache implements Cache {
+
+    private final Cache delegate;
+    private final CacheInvalidationBus bus;
+
+    public BroadcastingCache(Cache delegate, CacheInvalidationBus bus) {
+        this.delegate = delegate;
+        this.bus = bus;
+    }
+
+    public void apply(CacheInvalidation invalidation) {
+        if (invalidation.cacheName() == null) {
+            delegate.clear();
+        } else if (invalidation.cacheName().equals(getName())) {
+            if (invalidation.key() == null) {
+                delegate.clear();
+            } else {
+                delegate.evict(invalidation.decodeKey());
+            }
+        }
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return delegate.get(key);
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return delegate.get(key, type);
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        return delegate.get(key, valueLoader);
+    }
+
+    @Override
+    public CompletableFuture<?> retrieve(Object key) {
+        return delegate.retrieve(key);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+        return delegate.retrieve(key, valueLoader);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        return delegate.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+        publish(CacheInvalidation.evict(getName(), key));
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean evicted = delegate.evictIfPresent(key);
+        // 이 노드에 없어도 다른 노드에는 있을 수 있으므로 항상 전파
+        publish(CacheInvalidation.evict(getName(), key));
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+        publish(CacheInvalidation.clear(getName()));
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidated = delegate.invalidate();
+        publish(CacheInvalidation.clear(getName()));
+        return invalidated;
+    }
+
+    private void publish(CacheInvalidation invalidation) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    // 커밋 전에 다시 적재된 값이 있을 수 있으므로 로컬도 한 번 더 비움
+                    apply(invalidation);
+                    bus.publish(invalidation);
+                }
+            });
+        } else {
+            bus.publish(invalidation);
+        }
+    }
+}
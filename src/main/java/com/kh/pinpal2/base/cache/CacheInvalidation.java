@@ -0,0 +1,51 @@
+package com.kh.pinpal2.base.cache;
+
+/**
+ * 노드 간에 전달되는 캐시 무효화 한 건
+ * - key가 null이면 해당 영역 전체, cacheName도 null이면 모든 영역을 비움
+ * - 키는 타입 접두사를 붙인 문자열로 전달 (L:123, I:2, S:abc)
+ */
+public record CacheInvalidation(
+        String cacheName,
+        String key
+) {
+
+    public static CacheInvalidation evict(String cacheName, Object key) {
+        String encoded = encode(key);
+        // 문자열로 옮길 수 없는 키(SimpleKey 등)는 영역 전체 무효화로 대신함
+        return encoded == null ? clear(cacheName) : new CacheInvalidation(cacheName, encoded);
+    }
+
+    public static CacheInvalidation clear(String cacheName) {
+        return new CacheInvalidation(cacheName, null);
+    }
+
+    public static CacheInvalidation clearAll() {
+        return new CacheInvalidation(null, null);
+    }
+
+    public Object decodeKey() {
+        if (key == null) {
+            return null;
+        }
+        String value = key.substring(2);
+        return switch (key.charAt(0)) {
+            case 'L' -> Long.valueOf(value);
+            case 'I' -> Integer.valueOf(value);
+            default -> value;
+        };
+    }
+
+    private static String encode(Object key) {
+        if (key instanceof Long value) {
+            return "L:" + value;
+        }
+        if (key instanceof Integer value) {
+            return "I:" + value;
+        }
+        if (key instanceof String value) {
+            return "S:" + value;
+        }
+        return null;
+    }
+}
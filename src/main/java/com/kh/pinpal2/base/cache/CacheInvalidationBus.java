@@ -0,0 +1,15 @@
+package com.kh.pinpal2.base.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * 캐시 무효화를 다른 노드로 전달하는 통로
+ * - publish: 이 노드에서 일어난 무효화를 전파 (이 노드 캐시는 호출한 쪽에서 이미 비움)
+ * - subscribe: 다른 노드에서 온 무효화를 받을 리스너 등록
+ */
+public interface CacheInvalidationBus {
+
+    void publish(CacheInvalidation invalidation);
+
+    void subscribe(Consumer<CacheInvalidation> listener);
+}
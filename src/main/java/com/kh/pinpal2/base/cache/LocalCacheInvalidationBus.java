@@ -0,0 +1,50 @@
+package com.kh.pinpal2.base.cache;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 같은 JVM 안의 노드끼리 쓰는 버스 (단일 노드 / 테스트용)
+ * - LocalClusterMembership과 같이 인스턴스 목록을 static으로 공유 → 한 JVM의 다른 애플리케이션 컨텍스트에 바로 전달
+ * - 자기 자신이 보낸 무효화는 전달하지 않음 (PostgresCacheInvalidationBus와 동일)
+ */
+@Component
+@ConditionalOnProperty(name = "pinpal.cache.bus.type", havingValue = "local", matchIfMissing = true)
+public class LocalCacheInvalidationBus implements CacheInvalidationBus {
+
+    private static final Set<LocalCacheInvalidationBus> INSTANCES = ConcurrentHashMap.newKeySet();
+
+    private final List<Consumer<CacheInvalidation>> listeners = new CopyOnWriteArrayList<>();
+
+    @PostConstruct
+    public void join() {
+        INSTANCES.add(this);
+    }
+
+    @PreDestroy
+    public void leave() {
+        INSTANCES.remove(this);
+    }
+
+    @Override
+    public void publish(CacheInvalidation invalidation) {
+        for (LocalCacheInvalidationBus instance : INSTANCES) {
+            if (instance != this) {
+                instance.listeners.forEach(listener -> listener.accept(invalidation));
+            }
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidation> listener) {
+        listeners.add(listener);
+    }
+}
@@ -0,0 +1,112 @@
+package com.kh.pinpal2.base.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kh.pinpal2.base.cluster.ClusterNode;
+import com.kh.pinpal2.base.cluster.PgNotificationHub;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * PostgreSQL LISTEN/NOTIFY 기반 버스 (인스턴스가 여러 개일 때)
+ * - publish는 큐에만 넣고, flush-interval마다 모아서(중복 제거) pg_notify 한 번으로 전송
+ * - 자기 노드가 보낸 메시지는 무시
+ * - LISTEN 연결이 다시 붙으면 그 사이 메시지를 놓쳤을 수 있으므로 모든 캐시를 비움
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "pinpal.cache.bus.type", havingValue = "postgres")
+public class PostgresCacheInvalidationBus implements CacheInvalidationBus {
+
+    // NOTIFY payload 제한(8000 bytes) 안에 들어가도록 메시지당 건수 제한
+    private static final int MAX_ITEMS_PER_NOTIFY = 50;
+
+    private final PgNotificationHub notificationHub;
+    private final ObjectMapper objectMapper;
+    private final String nodeId;
+    private final String channel;
+
+    private final Queue<CacheInvalidation> pending = new ConcurrentLinkedQueue<>();
+    private final List<Consumer<CacheInvalidation>> listeners = new CopyOnWriteArrayList<>();
+
+    public PostgresCacheInvalidationBus(PgNotificationHub notificationHub,
+                                        ObjectMapper objectMapper,
+                                        ClusterNode clusterNode,
+                                        @Value("${pinpal.cache.bus.channel:pinpal_cache}") String channel) {
+        this.notificationHub = notificationHub;
+        this.objectMapper = objectMapper;
+        this.nodeId = clusterNode.getId();
+        this.channel = channel;
+        notificationHub.listen(channel, this::receive, () -> deliver(CacheInvalidation.clearAll()));
+    }
+
+    @PreDestroy
+    public void stop() {
+        flush();
+    }
+
+    @Override
+    public void publish(CacheInvalidation invalidation) {
+        pending.add(invalidation);
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidation> listener) {
+        listeners.add(listener);
+    }
+
+    @Scheduled(fixedDelayString = "${pinpal.cache.bus.flush-interval-ms:50}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        Set<CacheInvalidation> batch = new LinkedHashSet<>();
+        CacheInvalidation invalidation;
+        while ((invalidation = pending.poll()) != null) {
+            batch.add(invalidation);
+        }
+
+        List<CacheInvalidation> items = new ArrayList<>(batch);
+        for (int from = 0; from < items.size(); from += MAX_ITEMS_PER_NOTIFY) {
+            List<CacheInvalidation> chunk = items.subList(from, Math.min(from + MAX_ITEMS_PER_NOTIFY, items.size()));
+            try {
+                notificationHub.notify(channel, objectMapper.writeValueAsString(new Message(nodeId, chunk)));
+            } catch (JsonProcessingException | RuntimeException e) {
+                log.error("캐시 무효화 전송 실패: {}건, error={}", chunk.size(), e.getMessage());
+            }
+        }
+    }
+
+    private void receive(String payload) {
+        try {
+            Message message = objectMapper.readValue(payload, Message.class);
+            if (nodeId.equals(message.node())) {
+                return;
+            }
+            message.items().forEach(this::deliver);
+        } catch (JsonProcessingException e) {
+            log.error("캐시 무효화 수신 처리 실패: payload={}, error={}", payload, e.getMessage());
+        }
+    }
+
+    private void deliver(CacheInvalidation invalidation) {
+        listeners.forEach(listener -> listener.accept(invalidation));
+    }
+
+    private record Message(String node, List<CacheInvalidation> items) {
+    }
+}
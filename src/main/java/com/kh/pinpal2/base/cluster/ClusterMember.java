@@ -0,0 +1,7 @@
+package com.kh.pinpal2.base.cluster;
+
+public record ClusterMember(
+        String id,
+        String url
+) {
+}
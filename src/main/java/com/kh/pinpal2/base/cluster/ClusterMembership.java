@@ -0,0 +1,16 @@
+package com.kh.pinpal2.base.cluster;
+
+import java.util.Collection;
+
+/**
+ * 현재 살아 있는 노드 목록 (자기 자신 포함)
+ */
+public interface ClusterMembership {
+
+    Collection<ClusterMember> members();
+
+    /**
+     * 노드가 들어오거나 나갈 때 호출할 리스너 등록
+     */
+    void onChange(Runnable listener);
+}
@@ -0,0 +1,31 @@
+package com.kh.pinpal2.base.cluster;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.UUID;
+
+/**
+ * 이 인스턴스의 식별자 (설정이 없으면 시작할 때마다 새로 만듦)
+ * - 노드 간 메시지에서 자기 자신이 보낸 것을 거르는 데 사용
+ * - url: 클라이언트가 이 노드로 직접 /ws 를 열 때 쓰는 주소 (비어 있으면 지금 접속한 주소 그대로 사용)
+ */
+@Getter
+@Component
+public class ClusterNode {
+
+    private final String id;
+    private final String url;
+
+    public ClusterNode(@Value("${pinpal.cluster.node-id:}") String nodeId,
+                       @Value("${pinpal.cluster.advertised-url:}") String url) {
+        this.id = StringUtils.hasText(nodeId) ? nodeId : UUID.randomUUID().toString();
+        this.url = url;
+    }
+
+    public ClusterMember toMember() {
+        return new ClusterMember(id, url);
+    }
+}
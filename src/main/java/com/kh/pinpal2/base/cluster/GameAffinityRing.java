@@ -0,0 +1,98 @@
+package com.kh.pinpal2.base.cluster;
+
+import com.kh.pinpal2.base.event.ClusterMembershipChangedEvent;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * gameId 기준 일관된 해시 링 (게임 하나의 소켓이 모두 같은 노드로 모이도록)
+ * - 노드마다 virtual-nodes 개의 점을 링에 올려 노드 수가 적어도 고르게 나눔
+ * - 노드가 들어오거나 나가면 그 노드 몫의 게임만 주인이 바뀜
+ * - 링이 바뀌면 ClusterMembershipChangedEvent 발행 (주인이 바뀐 게임의 메모리 상태 넘기기)
+ */
+@Slf4j
+@Component
+public class GameAffinityRing {
+
+    private final ClusterMembership membership;
+    private final ClusterNode clusterNode;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int virtualNodes;
+
+    private volatile NavigableMap<Long, ClusterMember> ring = new TreeMap<>();
+
+    public GameAffinityRing(ClusterMembership membership,
+                            ClusterNode clusterNode,
+                            ApplicationEventPublisher eventPublisher,
+                            @Value("${pinpal.cluster.virtual-nodes:128}") int virtualNodes) {
+        this.membership = membership;
+        this.clusterNode = clusterNode;
+        this.eventPublisher = eventPublisher;
+        this.virtualNodes = virtualNodes;
+    }
+
+    @PostConstruct
+    public void init() {
+        // 시작 시점에는 넘길 게임이 없으므로 링만 만들고 이벤트는 발행하지 않음
+        ring = build(membership.members());
+        membership.onChange(this::rebuild);
+    }
+
+    public ClusterMember ownerOf(Long gameId) {
+        NavigableMap<Long, ClusterMember> current = ring;
+        if (current.isEmpty()) {
+            return clusterNode.toMember();
+        }
+        Map.Entry<Long, ClusterMember> entry = current.ceilingEntry(mix(gameId));
+        return (entry != null ? entry : current.firstEntry()).getValue();
+    }
+
+    public boolean isLocal(Long gameId) {
+        return ownerOf(gameId).id().equals(clusterNode.getId());
+    }
+
+    private synchronized void rebuild() {
+        Collection<ClusterMember> members = membership.members();
+        ring = build(members);
+
+        log.info("게임 배정 링 재구성: nodes={}", members.stream().map(ClusterMember::id).toList());
+        eventPublisher.publishEvent(new ClusterMembershipChangedEvent(members));
+    }
+
+    private NavigableMap<Long, ClusterMember> build(Collection<ClusterMember> members) {
+        NavigableMap<Long, ClusterMember> next = new TreeMap<>();
+        for (ClusterMember member : members) {
+            for (int i = 0; i < virtualNodes; i++) {
+                next.put(hash(member.id() + "#" + i), member);
+            }
+        }
+        return next;
+    }
+
+    // FNV-1a 64bit 후 섞기
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    // splitmix64 finalizer (연속된 gameId도 링 위에 고르게 퍼지도록)
+    private static long mix(long value) {
+        long z = value + 0x9e3779b97f4a7c15L;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
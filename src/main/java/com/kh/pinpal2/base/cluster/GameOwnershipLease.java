@@ -0,0 +1,16 @@
+package com.kh.pinpal2.base.cluster;
+
+/**
+ * 게임 메모리 상태(write-behind)를 가진 노드 표시 (게임당 한 노드)
+ * - 링에서 주인이 바뀌어도 이전 주인이 flush 후 release 할 때까지 새 주인은 적재하지 않음
+ * - 보유 노드가 클러스터에서 빠졌으면(비정상 종료) 반영할 것이 없으므로 바로 넘겨받음
+ */
+public interface GameOwnershipLease {
+
+    /**
+     * @return 이 노드가 보유하게 되었거나 이미 보유 중이면 true, 살아 있는 다른 노드가 보유 중이면 false
+     */
+    boolean tryAcquire(Long gameId);
+
+    void release(Long gameId);
+}
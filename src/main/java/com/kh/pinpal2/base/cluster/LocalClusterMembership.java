@@ -0,0 +1,60 @@
+package com.kh.pinpal2.base.cluster;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 같은 JVM 안의 노드 목록 (단일 노드 / 테스트용)
+ * - 목록을 static으로 공유하므로 한 JVM에 애플리케이션 컨텍스트를 여러 개 띄우면 서로를 노드로 인식
+ */
+@Component
+@ConditionalOnProperty(name = "pinpal.cluster.membership", havingValue = "local", matchIfMissing = true)
+public class LocalClusterMembership implements ClusterMembership {
+
+    private static final Map<String, ClusterMember> MEMBERS = new ConcurrentHashMap<>();
+    private static final Set<LocalClusterMembership> INSTANCES = ConcurrentHashMap.newKeySet();
+
+    private final ClusterMember self;
+    private final List<Runnable> listeners = new CopyOnWriteArrayList<>();
+
+    public LocalClusterMembership(ClusterNode clusterNode) {
+        this.self = clusterNode.toMember();
+    }
+
+    @PostConstruct
+    public void join() {
+        MEMBERS.put(self.id(), self);
+        INSTANCES.add(this);
+        notifyAllInstances();
+    }
+
+    @PreDestroy
+    public void leave() {
+        MEMBERS.remove(self.id());
+        INSTANCES.remove(this);
+        notifyAllInstances();
+    }
+
+    @Override
+    public Collection<ClusterMember> members() {
+        return List.copyOf(MEMBERS.values());
+    }
+
+    @Override
+    public void onChange(Runnable listener) {
+        listeners.add(listener);
+    }
+
+    private static void notifyAllInstances() {
+        INSTANCES.forEach(instance -> instance.listeners.forEach(Runnable::run));
+    }
+}
@@ -0,0 +1,41 @@
+package com.kh.pinpal2.base.cluster;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 같은 JVM 안의 노드끼리 쓰는 보유 표시 (단일 노드 / 테스트용)
+ * - LocalClusterMembership과 같이 static으로 공유
+ */
+@Component
+@ConditionalOnProperty(name = "pinpal.cluster.membership", havingValue = "local", matchIfMissing = true)
+public class LocalGameOwnershipLease implements GameOwnershipLease {
+
+    private static final Map<Long, String> HOLDERS = new ConcurrentHashMap<>();
+
+    private final ClusterMembership membership;
+    private final String nodeId;
+
+    public LocalGameOwnershipLease(ClusterMembership membership, ClusterNode clusterNode) {
+        this.membership = membership;
+        this.nodeId = clusterNode.getId();
+    }
+
+    @Override
+    public boolean tryAcquire(Long gameId) {
+        Set<String> memberIds = membership.members().stream().map(ClusterMember::id).collect(Collectors.toSet());
+        String holder = HOLDERS.compute(gameId, (id, current) ->
+                current == null || current.equals(nodeId) || !memberIds.contains(current) ? nodeId : current);
+        return nodeId.equals(holder);
+    }
+
+    @Override
+    public void release(Long gameId) {
+        HOLDERS.remove(gameId, nodeId);
+    }
+}
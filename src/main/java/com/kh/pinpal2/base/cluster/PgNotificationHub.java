@@ -0,0 +1,141 @@
+package com.kh.pinpal2.base.cluster;
+
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * PostgreSQL LISTEN/NOTIFY 공용 연결
+ * - 수신은 커넥션 풀과 별개인 전용 커넥션 하나로 등록된 모든 채널을 LISTEN (풀 크기를 잡아먹지 않도록)
+ * - 채널 등록은 빈 생성 중에만 하고, 등록된 채널이 없으면 연결하지 않음
+ * - 연결이 끊겼다가 다시 붙으면 그 사이 메시지를 놓쳤을 수 있으므로 채널별 onReconnect 호출
+ */
+@Slf4j
+@Component
+public class PgNotificationHub implements SmartLifecycle {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSourceProperties dataSourceProperties;
+    private final long reconnectDelayMillis;
+
+    private final Map<String, Subscription> subscriptions = new ConcurrentHashMap<>();
+    private volatile boolean running;
+    private Thread listenThread;
+
+    public PgNotificationHub(JdbcTemplate jdbcTemplate,
+                             DataSourceProperties dataSourceProperties,
+                             @Value("${pinpal.cluster.reconnect-delay-ms:5000}") long reconnectDelayMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dataSourceProperties = dataSourceProperties;
+        this.reconnectDelayMillis = reconnectDelayMillis;
+    }
+
+    public void listen(String channel, Consumer<String> handler, Runnable onReconnect) {
+        if (!channel.matches("[a-z_][a-z0-9_]*")) {
+            throw new IllegalArgumentException("잘못된 채널 이름: " + channel);
+        }
+        subscriptions.put(channel, new Subscription(handler, onReconnect));
+    }
+
+    /**
+     * 풀 커넥션으로 NOTIFY (payload는 8000 bytes 미만이어야 함)
+     */
+    public void notify(String channel, String payload) {
+        jdbcTemplate.query("SELECT pg_notify(?, ?)", rs -> null, channel, payload);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        if (subscriptions.isEmpty()) {
+            return;
+        }
+        listenThread = new Thread(this::listen, "pg-notification-listen");
+        listenThread.setDaemon(true);
+        listenThread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (listenThread != null) {
+            listenThread.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void listen() {
+        boolean reconnected = false;
+
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword())) {
+                try (Statement statement = connection.createStatement()) {
+                    for (String channel : subscriptions.keySet()) {
+                        statement.execute("LISTEN " + channel);
+                    }
+                }
+                log.info("LISTEN 시작: channels={}", subscriptions.keySet());
+
+                if (reconnected) {
+                    subscriptions.values().forEach(subscription -> subscription.onReconnect().run());
+                }
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(1000);
+                    if (notifications == null) {
+                        continue;
+                    }
+                    for (PGNotification notification : notifications) {
+                        dispatch(notification);
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("LISTEN 연결 끊김, {}ms 후 재연결: {}", reconnectDelayMillis, e.getMessage());
+                reconnected = true;
+                try {
+                    Thread.sleep(reconnectDelayMillis);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void dispatch(PGNotification notification) {
+        Subscription subscription = subscriptions.get(notification.getName());
+        if (subscription == null) {
+            return;
+        }
+        try {
+            subscription.handler().accept(notification.getParameter());
+        } catch (RuntimeException e) {
+            log.error("NOTIFY 처리 실패: channel={}, error={}", notification.getName(), e.getMessage());
+        }
+    }
+
+    private record Subscription(Consumer<String> handler, Runnable onReconnect) {
+    }
+}
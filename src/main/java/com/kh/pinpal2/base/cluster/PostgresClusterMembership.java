@@ -0,0 +1,108 @@
+package com.kh.pinpal2.base.cluster;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * PostgreSQL NOTIFY 하트비트 기반 노드 목록 (인스턴스가 여러 개일 때)
+ * - 각 노드는 heartbeat-ms마다 "join 노드 주소"를 보내고, timeout-ms 동안 소식이 없는 노드는 목록에서 제거
+ * - 처음 보는 노드의 join을 받으면 바로 자기 join으로 답해 새 노드가 다음 주기를 기다리지 않도록 함
+ * - 종료할 때는 "leave 노드"를 보내 다른 노드가 바로 재분배하도록 함
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "pinpal.cluster.membership", havingValue = "postgres")
+public class PostgresClusterMembership implements ClusterMembership {
+
+    private final PgNotificationHub notificationHub;
+    private final ClusterMember self;
+    private final String channel;
+    private final long timeoutMillis;
+
+    // 노드 → 마지막으로 소식을 받은 시각
+    private final Map<ClusterMember, Long> lastSeen = new ConcurrentHashMap<>();
+    private final List<Runnable> listeners = new CopyOnWriteArrayList<>();
+
+    public PostgresClusterMembership(PgNotificationHub notificationHub,
+                                     ClusterNode clusterNode,
+                                     @Value("${pinpal.cluster.channel:pinpal_cluster}") String channel,
+                                     @Value("${pinpal.cluster.timeout-ms:15000}") long timeoutMillis) {
+        this.notificationHub = notificationHub;
+        this.self = clusterNode.toMember();
+        this.channel = channel;
+        this.timeoutMillis = timeoutMillis;
+        lastSeen.put(self, Long.MAX_VALUE);
+        notificationHub.listen(channel, this::receive, this::heartbeat);
+    }
+
+    @PreDestroy
+    public void leave() {
+        try {
+            notificationHub.notify(channel, "leave " + self.id());
+        } catch (RuntimeException e) {
+            log.warn("클러스터 leave 전송 실패: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public Collection<ClusterMember> members() {
+        return List.copyOf(lastSeen.keySet());
+    }
+
+    @Override
+    public void onChange(Runnable listener) {
+        listeners.add(listener);
+    }
+
+    @Scheduled(fixedDelayString = "${pinpal.cluster.heartbeat-ms:5000}")
+    public void heartbeat() {
+        try {
+            notificationHub.notify(channel, "join " + self.id() + " " + self.url());
+        } catch (RuntimeException e) {
+            log.warn("클러스터 하트비트 전송 실패: {}", e.getMessage());
+        }
+
+        long expiredBefore = System.currentTimeMillis() - timeoutMillis;
+        boolean removed = lastSeen.entrySet().removeIf(entry -> entry.getValue() < expiredBefore);
+        if (removed) {
+            log.info("응답 없는 노드 제거: members={}", lastSeen.keySet());
+            changed();
+        }
+    }
+
+    private void receive(String payload) {
+        String[] parts = payload.split(" ", 3);
+        if (parts.length < 2 || self.id().equals(parts[1])) {
+            return;
+        }
+
+        if ("leave".equals(parts[0])) {
+            if (lastSeen.keySet().removeIf(member -> member.id().equals(parts[1]))) {
+                log.info("노드 종료: node={}", parts[1]);
+                changed();
+            }
+            return;
+        }
+
+        ClusterMember member = new ClusterMember(parts[1], parts.length > 2 ? parts[2] : "");
+        if (lastSeen.put(member, System.currentTimeMillis()) == null) {
+            log.info("노드 참여: node={}, url={}", member.id(), member.url());
+            heartbeat();
+            changed();
+        }
+    }
+
+    private void changed() {
+        listeners.forEach(Runnable::run);
+    }
+}
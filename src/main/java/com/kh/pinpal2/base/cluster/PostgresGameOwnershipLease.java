@@ -0,0 +1,48 @@
+package com.kh.pinpal2.base.cluster;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * live_game_lease 테이블 기반 보유 표시 (인스턴스가 여러 개일 때)
+ * - 한 문장(INSERT ... ON CONFLICT)으로 확인과 획득을 같이 처리
+ * - 보유 노드가 지금 노드 목록(ClusterMembership)에 없으면 넘겨받음
+ */
+@Component
+@ConditionalOnProperty(name = "pinpal.cluster.membership", havingValue = "postgres")
+public class PostgresGameOwnershipLease implements GameOwnershipLease {
+
+    private static final String ACQUIRE_SQL = """
+            INSERT INTO live_game_lease (game_id, node_id, acquired_at)
+            VALUES (?, ?, now())
+            ON CONFLICT (game_id) DO UPDATE SET node_id = EXCLUDED.node_id, acquired_at = EXCLUDED.acquired_at
+            WHERE live_game_lease.node_id = EXCLUDED.node_id OR NOT (live_game_lease.node_id = ANY (?))
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ClusterMembership membership;
+    private final String nodeId;
+
+    public PostgresGameOwnershipLease(JdbcTemplate jdbcTemplate, ClusterMembership membership, ClusterNode clusterNode) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.membership = membership;
+        this.nodeId = clusterNode.getId();
+    }
+
+    @Override
+    public boolean tryAcquire(Long gameId) {
+        Object[] memberIds = membership.members().stream().map(ClusterMember::id).toArray();
+        int updated = jdbcTemplate.update(ACQUIRE_SQL, ps -> {
+            ps.setLong(1, gameId);
+            ps.setString(2, nodeId);
+            ps.setArray(3, ps.getConnection().createArrayOf("varchar", memberIds));
+        });
+        return updated > 0;
+    }
+
+    @Override
+    public void release(Long gameId) {
+        jdbcTemplate.update("DELETE FROM live_game_lease WHERE game_id = ? AND node_id = ?", gameId, nodeId);
+    }
+}
@@ -1,6 +1,12 @@
 package com.kh.pinpal2.base.config;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kh.pinpal2.base.cache.BroadcastingCache;
+import com.kh.pinpal2.base.cache.CacheInvalidationBus;
+import com.kh.pinpal2.club.service.ClubService;
+import com.kh.pinpal2.game.service.GameService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCache;
@@ -8,37 +14,56 @@ import org.springframework.cache.support.SimpleCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
-import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
 import java.util.concurrent.TimeUnit;
 
 @Configuration
 @EnableCaching
 public class CacheConfig {
 
+    /**
+     * 모든 @Cacheable은 sync = true → 같은 키의 동시 미스는 적재 한 번으로 합쳐짐
+     * 요청이 몰리는 games / users는 refreshAfterWrite로 만료 전에 백그라운드 갱신
+     * 모든 영역은 BroadcastingCache로 감싸 evict / clear를 다른 노드에도 전파
+     */
     @Bean
-    public CacheManager cacheManager() {
+    public CacheManager cacheManager(ObjectProvider<GameService> gameService,
+                                     ObjectProvider<ClubService> clubService,
+                                     CacheInvalidationBus cacheInvalidationBus,
+                                     @Value("${pinpal.cache.refresh-after-write-ms:600000}") long refreshAfterWriteMillis) {
         SimpleCacheManager cacheManager = new SimpleCacheManager();
 
+        // 목록(페이지)과 단건을 다른 영역에 두어 한쪽 무효화가 다른 쪽 적중률에 영향을 주지 않도록 함
+        CaffeineCache clubPages = new CaffeineCache("clubPages",
+            Caffeine.newBuilder()
+                .expireAfterAccess(172800, TimeUnit.SECONDS) // 클럽 목록 페이지: 2일
+                .maximumSize(100)
+                .recordStats()
+                .build());
+
         CaffeineCache clubs = new CaffeineCache("clubs",
             Caffeine.newBuilder()
-                .expireAfterAccess(172800, TimeUnit.SECONDS) // 클럽 목록: 2일
+                .expireAfterAccess(172800, TimeUnit.SECONDS) // 클럽 단건: 2일
                 .maximumSize(1000)
                 .recordStats()
                 .build());
 
-        CaffeineCache games = new CaffeineCache("games",
+        CaffeineCache games = RefreshingCaffeineCache.of("games",
             Caffeine.newBuilder()
                 .expireAfterAccess(172800, TimeUnit.SECONDS) // 클럽별 게임 목록: 2일
+                .refreshAfterWrite(refreshAfterWriteMillis, TimeUnit.MILLISECONDS)
                 .maximumSize(1000)
-                .recordStats()
-                .build());
+                .recordStats(),
+            clubId -> gameService.getObject().findAllByClubId((Long) clubId, null));
 
-        CaffeineCache users = new CaffeineCache("users",
+        CaffeineCache users = RefreshingCaffeineCache.of("users",
             Caffeine.newBuilder()
                 .expireAfterAccess(86400, TimeUnit.SECONDS) // 클럽별 유저 목록: 1일
+                .refreshAfterWrite(refreshAfterWriteMillis, TimeUnit.MILLISECONDS)
                 .maximumSize(1000)
-                .recordStats()
-                .build());
+                .recordStats(),
+            clubId -> clubService.getObject().getClubMembers((Long) clubId));
 
         CaffeineCache ceremonies = new CaffeineCache("ceremonies",
             Caffeine.newBuilder()
@@ -61,9 +86,13 @@ public class CacheConfig {
                 .recordStats()
                 .build());
 
-        cacheManager.setCaches(Arrays.asList(
-            clubs, games, users, ceremonies, recentCeremonies, scoreboards
-        ));
+        List<BroadcastingCache> caches = Stream.of(
+            clubPages, clubs, games, users, ceremonies, recentCeremonies, scoreboards
+        ).map(cache -> new BroadcastingCache(cache, cacheInvalidationBus)).toList();
+
+        // 다른 노드에서 온 무효화는 로컬 캐시에만 반영
+        cacheInvalidationBus.subscribe(invalidation -> caches.forEach(cache -> cache.apply(invalidation)));
+        cacheManager.setCaches(caches);
 
         return cacheManager;
     }
@@ -0,0 +1,51 @@
+package com.kh.pinpal2.base.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.util.concurrent.Callable;
+import java.util.function.Function;
+
+/**
+ * refreshAfterWrite를 쓰는 캐시 영역
+ * - 갱신 시점이 지난 키를 읽으면 기존 값을 바로 돌려주고, 백그라운드에서 서비스 메서드(프록시)를 다시 호출해 교체
+ * - 갱신 중의 호출은 캐시를 건너뛰고 메서드를 그대로 실행 (아직 남아 있는 기존 값이 다시 반환되는 것 방지)
+ * - @Cacheable(sync = true)로만 사용 (같은 키의 동시 적재는 Caffeine이 하나로 합침)
+ */
+class RefreshingCaffeineCache extends CaffeineCache {
+
+    private static final ThreadLocal<Boolean> REFRESHING = ThreadLocal.withInitial(() -> false);
+
+    private RefreshingCaffeineCache(String name, LoadingCache<Object, Object> cache) {
+        super(name, cache);
+    }
+
+    /**
+     * @param loader 키로 캐시 대상 메서드를 다시 호출하는 함수 (프록시를 거쳐 트랜잭션이 적용되도록)
+     */
+    static RefreshingCaffeineCache of(String name, Caffeine<Object, Object> builder, Function<Object, Object> loader) {
+        return new RefreshingCaffeineCache(name, builder.build(key -> load(loader, key)));
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        if (REFRESHING.get()) {
+            try {
+                return valueLoader.call();
+            } catch (Exception e) {
+                throw new ValueRetrievalException(key, valueLoader, e);
+            }
+        }
+        return super.get(key, valueLoader);
+    }
+
+    private static Object load(Function<Object, Object> loader, Object key) {
+        REFRESHING.set(true);
+        try {
+            return loader.apply(key);
+        } finally {
+            REFRESHING.remove();
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.kh.pinpal2.base.config;
 
 
 import com.kh.pinpal2.base.filter.JwtAuthenticationChannelInterceptor;
+import com.kh.pinpal2.base.filter.ScoreboardFormatChannelInterceptor;
 import com.kh.pinpal2.base.handler.ScoreboardInterceptor;
 import com.kh.pinpal2.base.handler.WebSocketHandler;
 import com.kh.pinpal2.user.entity.Role;
@@ -25,11 +26,13 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final JwtAuthenticationChannelInterceptor jwtAuthenticationChannelInterceptor;
     private final ScoreboardInterceptor scoreboardInterceptor;
+    private final ScoreboardFormatChannelInterceptor scoreboardFormatChannelInterceptor;
 
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
         registration.interceptors(
                 jwtAuthenticationChannelInterceptor,
+                scoreboardFormatChannelInterceptor,
                 new SecurityContextChannelInterceptor(),
                 authorizationChannelInterceptor()
         );
@@ -39,7 +42,11 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     public void configureMessageBroker(MessageBrokerRegistry config) {
 
         config.setApplicationDestinationPrefixes("/pub");
-        config.enableSimpleBroker("/sub");
+        // /queue: 특정 세션에게만 보내는 메시지 (/user/queue/...)
+        config.enableSimpleBroker("/sub", "/queue");
+        config.setUserDestinationPrefix("/user");
+        // seq 순서대로 세션에 전달되도록 발행 순서 유지
+        config.setPreservePublishOrder(true);
 
     }
 
@@ -52,6 +59,9 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
                 .withSockJS()
                 .setHeartbeatTime(25000)
                 .setDisconnectDelay(7200000); // 2시간 후 연결 해제
+
+        // 같은 세션의 SUBSCRIBE(/user/queue/...)가 초기 데이터 요청보다 먼저 처리되도록 수신 순서 유지
+        registry.setPreserveReceiveOrder(true);
     }
 
     private AuthorizationChannelInterceptor authorizationChannelInterceptor() {
@@ -59,6 +69,7 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
                 MessageMatcherDelegatingAuthorizationManager.builder()
                         .simpDestMatchers("/pub/**").hasRole(Role.USER.name())
                         .simpSubscribeDestMatchers("/sub/**").hasRole(Role.USER.name())
+                        .simpSubscribeDestMatchers("/user/queue/**").hasRole(Role.USER.name())
                         .anyMessage().permitAll() // 연결 종료 시 메시지는 허용
                         .build()
         );
@@ -7,6 +7,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Controller;
 
@@ -50,9 +51,16 @@ public class WebsocketController {
         scoreboardService.scoreCounting(request);
     }
 
+    // 초기 데이터는 요청한 세션에게만 전송 (/user/queue/scoreboard/{gameId})
     @MessageMapping("/requestInitialData")
-    public void sendInitialData(@Payload InitialDataRequestDto request) {
-        scoreboardService.initialScoreboardData(request);
+    public void sendInitialData(@Payload InitialDataRequestDto request, SimpMessageHeaderAccessor headerAccessor) {
+        scoreboardService.initialScoreboardData(request, headerAccessor.getUser().getName(), headerAccessor.getSessionId());
+    }
+
+    // 재접속 시 마지막으로 받은 seq 이후 이벤트만 요청 (응답은 /user/queue/scoreboard/{gameId})
+    @MessageMapping("/resume")
+    public void resume(@Payload ScoreboardResumeRequestDto request, SimpMessageHeaderAccessor headerAccessor) {
+        scoreboardService.resume(request, headerAccessor.getUser().getName(), headerAccessor.getSessionId());
     }
 
     @MessageMapping("/startCardDraw")
@@ -60,9 +68,10 @@ public class WebsocketController {
         scoreboardService.startCardDraw(request);
     }
 
+    // 이미 선점된 카드면 요청한 세션에게만 거절 메시지 전송 (/user/queue/scoreboard/{gameId})
     @MessageMapping("/selectCard")
-    public void selectCard(@Payload CardSelectRequestDto request) {
-        scoreboardService.selectCard(request);
+    public void selectCard(@Payload CardSelectRequestDto request, SimpMessageHeaderAccessor headerAccessor) {
+        scoreboardService.selectCard(request, headerAccessor.getUser().getName(), headerAccessor.getSessionId());
     }
 
     @MessageMapping("/resetCardDraw")
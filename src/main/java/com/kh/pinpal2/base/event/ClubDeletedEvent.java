@@ -0,0 +1,6 @@
+package com.kh.pinpal2.base.event;
+
+public record ClubDeletedEvent(
+        Long clubId
+) {
+}
@@ -0,0 +1,7 @@
+package com.kh.pinpal2.base.event;
+
+public record ClubMemberJoinedEvent(
+        Long clubId,
+        Long userId
+) {
+}
@@ -0,0 +1,10 @@
+package com.kh.pinpal2.base.event;
+
+import com.kh.pinpal2.base.cluster.ClusterMember;
+
+import java.util.Collection;
+
+public record ClusterMembershipChangedEvent(
+        Collection<ClusterMember> members
+) {
+}
@@ -0,0 +1,12 @@
+package com.kh.pinpal2.base.event;
+
+/**
+ * 게임 종료
+ * @param firstFinish 처음 종료된 경우 true (이미 종료된 게임을 다시 종료하면 false)
+ */
+public record GameFinishedEvent(
+        Long gameId,
+        Long clubId,
+        boolean firstFinish
+) {
+}
@@ -6,6 +6,7 @@ public record ScoreUpdate(
         int score1,
         int score2,
         int score3,
-        int score4
+        int score4,
+        int changedMask
 ) {
 }
@@ -0,0 +1,68 @@
+package com.kh.pinpal2.base.event.listener;
+
+import com.kh.pinpal2.base.event.ClubChangedEvent;
+import com.kh.pinpal2.base.event.ClubDeletedEvent;
+import com.kh.pinpal2.base.event.ClubMemberJoinedEvent;
+import com.kh.pinpal2.base.event.GameFinishedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 도메인 이벤트 → CacheConfig 캐시의 정확한 키 무효화 (커밋 후)
+ * - 목록 영역(clubPages)과 단건 영역(clubs)을 나눠, 회원 가입 같은 잦은 변경이 클럽 캐시 전체를 비우지 않도록 함
+ * - clubPages는 페이지 번호가 키라 어느 페이지에 있는지 알 수 없으므로 목록이 바뀔 때만 영역 단위로 비움
+ */
+@Component
+@RequiredArgsConstructor
+public class CacheEventListener {
+
+    private final CacheManager cacheManager;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void update(ClubChangedEvent event) {
+        evict("clubs", event.clubId());
+        clear("clubPages");
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void update(ClubDeletedEvent event) {
+        evict("clubs", event.clubId());
+        clear("clubPages");
+        evict("users", event.clubId());
+        evict("games", event.clubId());
+        evict("scoreboards", event.clubId());
+        evict("recentCeremonies", event.clubId());
+    }
+
+    // 클럽 응답에는 회원 수가 없으므로 회원 목록만 무효화
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void update(ClubMemberJoinedEvent event) {
+        evict("users", event.clubId());
+    }
+
+    // 종료된 게임이 스코어보드 / 시상 / 게임 목록(상태)에 바로 보이도록 무효화
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void update(GameFinishedEvent event) {
+        evict("games", event.clubId());
+        evict("scoreboards", event.clubId());
+        evict("recentCeremonies", event.clubId());
+    }
+
+    private void evict(String cacheName, Object key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.evict(key);
+        }
+    }
+
+    private void clear(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+}
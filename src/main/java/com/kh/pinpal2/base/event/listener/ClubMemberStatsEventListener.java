@@ -0,0 +1,33 @@
+package com.kh.pinpal2.base.event.listener;
+
+import com.kh.pinpal2.base.event.GameFinishedEvent;
+import com.kh.pinpal2.club_member_stats.service.ClubMemberStatsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 게임 종료가 커밋되면 참가자 통계에 반영
+ * - 통계 반영에 실패해도 게임 종료 자체는 유지
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ClubMemberStatsEventListener {
+
+    private final ClubMemberStatsService clubMemberStatsService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void update(GameFinishedEvent event) {
+        if (!event.firstFinish()) {
+            return;
+        }
+        try {
+            clubMemberStatsService.applyFinishedGame(event.gameId(), event.clubId());
+        } catch (Exception e) {
+            log.error("회원 통계 반영 실패: gameId={}, clubId={}", event.gameId(), event.clubId(), e);
+        }
+    }
+}
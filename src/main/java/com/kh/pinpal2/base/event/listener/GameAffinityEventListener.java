@@ -0,0 +1,47 @@
+package com.kh.pinpal2.base.event.listener;
+
+import com.kh.pinpal2.base.cluster.GameAffinityRing;
+import com.kh.pinpal2.base.event.ClusterMembershipChangedEvent;
+import com.kh.pinpal2.scoreboard.carddraw.CardDrawRegistry;
+import com.kh.pinpal2.scoreboard.live.LiveGameRegistry;
+import com.kh.pinpal2.scoreboard.live.LiveGameState;
+import com.kh.pinpal2.scoreboard.snapshot.ScoreboardSnapshotCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 노드 구성이 바뀌어 다른 노드가 주인이 된 게임은 메모리 상태를 DB에 반영하고 내려놓음
+ * - 새 주인은 이 노드가 보유 표시(GameOwnershipLease)를 놓은 뒤 첫 요청 때 DB에서 다시 적재
+ * - 여기서 반영에 실패한 게임은 ScoreboardWriteBehindFlusher가 다음 주기에 다시 시도
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GameAffinityEventListener {
+
+    private final GameAffinityRing gameAffinityRing;
+    private final LiveGameRegistry liveGameRegistry;
+    private final ScoreboardSnapshotCache snapshotCache;
+    private final CardDrawRegistry cardDrawRegistry;
+
+    @EventListener
+    public void handOff(ClusterMembershipChangedEvent event) {
+        for (LiveGameState state : liveGameRegistry.all()) {
+            Long gameId = state.getGameId();
+            if (gameAffinityRing.isLocal(gameId)) {
+                continue;
+            }
+            try {
+                liveGameRegistry.flushAndEvict(gameId);
+                snapshotCache.evict(gameId);
+                cardDrawRegistry.evict(gameId);
+                log.info("게임 주인 이동, 메모리 상태 반영 후 해제: gameId={}, owner={}",
+                        gameId, gameAffinityRing.ownerOf(gameId).id());
+            } catch (RuntimeException e) {
+                log.error("게임 넘기기 실패: gameId={}, error={}", gameId, e.getMessage());
+            }
+        }
+    }
+}
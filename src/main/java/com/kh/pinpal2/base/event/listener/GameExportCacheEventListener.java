@@ -0,0 +1,49 @@
+package com.kh.pinpal2.base.event.listener;
+
+import com.kh.pinpal2.base.event.*;
+import com.kh.pinpal2.export.service.GameExportCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 스코어보드가 바뀌는 이벤트가 오면 해당 게임의 엑셀 캐시를 바로 제거
+ * - 버전(updatedAt) 비교로도 걸러지지만, 디스크 공간을 빨리 돌려받기 위해 함께 처리
+ */
+@Component
+@RequiredArgsConstructor
+public class GameExportCacheEventListener {
+
+    private final GameExportCache gameExportCache;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void update(ScoreUpdate request) {
+        gameExportCache.evict(request.gameId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void update(ScoreboardTeamUpdate request) {
+        gameExportCache.evict(request.gameId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void update(ScoreboardGradeUpdate request) {
+        gameExportCache.evict(request.gameId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void update(ScoreboardAvgUpdate request) {
+        gameExportCache.evict(request.gameId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void update(GameParticipantJoinEvent event) {
+        gameExportCache.evict(event.gameId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void update(GameFinishedEvent event) {
+        gameExportCache.evict(event.gameId());
+    }
+}
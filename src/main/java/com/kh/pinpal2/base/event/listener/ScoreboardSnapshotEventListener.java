@@ -0,0 +1,72 @@
+package com.kh.pinpal2.base.event.listener;
+
+import com.kh.pinpal2.base.event.*;
+import com.kh.pinpal2.scoreboard.snapshot.ScoreboardSnapshotCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 스코어보드 이벤트를 초기 데이터 스냅샷에 반영
+ * - 웹소켓 전송(WebsocketRequiredEventListener)보다 먼저 실행되도록 순서를 앞에 둠
+ *   → 어떤 seq의 스냅샷이든 그 seq까지의 변경은 항상 포함
+ */
+@Component
+@RequiredArgsConstructor
+public class ScoreboardSnapshotEventListener {
+
+    private final ScoreboardSnapshotCache snapshotCache;
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void update(ScoreboardTeamUpdate request) {
+        snapshotCache.update(request.gameId(), snapshot -> snapshot.applyTeamNumbers(request.users()));
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void update(ScoreboardGradeUpdate request) {
+        snapshotCache.update(request.gameId(), snapshot -> snapshot.applyGrades(request.users()));
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void update(ScoreUpdate request) {
+        snapshotCache.update(request.gameId(), snapshot ->
+                snapshot.applyScores(request.userId(), request.score1(), request.score2(), request.score3(), request.score4()));
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void update(ScoreboardSideUpdate request) {
+        snapshotCache.update(request.gameId(), snapshot ->
+                snapshot.applySide(request.userId(), request.sideType(), request.joined()));
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void update(ScoreboardConfirmed request) {
+        snapshotCache.update(request.gameId(), snapshot -> snapshot.applyConfirmed(request.userId(), request.confirmed()));
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void update(ScoreboardCounting request) {
+        snapshotCache.update(request.gameId(), snapshot -> snapshot.applyScoreCounting(request.scoreCounting()));
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void update(ScoreboardAvgUpdate request) {
+        snapshotCache.update(request.gameId(), snapshot -> snapshot.applyAvg(request.userId(), request.memberAvg()));
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void update(GameParticipantJoinEvent event) {
+        snapshotCache.update(event.gameId(), snapshot -> snapshot.addParticipant(event.newParticipant()));
+    }
+}
@@ -1,6 +1,7 @@
 package com.kh.pinpal2.base.event.listener;
 
 import com.kh.pinpal2.base.event.*;
+import com.kh.pinpal2.scoreboard.broadcast.ScoreboardBroadcaster;
 import com.kh.pinpal2.scoreboard.dto.ScoreboardMemberRow;
 import com.kh.pinpal2.scoreboard.dto.TeamNumberUpdateRequestDto;
 import com.kh.pinpal2.scoreboard.dto.UserGradeUpdateDto;
@@ -8,7 +9,6 @@ import com.kh.pinpal2.scoreboard.dto.UserTeamUpdateDto;
 import com.kh.pinpal2.scoreboard.repository.ScoreboardRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
@@ -25,7 +25,7 @@ import com.kh.pinpal2.scoreboard.entity.Scoreboard;
 @RequiredArgsConstructor
 public class WebsocketRequiredEventListener {
 
-    private final SimpMessagingTemplate messagingTemplate;
+    private final ScoreboardBroadcaster scoreboardBroadcaster;
 
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void update(ScoreboardTeamUpdate request) {
@@ -46,12 +46,13 @@ public class WebsocketRequiredEventListener {
         sendBatchGradeUpdate(gameId, users);
     }
 
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    // 진행 중 게임의 점수 변경은 트랜잭션 없이 발행되므로 fallbackExecution으로 즉시 전송
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
     public void update(ScoreUpdate request) {
         Long gameId = request.gameId();
         Long userId = request.userId();
 
-        sendScoreUpdate(gameId, userId, request.score1(), request.score2(), request.score3(), request.score4());
+        sendScoreUpdate(gameId, userId, request.score1(), request.score2(), request.score3(), request.score4(), request.changedMask());
     }
 
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
@@ -96,7 +97,7 @@ public class WebsocketRequiredEventListener {
             joinNotification.put("newParticipant", newParticipant);
 
             String destination = "/sub/scoreboard/" + gameId;
-            messagingTemplate.convertAndSend(destination, joinNotification);
+            scoreboardBroadcaster.broadcast(gameId, joinNotification);
 
             log.info("새로운 회원 참여 알림 전송 완료: destination={}, userId={}",
                     destination, newParticipant.memberId());
@@ -114,8 +115,7 @@ public class WebsocketRequiredEventListener {
             updateData.put("gameId", gameId);
             updateData.put("scoreCounting", scoreCounting);
 
-            String destination = "/sub/scoreboard/" + gameId;
-            messagingTemplate.convertAndSend(destination, updateData);
+            scoreboardBroadcaster.broadcast(gameId, updateData);
         } catch (Exception e) {
 
         }
@@ -134,8 +134,7 @@ public class WebsocketRequiredEventListener {
             updateData.put("userId", userId);
             updateData.put("memberAvg", memberAvg);
 
-            String destination = "/sub/scoreboard/" + gameId;
-            messagingTemplate.convertAndSend(destination, updateData);
+            scoreboardBroadcaster.broadcast(gameId, updateData);
         } catch (Exception e) {
 
         }
@@ -149,8 +148,7 @@ public class WebsocketRequiredEventListener {
             updateData.put("userId", userId);
             updateData.put("confirmed", confirmed);
 
-            String destination = "/sub/scoreboard/" + gameId;
-            messagingTemplate.convertAndSend(destination, updateData);
+            scoreboardBroadcaster.broadcast(gameId, updateData);
         } catch (Exception e) {
 
         }
@@ -165,14 +163,13 @@ public class WebsocketRequiredEventListener {
             updateData.put("sideType", sideType);
             updateData.put(sideType, joined);
 
-            String destination = "/sub/scoreboard/" + gameId;
-            messagingTemplate.convertAndSend(destination, updateData);
+            scoreboardBroadcaster.broadcast(gameId, updateData);
         } catch (Exception e) {
             log.error("사이드 업데이트 전송 실패: gameId={}, userId={}, sideType={}", gameId, userId, sideType, e);
         }
     }
 
-    private void sendScoreUpdate(Long gameId, Long userId, int score1, int score2, int score3, int score4) {
+    private void sendScoreUpdate(Long gameId, Long userId, int score1, int score2, int score3, int score4, int changedMask) {
         try {
             Map<String, Object> updateData = new HashMap<>();
             updateData.put("type", "scoreUpdated");
@@ -182,9 +179,9 @@ public class WebsocketRequiredEventListener {
             updateData.put("score2", score2);
             updateData.put("score3", score3);
             updateData.put("score4", score4);
+            updateData.put("changedMask", changedMask);
 
-            String destination = "/sub/scoreboard/" + gameId;
-            messagingTemplate.convertAndSend(destination, updateData);
+            scoreboardBroadcaster.broadcast(gameId, updateData);
         } catch (Exception e) {
 
         }
@@ -214,7 +211,7 @@ public class WebsocketRequiredEventListener {
 
             // 특정 게임의 구독자들에게만 전송
             String destination = "/sub/scoreboard/" + gameId;
-            messagingTemplate.convertAndSend(destination, batchUpdateData);
+            scoreboardBroadcaster.broadcast(gameId, batchUpdateData);
             
             log.info("팀 번호 배치 업데이트 전송 완료: destination={}, 사용자 수={}", 
                     destination, teamUpdates.size());
@@ -249,7 +246,7 @@ public class WebsocketRequiredEventListener {
 
             // 특정 게임의 구독자들에게만 전송
             String destination = "/sub/scoreboard/" + gameId;
-            messagingTemplate.convertAndSend(destination, batchUpdateData);
+            scoreboardBroadcaster.broadcast(gameId, batchUpdateData);
 
             log.info("grade 배치 업데이트 전송 완료: destination={}, 사용자 수={}",
                     destination, teamUpdates.size());
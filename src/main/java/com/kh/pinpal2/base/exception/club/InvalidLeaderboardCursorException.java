@@ -0,0 +1,29 @@
+package com.kh.pinpal2.base.exception.club;
+
+import com.kh.pinpal2.base.exception.BaseException;
+import org.springframework.http.HttpStatus;
+
+import java.time.Instant;
+
+public class InvalidLeaderboardCursorException extends BaseException {
+
+    @Override
+    public Instant getTimestamp() {
+        return Instant.now();
+    }
+
+    @Override
+    public HttpStatus getHttpStatus() {
+        return HttpStatus.BAD_REQUEST;
+    }
+
+    @Override
+    public String getMessage() {
+        return "잘못된 요청입니다.";
+    }
+
+    @Override
+    public String getDetails() {
+        return "잘못된 리더보드 커서입니다.";
+    }
+}
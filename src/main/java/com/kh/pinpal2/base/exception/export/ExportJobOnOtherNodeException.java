@@ -0,0 +1,39 @@
+package com.kh.pinpal2.base.exception.export;
+
+import com.kh.pinpal2.base.exception.BaseException;
+import org.springframework.http.HttpStatus;
+
+import java.time.Instant;
+
+/**
+ * 다른 노드가 만든 내보내기 작업을 이 노드에 조회한 경우
+ * - 작업 상태와 결과 파일은 만든 노드에만 있으므로 응답의 nodeUrl로 다시 요청해야 함
+ */
+public class ExportJobOnOtherNodeException extends BaseException {
+
+    private final String nodeUrl;
+
+    public ExportJobOnOtherNodeException(String nodeUrl) {
+        this.nodeUrl = nodeUrl;
+    }
+
+    @Override
+    public Instant getTimestamp() {
+        return Instant.now();
+    }
+
+    @Override
+    public HttpStatus getHttpStatus() {
+        return HttpStatus.CONFLICT;
+    }
+
+    @Override
+    public String getMessage() {
+        return "다른 서버에서 진행 중인 작업입니다.";
+    }
+
+    @Override
+    public String getDetails() {
+        return "이 작업은 " + nodeUrl + " 에서 조회해야 합니다.";
+    }
+}
@@ -0,0 +1,29 @@
+package com.kh.pinpal2.base.exception.export;
+
+import com.kh.pinpal2.base.exception.BaseException;
+import org.springframework.http.HttpStatus;
+
+import java.time.Instant;
+
+public class ExportJobRejectedException extends BaseException {
+
+    @Override
+    public Instant getTimestamp() {
+        return Instant.now();
+    }
+
+    @Override
+    public HttpStatus getHttpStatus() {
+        return HttpStatus.SERVICE_UNAVAILABLE;
+    }
+
+    @Override
+    public String getMessage() {
+        return "요청을 처리할 수 없습니다.";
+    }
+
+    @Override
+    public String getDetails() {
+        return "진행 중인 내보내기 작업이 많습니다. 잠시 후 다시 시도해주세요.";
+    }
+}
@@ -0,0 +1,29 @@
+package com.kh.pinpal2.base.exception.export;
+
+import com.kh.pinpal2.base.exception.BaseException;
+import org.springframework.http.HttpStatus;
+
+import java.time.Instant;
+
+public class ExportNotReadyException extends BaseException {
+
+    @Override
+    public Instant getTimestamp() {
+        return Instant.now();
+    }
+
+    @Override
+    public HttpStatus getHttpStatus() {
+        return HttpStatus.CONFLICT;
+    }
+
+    @Override
+    public String getMessage() {
+        return "요청을 처리할 수 없습니다.";
+    }
+
+    @Override
+    public String getDetails() {
+        return "내보내기 파일이 아직 준비되지 않았습니다.";
+    }
+}
@@ -0,0 +1,76 @@
+package com.kh.pinpal2.base.filter;
+
+import com.kh.pinpal2.scoreboard.broadcast.CompactSubscriptionRegistry;
+import com.kh.pinpal2.scoreboard.broadcast.ScoreboardBroadcaster;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * STOMP CONNECT 시 스코어보드 전송 포맷 협상
+ * - CONNECT 헤더 "scoreboard-format: compact" 를 보낸 세션은
+ *   /sub/scoreboard/{gameId} 구독이 /sub/scoreboard/{gameId}/compact 로 바뀜
+ * - 헤더가 없으면 기존 JSON 그대로
+ */
+@Component
+@RequiredArgsConstructor
+public class ScoreboardFormatChannelInterceptor implements ChannelInterceptor {
+
+    public static final String FORMAT_HEADER = "scoreboard-format";
+    public static final String COMPACT = "compact";
+
+    private static final String FORMAT_ATTRIBUTE = "scoreboardFormat";
+
+    private final CompactSubscriptionRegistry compactSubscriptionRegistry;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() == null) {
+            return message;
+        }
+
+        Map<String, Object> sessionAttributes = accessor.getSessionAttributes();
+
+        switch (accessor.getCommand()) {
+            case CONNECT -> {
+                if (COMPACT.equalsIgnoreCase(accessor.getFirstNativeHeader(FORMAT_HEADER)) && sessionAttributes != null) {
+                    sessionAttributes.put(FORMAT_ATTRIBUTE, COMPACT);
+                }
+            }
+            case SUBSCRIBE -> {
+                Long gameId = scoreboardGameId(accessor.getDestination());
+                if (gameId != null && sessionAttributes != null && COMPACT.equals(sessionAttributes.get(FORMAT_ATTRIBUTE))) {
+                    accessor.setDestination(ScoreboardBroadcaster.DESTINATION_PREFIX + gameId + ScoreboardBroadcaster.COMPACT_SUFFIX);
+                    compactSubscriptionRegistry.subscribe(accessor.getSessionId(), accessor.getSubscriptionId(), gameId);
+                }
+            }
+            case UNSUBSCRIBE -> compactSubscriptionRegistry.unsubscribe(accessor.getSessionId(), accessor.getSubscriptionId());
+            case DISCONNECT -> compactSubscriptionRegistry.disconnect(accessor.getSessionId());
+            default -> {
+            }
+        }
+
+        return message;
+    }
+
+    // /sub/scoreboard/{gameId} 형태일 때만 gameId 반환
+    private Long scoreboardGameId(String destination) {
+        if (destination == null || !destination.startsWith(ScoreboardBroadcaster.DESTINATION_PREFIX)) {
+            return null;
+        }
+        String rest = destination.substring(ScoreboardBroadcaster.DESTINATION_PREFIX.length());
+        try {
+            return Long.parseLong(rest);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
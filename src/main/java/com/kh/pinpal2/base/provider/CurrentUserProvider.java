@@ -0,0 +1,146 @@
+package com.kh.pinpal2.base.provider;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kh.pinpal2.base.cache.CacheInvalidation;
+import com.kh.pinpal2.base.cache.CacheInvalidationBus;
+import com.kh.pinpal2.base.exception.PermissionDeniedException;
+import com.kh.pinpal2.base.exception.user.UserNotFoundException;
+import com.kh.pinpal2.base.util.SecurityUtil;
+import com.kh.pinpal2.user.dto.AuthUser;
+import com.kh.pinpal2.user.repository.UserRepository;
+import com.kh.pinpal2.user_club.entity.ClubRole;
+import com.kh.pinpal2.user_club.repository.UserClubRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 현재 인증된 사용자 / 클럽 권한 조회
+ * - 이메일 → AuthUser(id, email, gender)를 짧은 TTL로 캐시 (요청마다 User 조회 생략)
+ * - (clubId, userId) → 클럽 권한을 캐시 (미가입도 empty로 캐시)
+ * - 가입 / 권한 변경 / 클럽 삭제 시 evict (트랜잭션 안이면 커밋 후 한 번 더)
+ * - 권한 evict는 CacheInvalidationBus로 다른 노드에도 전파 (커밋 후, 영역 이름 memberships)
+ */
+@Component
+public class CurrentUserProvider {
+
+    public static final String MEMBERSHIPS = "memberships";
+    // 클럽 전체 무효화 키: "clubId:*"
+    private static final String ALL_MEMBERS = "*";
+
+    private final UserRepository userRepository;
+    private final UserClubRepository userClubRepository;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final Cache<String, AuthUser> users;
+    private final Cache<MembershipKey, Optional<ClubRole>> memberships;
+
+    public CurrentUserProvider(UserRepository userRepository,
+                               UserClubRepository userClubRepository,
+                               CacheInvalidationBus cacheInvalidationBus,
+                               @Value("${pinpal.auth.user-ttl-ms:300000}") long userTtlMillis,
+                               @Value("${pinpal.auth.membership-ttl-ms:60000}") long membershipTtlMillis,
+                               @Value("${pinpal.auth.maximum-size:10000}") long maximumSize) {
+        this.userRepository = userRepository;
+        this.userClubRepository = userClubRepository;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.users = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(userTtlMillis, TimeUnit.MILLISECONDS)
+                .build();
+        this.memberships = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(membershipTtlMillis, TimeUnit.MILLISECONDS)
+                .build();
+
+        // 다른 노드에서 온 권한 무효화는 로컬 캐시에만 반영
+        cacheInvalidationBus.subscribe(this::apply);
+    }
+
+    public AuthUser getCurrentUser() {
+        String email = SecurityUtil.getCurrentEmail();
+        AuthUser user = users.get(email, key -> userRepository.findAuthUserByEmail(key).orElse(null));
+        if (user == null) {
+            throw new UserNotFoundException();
+        }
+        return user;
+    }
+
+    /**
+     * 현재 사용자의 클럽 권한 (가입하지 않았으면 empty)
+     */
+    public Optional<ClubRole> findRole(Long clubId) {
+        Long userId = getCurrentUser().id();
+        return memberships.get(new MembershipKey(clubId, userId),
+                key -> userClubRepository.findRoleByClubIdAndUserId(key.clubId(), key.userId()));
+    }
+
+    /**
+     * 클럽 회원이 아니면 PermissionDeniedException
+     */
+    public ClubRole requireMember(Long clubId) {
+        return findRole(clubId).orElseThrow(PermissionDeniedException::new);
+    }
+
+    /**
+     * 클럽 운영진(MASTER/STAFF)이 아니면 PermissionDeniedException
+     */
+    public void requireManager(Long clubId) {
+        if (requireMember(clubId) == ClubRole.MEMBER) {
+            throw new PermissionDeniedException();
+        }
+    }
+
+    public void evictMembership(Long clubId, Long userId) {
+        evict(CacheInvalidation.evict(MEMBERSHIPS, clubId + ":" + userId));
+    }
+
+    public void evictClub(Long clubId) {
+        evict(CacheInvalidation.evict(MEMBERSHIPS, clubId + ":" + ALL_MEMBERS));
+    }
+
+    /**
+     * 로컬에서 바로 제거하고, 트랜잭션 안이면 커밋 후에 한 번 더 제거한 뒤 다른 노드에 전파
+     * (커밋 전 데이터로 다시 적재되는 것 방지, BroadcastingCache와 같은 순서)
+     */
+    private void evict(CacheInvalidation invalidation) {
+        apply(invalidation);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(invalidation);
+                    cacheInvalidationBus.publish(invalidation);
+                }
+            });
+        } else {
+            cacheInvalidationBus.publish(invalidation);
+        }
+    }
+
+    private void apply(CacheInvalidation invalidation) {
+        if (invalidation.cacheName() == null || (MEMBERSHIPS.equals(invalidation.cacheName()) && invalidation.key() == null)) {
+            memberships.invalidateAll();
+            return;
+        }
+        if (!MEMBERSHIPS.equals(invalidation.cacheName())) {
+            return;
+        }
+
+        String[] parts = ((String) invalidation.decodeKey()).split(":");
+        Long clubId = Long.valueOf(parts[0]);
+        if (ALL_MEMBERS.equals(parts[1])) {
+            memberships.asMap().keySet().removeIf(key -> key.clubId().equals(clubId));
+        } else {
+            memberships.invalidate(new MembershipKey(clubId, Long.valueOf(parts[1])));
+        }
+    }
+
+    private record MembershipKey(Long clubId, Long userId) {
+    }
+}
@@ -8,8 +8,12 @@ package com.kh.pinpal2.base.provider;
 // - 페이로드 : 클라이언트 혹은 서버가 전달하려는 정보가 포함되어 있음
 // - 서명 : 헤더와 페이로드를 합쳐서 인코딩하고 비밀키로 암호화한 데이터
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -22,15 +26,47 @@ import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Date;
 
+/**
+ * JWT 생성/검증
+ * - 서명 키와 파서는 시작할 때 한 번만 만들어 재사용 (파서는 스레드 안전)
+ * - 검증에 성공한 토큰은 (subject, 만료 시각)을 만료 시각까지 캐시 → 같은 토큰의 반복 요청은 HMAC 검증 생략
+ */
 @Component
 public class JwtProvider {
 
-    // 1 방법
-    @Value("${jwt.secret}")
-    private String secretKey;
-
-    // 2 시스템의 환경변수로 등록하여 사용
-    // - OS 자체의 시스템 환경변수에 비밀키를 등록
+    private static final String EXPIRED = "JWT Expired";
+
+    // 비밀키는 설정(jwt.secret, 운영에서는 환경변수 JWT_SECRET)으로 주입
+    private final Key key;
+    private final JwtParser parser;
+    private final Cache<String, VerifiedToken> verifiedTokens;
+
+    public JwtProvider(@Value("${jwt.secret}") String secretKey,
+                       @Value("${pinpal.jwt.verified-cache-size:10000}") long verifiedCacheSize) {
+        this.key = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheSize)
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String token, VerifiedToken verified, long currentTime) {
+                        return Math.max(0, ChronoUnit.NANOS.between(Instant.now(), verified.expiresAt()));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String token, VerifiedToken verified, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String token, VerifiedToken verified, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
 
     public String create(String id) {
         // 1. JWT의 만료일자 및 시간 지정
@@ -40,8 +76,6 @@ public class JwtProvider {
 
         try {
 
-            Key key = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
-
             jwt = Jwts.builder()
                     .signWith(key, SignatureAlgorithm.HS256)
                     .setSubject(id)
@@ -59,39 +93,50 @@ public class JwtProvider {
 
     public String validate(String jwt) {
 
-        String userId = null;
-
-        try {
-            // JWT 토큰이 null이거나 빈 문자열인 경우
-            if (jwt == null || jwt.trim().isEmpty()) {
-                return null;
-            }
-
-            // JWT 토큰 형식 검증 (최소 2개의 점이 있어야 함)
-            if (!jwt.contains(".") || jwt.split("\\.").length != 3) {
-                return null;
-            }
+        // JWT 토큰이 null이거나 빈 문자열인 경우
+        if (jwt == null || jwt.trim().isEmpty()) {
+            return null;
+        }
 
-            // jwt 검증 결과로 반환되는 payload가 저장될 변수
-            Claims claims = null;
+        // JWT 토큰 형식 검증 (점이 정확히 2개여야 함)
+        if (!hasThreeParts(jwt)) {
+            return null;
+        }
 
-            // 비밀키 생성
-            Key key = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        // 최근에 검증한 토큰이면 서명 검증 생략 (만료 시각이 지나면 캐시에서도 빠짐)
+        VerifiedToken verified = verifiedTokens.getIfPresent(jwt);
+        if (verified != null) {
+            return verified.expiresAt().isAfter(Instant.now()) ? verified.subject() : EXPIRED;
+        }
 
+        try {
             // jwt 검증 및 payload의 subject 값 추출
-            userId = Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(jwt)
-                    .getBody()
-                    .getSubject();
+            Claims claims = parser.parseClaimsJws(jwt).getBody();
+            String userId = claims.getSubject();
+
+            if (userId != null && claims.getExpiration() != null) {
+                verifiedTokens.put(jwt, new VerifiedToken(userId, claims.getExpiration().toInstant()));
+            }
+            return userId;
         } catch (ExpiredJwtException e) {
             // 토큰이 만료된 경우
-            return "JWT Expired"; // 원하는 리턴 값
+            return EXPIRED; // 원하는 리턴 값
         } catch (Exception exception) {
             // JWT 파싱 실패 시 null 반환
             return null;
         }
-        return userId;
+    }
+
+    private boolean hasThreeParts(String jwt) {
+        int dots = 0;
+        for (int i = 0; i < jwt.length(); i++) {
+            if (jwt.charAt(i) == '.' && ++dots > 2) {
+                return false;
+            }
+        }
+        return dots == 2;
+    }
+
+    private record VerifiedToken(String subject, Instant expiresAt) {
     }
 }
@@ -0,0 +1,143 @@
+package com.kh.pinpal2.base.service;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 클럽 기록의 컬럼 기반 바이너리 형식 기록기 (모든 정수는 big-endian)
+ * <pre>
+ * 헤더     : "PPCOL" + 버전(1byte) + 컬럼 수(int32) + [타입(1byte) + 이름(uint16 길이 + UTF-8)]...
+ * 행 그룹  : 행 수(int32) + 컬럼별 값 묶음
+ *            - INT32 / INT64 : 행 수만큼 값
+ *            - STRING        : 사전 크기(int32) + [길이(int32) + UTF-8]... + 행 수만큼 사전 인덱스(int32)
+ * 끝       : 행 수 0 (int32)
+ * </pre>
+ * - 한 번에 행 그룹 하나(ROW_GROUP_SIZE 행)만 메모리에 둠
+ * - 날짜(game_date)는 1970-01-01 기준 일수(INT32)
+ */
+final class ColumnarScoreboardWriter {
+
+    static final String CONTENT_TYPE = "application/vnd.pinpal.columnar";
+
+    private static final byte[] MAGIC = "PPCOL".getBytes(StandardCharsets.US_ASCII);
+    private static final byte VERSION = 1;
+    private static final byte INT32 = 1;
+    private static final byte INT64 = 2;
+    private static final byte STRING = 3;
+    private static final int ROW_GROUP_SIZE = 4096;
+
+    private static final String[] NAMES = {"game_id", "game_date", "game_name", "user_id", "member_name",
+            "grade", "avg", "score1", "score2", "score3", "score4", "team_number"};
+    private static final byte[] TYPES = {INT64, INT32, STRING, INT64, STRING,
+            INT32, INT32, INT32, INT32, INT32, INT32, INT32};
+
+    private final DataOutputStream out;
+    private final long[] gameIds = new long[ROW_GROUP_SIZE];
+    private final int[] gameDates = new int[ROW_GROUP_SIZE];
+    private final String[] gameNames = new String[ROW_GROUP_SIZE];
+    private final long[] userIds = new long[ROW_GROUP_SIZE];
+    private final String[] memberNames = new String[ROW_GROUP_SIZE];
+    // grade, avg, score1~4, team_number
+    private final int[][] ints = new int[7][ROW_GROUP_SIZE];
+    private int size;
+
+    ColumnarScoreboardWriter(OutputStream out) throws IOException {
+        this.out = new DataOutputStream(out);
+        writeHeader();
+    }
+
+    void add(ResultSet rs) throws SQLException, IOException {
+        gameIds[size] = rs.getLong("game_id");
+        Date gameDate = rs.getDate("game_date");
+        gameDates[size] = gameDate == null ? 0 : (int) gameDate.toLocalDate().toEpochDay();
+        gameNames[size] = rs.getString("game_name");
+        userIds[size] = rs.getLong("user_id");
+        memberNames[size] = rs.getString("member_name");
+        ints[0][size] = rs.getInt("grade");
+        ints[1][size] = rs.getInt("avg");
+        ints[2][size] = rs.getInt("score1");
+        ints[3][size] = rs.getInt("score2");
+        ints[4][size] = rs.getInt("score3");
+        ints[5][size] = rs.getInt("score4");
+        ints[6][size] = rs.getInt("team_number");
+
+        if (++size == ROW_GROUP_SIZE) {
+            writeRowGroup();
+        }
+    }
+
+    void finish() throws IOException {
+        if (size > 0) {
+            writeRowGroup();
+        }
+        out.writeInt(0);
+        out.flush();
+    }
+
+    private void writeHeader() throws IOException {
+        out.write(MAGIC);
+        out.writeByte(VERSION);
+        out.writeInt(NAMES.length);
+        for (int i = 0; i < NAMES.length; i++) {
+            out.writeByte(TYPES[i]);
+            out.writeUTF(NAMES[i]);
+        }
+    }
+
+    private void writeRowGroup() throws IOException {
+        out.writeInt(size);
+        writeLongs(gameIds);
+        writeInts(gameDates);
+        writeStrings(gameNames);
+        writeLongs(userIds);
+        writeStrings(memberNames);
+        for (int[] column : ints) {
+            writeInts(column);
+        }
+        size = 0;
+    }
+
+    private void writeInts(int[] column) throws IOException {
+        for (int i = 0; i < size; i++) {
+            out.writeInt(column[i]);
+        }
+    }
+
+    private void writeLongs(long[] column) throws IOException {
+        for (int i = 0; i < size; i++) {
+            out.writeLong(column[i]);
+        }
+    }
+
+    // 게임명/회원명은 반복이 많아 행 그룹 단위 사전으로 기록
+    private void writeStrings(String[] column) throws IOException {
+        Map<String, Integer> dictionary = new HashMap<>();
+        int[] indexes = new int[size];
+        for (int i = 0; i < size; i++) {
+            String value = column[i] == null ? "" : column[i];
+            Integer index = dictionary.putIfAbsent(value, dictionary.size());
+            indexes[i] = index == null ? dictionary.size() - 1 : index;
+            column[i] = null;
+        }
+
+        String[] entries = new String[dictionary.size()];
+        dictionary.forEach((value, index) -> entries[index] = value);
+
+        out.writeInt(entries.length);
+        for (String entry : entries) {
+            byte[] bytes = entry.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+        for (int index : indexes) {
+            out.writeInt(index);
+        }
+    }
+}
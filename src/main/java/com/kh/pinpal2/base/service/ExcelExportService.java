@@ -1,65 +1,158 @@
 package com.kh.pinpal2.base.service;
 
+import com.kh.pinpal2.game.entity.Game;
+import com.kh.pinpal2.game.repository.GameRepository;
 import com.kh.pinpal2.scoreboard.dto.ScoreboardMemberRow;
+import com.kh.pinpal2.scoreboard.live.LiveGameRegistry;
 import com.kh.pinpal2.scoreboard.repository.ScoreboardRepository;
-import lombok.RequiredArgsConstructor;
-import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.poi.ss.usermodel.*;
 import org.apache.poi.ss.util.CellRangeAddress;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
-import org.apache.poi.xssf.usermodel.XSSFColor;
+import org.apache.poi.ss.util.WorkbookUtil;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.util.List;
-import java.util.stream.Collectors;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.IntConsumer;
 
+/**
+ * 스코어보드 엑셀 내보내기
+ * - SXSSFWorkbook으로 최근 rowWindowSize 행만 메모리에 두고 나머지는 임시 파일로 내려보냄
+ * - 결과는 OutputStream(서블릿 응답 등)에 바로 기록
+ * - 시즌 내보내기는 종료된 게임을 한 게임씩 조회해 시트로 추가 (한 번에 한 게임 분량만 메모리에 둠)
+ */
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class ExcelExportService {
 
+    private static final String[] HEADERS = {"순위", "군", "이름", "에버", "1G", "2G", "3G", "4G", "총점", "평균", "에버편차", "HIGH", "LOW"};
+
     private final ScoreboardRepository scoreboardRepository;
+    private final GameRepository gameRepository;
+    private final LiveGameRegistry liveGameRegistry;
+    private final int rowWindowSize;
+
+    public ExcelExportService(ScoreboardRepository scoreboardRepository,
+                              GameRepository gameRepository,
+                              LiveGameRegistry liveGameRegistry,
+                              @Value("${pinpal.export.row-window-size:200}") int rowWindowSize) {
+        this.scoreboardRepository = scoreboardRepository;
+        this.gameRepository = gameRepository;
+        this.liveGameRegistry = liveGameRegistry;
+        this.rowWindowSize = rowWindowSize;
+    }
 
     public byte[] exportScoreboardToExcel(Long gameId) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writeScoreboard(gameId, out);
+        return out.toByteArray();
+    }
+
+    /**
+     * 게임 하나를 시트 하나로 기록
+     */
+    public void writeScoreboard(Long gameId, OutputStream out) {
+        // 진행 중인 게임이면 메모리에만 있는 점수를 먼저 반영
+        liveGameRegistry.flush(gameId);
+
         List<ScoreboardMemberRow> scoreboards = scoreboardRepository.findAllWithMemberMetaByGameId(gameId);
 
-        Workbook workbook = new XSSFWorkbook();
-        Sheet sheet = workbook.createSheet("Scoreboard");
-
-        // 스타일 생성
-        CellStyle titleStyle = createTitleStyle(workbook);
-        CellStyle headerStyle = createHeaderStyle(workbook);
-        CellStyle dataStyle = createDataStyle(workbook);
-        CellStyle numberStyle = createNumberStyle(workbook);
-        CellStyle decimalStyle = createDecimalStyle(workbook);
-        CellStyle centerStyle = createCenterStyle(workbook);
-        CellStyle grade1Style = createGradeStyle(workbook, IndexedColors.LIGHT_TURQUOISE1);
-        CellStyle grade2Style = createGradeStyle(workbook, IndexedColors.LIGHT_GREEN);
-        CellStyle grade3Style = createGradeStyle(workbook, IndexedColors.LIGHT_YELLOW);
-        CellStyle grade4Style = createGradeStyle(workbook, IndexedColors.LIGHT_ORANGE);
-        CellStyle grade5Style = createGradeStyle(workbook, IndexedColors.LIGHT_TURQUOISE);
-        CellStyle grade6Style = createGradeStyle(workbook, IndexedColors.LIGHT_CORNFLOWER_BLUE);
-        CellStyle highScoreStyle = createHighScoreStyle(workbook);
-        CellStyle highTotalStyle = createHighTotalStyle(workbook);
-        CellStyle positiveDeviationStyle = createPositiveDeviationStyle(workbook);
-        CellStyle negativeDeviationStyle = createNegativeDeviationStyle(workbook);
+        write(out, (workbook, styles) -> {
+            SXSSFSheet sheet = workbook.createSheet("Scoreboard");
+            writeGameSheet(sheet, styles, scoreboards.isEmpty() ? "" : scoreboards.get(0).gameName(), scoreboards);
+        });
+    }
+
+    /**
+     * 클럽의 종료된 게임 전체(기간 지정 가능)를 게임별 시트로 기록 (오래된 게임부터)
+     */
+    public void writeSeason(Long clubId, LocalDate startDate, LocalDate endDate, OutputStream out) {
+        List<Game> games = new ArrayList<>(gameRepository.findAllByClubIdAndFilter(clubId, startDate, endDate, null));
+        Collections.reverse(games);
+        writeSeason(games, out, Runnable::run, 1, written -> {});
+
+        log.info("시즌 엑셀 내보내기 완료: clubId={}, 게임 수={}", clubId, games.size());
+    }
+
+    /**
+     * 주어진 게임들을 순서대로 게임별 시트로 기록
+     * - 게임별 점수 조회는 loadExecutor에서 최대 parallelism 개까지 미리 진행
+     * - 시트 기록은 호출 스레드에서 순서대로 (워크북은 스레드 안전하지 않음)
+     *
+     * @param onSheetWritten 시트 하나를 기록할 때마다 지금까지 기록한 시트 수로 호출
+     */
+    public void writeSeason(List<Game> games, OutputStream out, Executor loadExecutor, int parallelism,
+                            IntConsumer onSheetWritten) {
+        write(out, (workbook, styles) -> {
+            Set<String> sheetNames = new HashSet<>();
+            Deque<CompletableFuture<List<ScoreboardMemberRow>>> loading = new ArrayDeque<>();
+            int next = 0;
+
+            for (int i = 0; i < games.size(); i++) {
+                // 미리 조회하는 게임 수를 parallelism 으로 제한 (메모리 상한)
+                while (next < games.size() && loading.size() < Math.max(parallelism, 1)) {
+                    Long gameId = games.get(next++).getId();
+                    loading.add(CompletableFuture.supplyAsync(
+                            () -> scoreboardRepository.findAllWithMemberMetaByGameId(gameId), loadExecutor));
+                }
+
+                Game game = games.get(i);
+                List<ScoreboardMemberRow> scoreboards = loading.poll().join();
+
+                SXSSFSheet sheet = workbook.createSheet(uniqueSheetName(sheetNames, game.getDate() + " " + game.getName()));
+                writeGameSheet(sheet, styles, game.getName(), scoreboards);
+                onSheetWritten.accept(i + 1);
+            }
+
+            if (games.isEmpty()) {
+                workbook.createSheet("Scoreboard");
+            }
+        });
+    }
+
+    private void write(OutputStream out, SheetWriter sheetWriter) {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(rowWindowSize);
+        try {
+            sheetWriter.write(workbook, new Styles(workbook));
+            workbook.write(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            // 임시 파일 삭제
+            workbook.dispose();
+            try {
+                workbook.close();
+            } catch (IOException e) {
+                log.warn("엑셀 워크북 닫기 실패: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void writeGameSheet(SXSSFSheet sheet, Styles styles, String gameName, List<ScoreboardMemberRow> scoreboards) {
+        sheet.trackAllColumnsForAutoSizing();
 
         // 게임 이름을 대문처럼 표시 (1행)
         Row titleRow = sheet.createRow(0);
         Cell titleCell = titleRow.createCell(0);
-        titleCell.setCellValue(scoreboards.get(0).gameName());
-        titleCell.setCellStyle(titleStyle);
+        titleCell.setCellValue(gameName);
+        titleCell.setCellStyle(styles.title);
         sheet.addMergedRegion(new CellRangeAddress(0, 0, 0, 12)); // 1행을 13열로 병합
 
-        String[] headers = {"순위", "군", "이름", "에버", "1G", "2G", "3G", "4G", "총점", "평균", "에버편차", "HIGH", "LOW"};
-        
         // 헤더 행 생성 및 스타일 적용 (2행)
         Row headerRow = sheet.createRow(1);
-        for (int i = 0; i < headers.length; i++) {
+        for (int i = 0; i < HEADERS.length; i++) {
             Cell cell = headerRow.createCell(i);
-            cell.setCellValue(headers[i]);
-            cell.setCellStyle(headerStyle);
+            cell.setCellValue(HEADERS[i]);
+            cell.setCellStyle(styles.header);
         }
 
         // 총점 기준으로 정렬
@@ -77,12 +170,12 @@ public class ExcelExportService {
             Row row = sheet.createRow(rowNum++);
             
             // 군별 스타일 선택
-            CellStyle gradeStyle = getGradeStyle(scoreboardMemberRow.grade(), grade1Style, grade2Style, grade3Style, grade4Style, grade5Style, grade6Style);
+            CellStyle gradeStyle = styles.grade(scoreboardMemberRow.grade());
             
             // 순위 (가운데 정렬)
             Cell rankCell = row.createCell(0);
             rankCell.setCellValue(rowNum - 2);
-            rankCell.setCellStyle(centerStyle);
+            rankCell.setCellStyle(styles.center);
             
             // 군 (군별 색상 적용)
             Cell gradeCell = row.createCell(1);
@@ -97,100 +190,140 @@ public class ExcelExportService {
             // 에버 (숫자 스타일, 가운데 정렬)
             Cell avgCell = row.createCell(3);
             avgCell.setCellValue(scoreboardMemberRow.memberAvg());
-            avgCell.setCellStyle(numberStyle);
+            avgCell.setCellStyle(styles.number);
             
             // 게임 점수들 (200점 이상이면 빨간색)
             Cell game1Cell = row.createCell(4);
             game1Cell.setCellValue(scoreboardMemberRow.game1());
-            game1Cell.setCellStyle(scoreboardMemberRow.game1() >= 200 ? highScoreStyle : numberStyle);
+            game1Cell.setCellStyle(scoreboardMemberRow.game1() >= 200 ? styles.highScore : styles.number);
             
             Cell game2Cell = row.createCell(5);
             game2Cell.setCellValue(scoreboardMemberRow.game2());
-            game2Cell.setCellStyle(scoreboardMemberRow.game2() >= 200 ? highScoreStyle : numberStyle);
+            game2Cell.setCellStyle(scoreboardMemberRow.game2() >= 200 ? styles.highScore : styles.number);
             
             Cell game3Cell = row.createCell(6);
             game3Cell.setCellValue(scoreboardMemberRow.game3());
-            game3Cell.setCellStyle(scoreboardMemberRow.game3() >= 200 ? highScoreStyle : numberStyle);
+            game3Cell.setCellStyle(scoreboardMemberRow.game3() >= 200 ? styles.highScore : styles.number);
             
             Cell game4Cell = row.createCell(7);
             game4Cell.setCellValue(scoreboardMemberRow.game4());
-            game4Cell.setCellStyle(scoreboardMemberRow.game4() >= 200 ? highScoreStyle : numberStyle);
+            game4Cell.setCellStyle(scoreboardMemberRow.game4() >= 200 ? styles.highScore : styles.number);
             
             // 총점 (800점 이상이면 빨간색)
             int totalScore = scoreboardMemberRow.game1() + scoreboardMemberRow.game2() + scoreboardMemberRow.game3() + scoreboardMemberRow.game4();
             Cell totalCell = row.createCell(8);
             totalCell.setCellValue(totalScore);
-            totalCell.setCellStyle(totalScore >= 800 ? highTotalStyle : numberStyle);
+            totalCell.setCellStyle(totalScore >= 800 ? styles.highTotal : styles.number);
             
             // 평균 (200점 이상이면 빨간색, 소수점 표시)
             double avgScore = (double) totalScore / 4;
             Cell avgScoreCell = row.createCell(9);
             avgScoreCell.setCellValue(avgScore);
-            if (avgScore >= 200) {
-                // 고득점 스타일을 소수점 형식으로 복사
-                CellStyle highScoreDecimalStyle = workbook.createCellStyle();
-                highScoreDecimalStyle.cloneStyleFrom(highScoreStyle);
-                highScoreDecimalStyle.setDataFormat(workbook.createDataFormat().getFormat("#,##0.0"));
-                avgScoreCell.setCellStyle(highScoreDecimalStyle);
-            } else {
-                avgScoreCell.setCellStyle(decimalStyle);
-            }
+            avgScoreCell.setCellStyle(avgScore >= 200 ? styles.highScoreDecimal : styles.decimal);
             
             // 에버편차 (10점 이상이면 빨간색, 음수면 파란색, 소수점 표시)
             double deviation = avgScore - scoreboardMemberRow.memberAvg();
             Cell deviationCell = row.createCell(10);
             deviationCell.setCellValue(deviation);
             if (deviation >= 10) {
-                // 양수 편차 스타일을 소수점 형식으로 복사
-                CellStyle positiveDeviationDecimalStyle = workbook.createCellStyle();
-                positiveDeviationDecimalStyle.cloneStyleFrom(positiveDeviationStyle);
-                positiveDeviationDecimalStyle.setDataFormat(workbook.createDataFormat().getFormat("#,##0.0"));
-                deviationCell.setCellStyle(positiveDeviationDecimalStyle);
+                deviationCell.setCellStyle(styles.positiveDeviation);
             } else if (deviation < 0) {
-                // 음수 편차 스타일을 소수점 형식으로 복사
-                CellStyle negativeDeviationDecimalStyle = workbook.createCellStyle();
-                negativeDeviationDecimalStyle.cloneStyleFrom(negativeDeviationStyle);
-                negativeDeviationDecimalStyle.setDataFormat(workbook.createDataFormat().getFormat("#,##0.0"));
-                deviationCell.setCellStyle(negativeDeviationDecimalStyle);
+                deviationCell.setCellStyle(styles.negativeDeviation);
             } else {
-                deviationCell.setCellStyle(decimalStyle);
+                deviationCell.setCellStyle(styles.decimal);
             }
             
             // HIGH (숫자 스타일, 가운데 정렬)
-            int highScore = List.of(scoreboardMemberRow.game1(), scoreboardMemberRow.game2(), scoreboardMemberRow.game3(), scoreboardMemberRow.game4()).stream().max(Integer::compare).get();
+            int highScore = Math.max(Math.max(scoreboardMemberRow.game1(), scoreboardMemberRow.game2()), Math.max(scoreboardMemberRow.game3(), scoreboardMemberRow.game4()));
             Cell highCell = row.createCell(11);
             highCell.setCellValue(highScore);
-            highCell.setCellStyle(highScore >= 200 ? highScoreStyle : numberStyle);
+            highCell.setCellStyle(highScore >= 200 ? styles.highScore : styles.number);
             
             // LOW (숫자 스타일, 가운데 정렬)
-            int lowScore = List.of(scoreboardMemberRow.game1(), scoreboardMemberRow.game2(), scoreboardMemberRow.game3(), scoreboardMemberRow.game4()).stream().min(Integer::compare).get();
+            int lowScore = Math.min(Math.min(scoreboardMemberRow.game1(), scoreboardMemberRow.game2()), Math.min(scoreboardMemberRow.game3(), scoreboardMemberRow.game4()));
             Cell lowCell = row.createCell(12);
             lowCell.setCellValue(lowScore);
-            lowCell.setCellStyle(numberStyle);
+            lowCell.setCellStyle(styles.number);
         }
 
         // 열 너비 자동 조정
-        for (int i = 0; i < headers.length; i++) {
+        for (int i = 0; i < HEADERS.length; i++) {
             sheet.autoSizeColumn(i);
             // 최소 너비 설정
             if (sheet.getColumnWidth(i) < 2000) {
                 sheet.setColumnWidth(i, 2000);
             }
         }
+        sheet.untrackAllColumnsForAutoSizing();
 
         // 정렬 기능 추가 (각 열에 필터 추가)
         sheet.setAutoFilter(new CellRangeAddress(1, 1, 0, 12));
+    }
 
-        ByteArrayOutputStream out = new ByteArrayOutputStream();
+    // 엑셀 시트 이름 규칙(31자, 금지 문자, 중복 불가)에 맞춤
+    private String uniqueSheetName(Set<String> used, String name) {
+        String base = WorkbookUtil.createSafeSheetName(name);
+        String candidate = base;
+        for (int i = 2; !used.add(candidate.toLowerCase()); i++) {
+            String suffix = " (" + i + ")";
+            candidate = base.substring(0, Math.min(base.length(), 31 - suffix.length())) + suffix;
+        }
+        return candidate;
+    }
 
-        try {
-            workbook.write(out);
-            workbook.close();
-        } catch (IOException e) {
-            throw new RuntimeException(e);
+    @FunctionalInterface
+    private interface SheetWriter {
+        void write(SXSSFWorkbook workbook, Styles styles);
+    }
+
+    /**
+     * 워크북당 한 번만 만드는 셀 스타일 (행마다 스타일을 새로 만들지 않음)
+     */
+    private class Styles {
+        private final CellStyle title;
+        private final CellStyle header;
+        private final CellStyle number;
+        private final CellStyle decimal;
+        private final CellStyle center;
+        private final CellStyle[] grades;
+        private final CellStyle highScore;
+        private final CellStyle highScoreDecimal;
+        private final CellStyle highTotal;
+        private final CellStyle positiveDeviation;
+        private final CellStyle negativeDeviation;
+
+        private Styles(Workbook workbook) {
+            this.title = createTitleStyle(workbook);
+            this.header = createHeaderStyle(workbook);
+            this.number = createNumberStyle(workbook);
+            this.decimal = createDecimalStyle(workbook);
+            this.center = createCenterStyle(workbook);
+            this.grades = new CellStyle[]{
+                    createGradeStyle(workbook, IndexedColors.LIGHT_TURQUOISE1),
+                    createGradeStyle(workbook, IndexedColors.LIGHT_GREEN),
+                    createGradeStyle(workbook, IndexedColors.LIGHT_YELLOW),
+                    createGradeStyle(workbook, IndexedColors.LIGHT_ORANGE),
+                    createGradeStyle(workbook, IndexedColors.LIGHT_TURQUOISE),
+                    createGradeStyle(workbook, IndexedColors.LIGHT_CORNFLOWER_BLUE)
+            };
+            this.highScore = createHighScoreStyle(workbook);
+            this.highTotal = createHighTotalStyle(workbook);
+            this.positiveDeviation = createPositiveDeviationStyle(workbook);
+            this.negativeDeviation = createNegativeDeviationStyle(workbook);
+
+            // 고득점 스타일을 소수점 형식으로 복사
+            this.highScoreDecimal = workbook.createCellStyle();
+            highScoreDecimal.cloneStyleFrom(highScore);
+            highScoreDecimal.setDataFormat(workbook.createDataFormat().getFormat("#,##0.0"));
         }
 
-        return out.toByteArray();
+        // 군별 스타일 선택 (1~6군 외에는 1군 색상)
+        private CellStyle grade(Integer grade) {
+            if (grade == null || grade < 1 || grade > grades.length) {
+                return grades[0];
+            }
+            return grades[grade - 1];
+        }
     }
 
     // 헤더 스타일 생성
@@ -422,19 +555,4 @@ public class ExcelExportService {
         style.setFont(font);
         return style;
     }
-
-    // 군별 스타일 선택 메서드
-    private CellStyle getGradeStyle(Integer grade, CellStyle grade1Style, CellStyle grade2Style, CellStyle grade3Style, CellStyle grade4Style, CellStyle grade5Style, CellStyle grade6Style) {
-        if (grade == null) return grade1Style;
-        
-        switch (grade) {
-            case 1: return grade1Style;
-            case 2: return grade2Style;
-            case 3: return grade3Style;
-            case 4: return grade4Style;
-            case 5: return grade5Style;
-            case 6: return grade6Style;
-            default: return grade1Style;
-        }
-    }
 }
@@ -0,0 +1,102 @@
+package com.kh.pinpal2.base.service;
+
+import com.kh.pinpal2.scoreboard.repository.ScoreboardRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+/**
+ * 분석용 클럽 기록 내보내기 (CSV / 컬럼 기반 바이너리)
+ * - JDBC 커서에서 읽은 행을 바로 OutputStream에 기록 (엔티티/DTO를 만들지 않아 메모리 일정)
+ * - 커서가 동작하도록 읽기 전용 트랜잭션 안에서 실행
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ScoreboardHistoryExportService {
+
+    public static final String CSV_CONTENT_TYPE = "text/csv; charset=UTF-8";
+    public static final String COLUMNAR_CONTENT_TYPE = ColumnarScoreboardWriter.CONTENT_TYPE;
+
+    private static final String CSV_HEADER = "game_id,game_date,game_name,user_id,member_name,grade,avg,score1,score2,score3,score4,team_number";
+
+    private static final String[] CSV_INT_COLUMNS = {"grade", "avg", "score1", "score2", "score3", "score4", "team_number"};
+
+    private final ScoreboardRepository scoreboardRepository;
+
+    @Transactional(readOnly = true)
+    public void writeCsv(Long clubId, LocalDate startDate, LocalDate endDate, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        // 엑셀에서 열었을 때 한글이 깨지지 않도록 BOM 추가
+        writer.write('\uFEFF');
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+
+        scoreboardRepository.streamClubHistory(clubId, startDate, endDate, rs -> {
+            try {
+                writer.write(rs.getString("game_id"));
+                writer.write(',');
+                writer.write(String.valueOf(rs.getDate("game_date")));
+                writer.write(',');
+                writeCsvText(writer, rs.getString("game_name"));
+                writer.write(',');
+                writer.write(rs.getString("user_id"));
+                writer.write(',');
+                writeCsvText(writer, rs.getString("member_name"));
+                for (String column : CSV_INT_COLUMNS) {
+                    writer.write(',');
+                    writer.write(Integer.toString(rs.getInt(column)));
+                }
+                writer.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        writer.flush();
+    }
+
+    @Transactional(readOnly = true)
+    public void writeColumnar(Long clubId, LocalDate startDate, LocalDate endDate, OutputStream out) throws IOException {
+        ColumnarScoreboardWriter writer = new ColumnarScoreboardWriter(new BufferedOutputStream(out, 64 * 1024));
+
+        scoreboardRepository.streamClubHistory(clubId, startDate, endDate, rs -> {
+            try {
+                writer.add(rs);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        writer.finish();
+    }
+
+    // 쉼표/따옴표/줄바꿈이 있으면 따옴표로 감싸고 따옴표는 두 번 씀
+    // =, +, -, @, 탭, CR로 시작하면 엑셀이 수식으로 실행하지 않도록 앞에 ' 를 붙임 (CSV 수식 주입 방지)
+    private void writeCsvText(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (isFormulaLike(value)) {
+            value = "'" + value;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private boolean isFormulaLike(String value) {
+        if (value.isEmpty()) {
+            return false;
+        }
+        char first = value.charAt(0);
+        return first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r';
+    }
+}
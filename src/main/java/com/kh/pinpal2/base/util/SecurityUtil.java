@@ -11,9 +11,12 @@ import org.springframework.stereotype.Component;
 public class SecurityUtil {
 
     public static User getCurrentUser(UserRepository userRepository) {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String userEmail = authentication.getName();
-        return userRepository.findByEmail(userEmail)
+        return userRepository.findByEmail(getCurrentEmail())
                 .orElseThrow(UserNotFoundException::new);
     }
+
+    public static String getCurrentEmail() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication.getName();
+    }
 }
@@ -0,0 +1,32 @@
+package com.kh.pinpal2.card_draw_slot.entity;
+
+import com.kh.pinpal2.base.entity.BaseEntity;
+import com.kh.pinpal2.game.entity.Game;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 카드뽑기 카드 한 장 (게임 + 군 + 카드 위치 → 팀 번호)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "card_draw_slot",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"game_id", "grade", "slot_index"}))
+public class CardDrawSlot extends BaseEntity {
+
+    @Column(nullable = false)
+    private int grade;
+
+    @Column(name = "slot_index", nullable = false)
+    private int slotIndex;
+
+    @Column(name = "team_number", nullable = false)
+    private int teamNumber;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "game_id", nullable = false)
+    private Game game;
+}
@@ -0,0 +1,11 @@
+package com.kh.pinpal2.card_draw_slot.repository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public interface CardDrawSlotCustomRepository {
+    Map<Integer, List<Integer>> findCardDrawDataByGameId(Long gameId);
+    void replaceCardDrawData(Long gameId, Map<Integer, List<Integer>> cardDrawData);
+    Optional<String> findLegacyCardDrawData(Long gameId);
+}
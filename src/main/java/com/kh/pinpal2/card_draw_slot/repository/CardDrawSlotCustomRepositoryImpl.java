@@ -0,0 +1,104 @@
+package com.kh.pinpal2.card_draw_slot.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class CardDrawSlotCustomRepositoryImpl implements CardDrawSlotCustomRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 이전 버전의 game.card_draw_data 컬럼이 삭제된 것을 확인했는지
+    private volatile boolean legacyColumnDropped;
+
+    /**
+     * 군 → 카드 배열(팀 번호) 형태로 조회, 카드뽑기 데이터가 없으면 빈 Map
+     */
+    @Override
+    public Map<Integer, List<Integer>> findCardDrawDataByGameId(Long gameId) {
+        Map<Integer, List<Integer>> cardDrawData = new LinkedHashMap<>();
+
+        jdbcTemplate.query(
+                "SELECT grade, team_number FROM card_draw_slot WHERE game_id = ? ORDER BY grade, slot_index",
+                rs -> {
+                    cardDrawData.computeIfAbsent(rs.getInt("grade"), grade -> new ArrayList<>())
+                            .add(rs.getInt("team_number"));
+                },
+                gameId);
+
+        return cardDrawData;
+    }
+
+    /**
+     * 게임의 카드 배열 전체 교체 (카드뽑기 시작 시 한 번)
+     */
+    @Override
+    public void replaceCardDrawData(Long gameId, Map<Integer, List<Integer>> cardDrawData) {
+        jdbcTemplate.update("DELETE FROM card_draw_slot WHERE game_id = ?", gameId);
+
+        Timestamp now = Timestamp.from(Instant.now());
+        List<Object[]> rows = new ArrayList<>();
+        cardDrawData.forEach((grade, cards) -> {
+            for (int slot = 0; slot < cards.size(); slot++) {
+                rows.add(new Object[]{gameId, grade, slot, cards.get(slot), now});
+            }
+        });
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO card_draw_slot (game_id, grade, slot_index, team_number, created_at) VALUES (?, ?, ?, ?, ?)",
+                rows);
+    }
+
+    /**
+     * 이전 버전에서 game.card_draw_data(TEXT)에 저장한 카드뽑기 데이터 조회 (컬럼은 그대로 둠)
+     * - 배포 중에는 이전 버전 노드가 아직 이 컬럼을 읽으므로 비우지 않고, 컬럼 삭제는 db/migration/002 에 맡김
+     * - 컬럼이 없는 DB에서는 항상 empty
+     */
+    @Override
+    public Optional<String> findLegacyCardDrawData(Long gameId) {
+        if (!hasLegacyColumn()) {
+            return Optional.empty();
+        }
+
+        List<String> values = jdbcTemplate.queryForList(
+                "SELECT card_draw_data FROM game WHERE id = ? AND card_draw_data IS NOT NULL", String.class, gameId);
+        if (values.isEmpty() || values.get(0).isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(values.get(0));
+    }
+
+    /**
+     * 컬럼 존재 여부를 조회 직전에 확인 (실행 중에 002가 컬럼을 지워도 없는 컬럼을 조회해 트랜잭션을 깨뜨리지 않도록)
+     * - 한 번 없어진 컬럼은 다시 생기지 않으므로 없음만 기억
+     */
+    private boolean hasLegacyColumn() {
+        if (legacyColumnDropped) {
+            return false;
+        }
+        boolean exists = Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM information_schema.columns " +
+                        "WHERE table_schema = current_schema() AND table_name = 'game' AND column_name = 'card_draw_data')",
+                Boolean.class));
+        if (!exists) {
+            legacyColumnDropped = true;
+            log.info("이전 카드뽑기 데이터 컬럼(game.card_draw_data) 없음");
+        }
+        return exists;
+    }
+}
@@ -0,0 +1,18 @@
+package com.kh.pinpal2.card_draw_slot.repository;
+
+import com.kh.pinpal2.card_draw_slot.entity.CardDrawSlot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface CardDrawSlotRepository extends JpaRepository<CardDrawSlot, Long>, CardDrawSlotCustomRepository {
+
+    @Modifying
+    @Query("DELETE FROM CardDrawSlot c WHERE c.game.id IN :gameIds")
+    void deleteByGameIds(@Param("gameIds") List<Long> gameIds);
+}
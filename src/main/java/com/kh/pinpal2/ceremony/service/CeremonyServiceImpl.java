@@ -31,7 +31,7 @@ public class CeremonyServiceImpl implements CeremonyService {
 
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(cacheNames = "recentCeremonies", key = "#clubId")
+    @Cacheable(cacheNames = "recentCeremonies", key = "#clubId", sync = true)
     public Map<Long, List<CeremonyRespDto>> getCeremoniesByClubId(Long clubId) {
         // 1. 클럽의 최근 5게임 조회 (ID 내림차순 정렬)
         List<Game> games = gameRepository.findRecentGamesByClubId(clubId, Limit.of(5));
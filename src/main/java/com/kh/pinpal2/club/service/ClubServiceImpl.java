@@ -1,12 +1,16 @@
 package com.kh.pinpal2.club.service;
 
 import com.kh.pinpal2.base.dto.PageResponse;
+import com.kh.pinpal2.base.event.ClubChangedEvent;
+import com.kh.pinpal2.base.event.ClubDeletedEvent;
+import com.kh.pinpal2.base.event.ClubMemberJoinedEvent;
 import com.kh.pinpal2.base.exception.PermissionDeniedException;
 import com.kh.pinpal2.base.exception.club.ClubNotFoundException;
 import com.kh.pinpal2.base.exception.club.UserAlreadyJoinedClubException;
 import com.kh.pinpal2.base.exception.user.UserNotFoundException;
 import com.kh.pinpal2.base.mapper.PageResponseMapper;
-import com.kh.pinpal2.base.util.SecurityUtil;
+import com.kh.pinpal2.base.provider.CurrentUserProvider;
+import com.kh.pinpal2.card_draw_slot.repository.CardDrawSlotRepository;
 import com.kh.pinpal2.ceremony.repository.CeremonyRepository;
 import com.kh.pinpal2.ceremony_user.repository.CeremonyUserRepository;
 import com.kh.pinpal2.club.dto.ClubCreateDto;
@@ -15,8 +19,10 @@ import com.kh.pinpal2.club.dto.ClubUpdateDto;
 import com.kh.pinpal2.club.entity.Club;
 import com.kh.pinpal2.club.mapper.ClubMapper;
 import com.kh.pinpal2.club.repository.ClubRepository;
+import com.kh.pinpal2.club_member_stats.repository.ClubMemberStatsRepository;
 import com.kh.pinpal2.game.repository.GameRepository;
 import com.kh.pinpal2.scoreboard.repository.ScoreboardRepository;
+import com.kh.pinpal2.user.dto.AuthUser;
 import com.kh.pinpal2.user.entity.User;
 import com.kh.pinpal2.user.repository.UserRepository;
 import com.kh.pinpal2.user_club.dto.UserClubAvgUpdateReqDto;
@@ -29,7 +35,7 @@ import com.kh.pinpal2.user_club.repository.UserClubRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -49,16 +55,19 @@ public class ClubServiceImpl implements ClubService {
     private final ScoreboardRepository  scoreboardRepository;
     private final CeremonyRepository ceremonyRepository;
     private final CeremonyUserRepository ceremonyUserRepository;
+    private final CardDrawSlotRepository cardDrawSlotRepository;
+    private final ClubMemberStatsRepository clubMemberStatsRepository;
     private final ClubMapper clubMapper;
     private final UserClubMapper userClubMapper;
     private final PageResponseMapper  pageResponseMapper;
+    private final CurrentUserProvider currentUserProvider;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
-    @CacheEvict(cacheNames = "clubs", allEntries = true)
     public ClubRespDto register(ClubCreateDto clubCreateDto) {
         // 현재 인증된 사용자 정보 가져오기
-        User user = SecurityUtil.getCurrentUser(userRepository);
+        User user = userRepository.getReferenceById(currentUserProvider.getCurrentUser().id());
 
         Club club = new Club(clubCreateDto, user);
         Club savedClub = clubRepository.save(club);
@@ -66,38 +75,35 @@ public class ClubServiceImpl implements ClubService {
         UserClub userClub = new UserClub(user, savedClub, ClubRole.MASTER);
         userClubRepository.save(userClub);
 
+        eventPublisher.publishEvent(new ClubChangedEvent(savedClub.getId()));
         return clubMapper.toDto(savedClub);
     }
 
     @Override
     @Transactional
-    @CacheEvict(cacheNames = "clubs", allEntries = true)
     public ClubRespDto updateClub(Long clubId, ClubUpdateDto clubUpdateDto) {
         Club club = clubRepository.findById(clubId).orElseThrow(
                 ClubNotFoundException::new
         );
 
-        User user = SecurityUtil.getCurrentUser(userRepository);
+        AuthUser currentUser = currentUserProvider.getCurrentUser();
 
-        if (!user.getId().equals(club.getOwner().getId())) {
+        if (!currentUser.id().equals(club.getOwner().getId())) {
             throw new PermissionDeniedException();
         }
 
         club.update(clubUpdateDto);
         Club savedClub = clubRepository.save(club);
 
+        eventPublisher.publishEvent(new ClubChangedEvent(clubId));
         return clubMapper.toDto(savedClub);
     }
 
     @Override
     @Transactional
-    @Caching(evict = {
-        @CacheEvict(cacheNames = "clubs", allEntries = true),      // 클럽 목록 캐시 무효화
-        @CacheEvict(cacheNames = "users", key = "#clubId")         // 해당 클럽 멤버 캐시 무효화
-    })
     public UserClubRespDto joinClub(Long clubId) {
         // 현재 인증된 사용자 정보 가져오기
-        User user = SecurityUtil.getCurrentUser(userRepository);
+        User user = userRepository.getReferenceById(currentUserProvider.getCurrentUser().id());
 
         Club club = clubRepository.findById(clubId).orElseThrow(
                 ClubNotFoundException::new
@@ -111,6 +117,8 @@ public class ClubServiceImpl implements ClubService {
         UserClub userClub = new UserClub(user, club);
         
         UserClub savedUserClub = userClubRepository.save(userClub);
+        currentUserProvider.evictMembership(clubId, user.getId());
+        eventPublisher.publishEvent(new ClubMemberJoinedEvent(clubId, user.getId()));
         
         return userClubMapper.toDto(savedUserClub);
     }
@@ -118,8 +126,10 @@ public class ClubServiceImpl implements ClubService {
     @Override
     @Transactional(readOnly = true)
     @Cacheable(
-        cacheNames = "clubs",
-        condition = "#cursor == null && #page == null"
+        cacheNames = "clubPages",
+        key = "#page",
+        condition = "#cursor == null && #page != null",
+        sync = true
     )
     public PageResponse<ClubRespDto> getAllClubs(Instant cursor, Integer page) {
         // cursor가 있으면 cursor 기반 페이지네이션, 없으면 page 기반 페이지네이션
@@ -154,7 +164,7 @@ public class ClubServiceImpl implements ClubService {
 
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(cacheNames = "clubs", key = "#clubId")
+    @Cacheable(cacheNames = "clubs", key = "#clubId", sync = true)
     public ClubRespDto getClubById(Long clubId) {
         Club club = clubRepository.findById(clubId).orElseThrow(
                 ClubNotFoundException::new
@@ -164,7 +174,7 @@ public class ClubServiceImpl implements ClubService {
 
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(cacheNames = "users", key = "#clubId")
+    @Cacheable(cacheNames = "users", key = "#clubId", sync = true)
     public List<UserClubRespDto> getClubMembers(Long clubId) {
         List<UserClub> userClubs = userClubRepository.findByClubId(clubId);
         return userClubs.stream()
@@ -174,18 +184,14 @@ public class ClubServiceImpl implements ClubService {
 
     @Override
     @Transactional
-    @Caching(evict = {
-        @CacheEvict(cacheNames = "clubs", allEntries = true),      // 클럽 목록 캐시 무효화
-        @CacheEvict(cacheNames = "users", key = "#clubId")         // 해당 클럽 멤버 캐시 무효화
-    })
     public void delete(Long clubId) {
         Club club = clubRepository.findById(clubId).orElseThrow(
                 ClubNotFoundException::new
         );
 
-        User user = SecurityUtil.getCurrentUser(userRepository);
+        AuthUser currentUser = currentUserProvider.getCurrentUser();
 
-        if (!user.getId().equals(club.getOwner().getId())) {
+        if (!currentUser.id().equals(club.getOwner().getId())) {
             throw new PermissionDeniedException();
         }
 
@@ -204,13 +210,18 @@ public class ClubServiceImpl implements ClubService {
 
             // 4. Scoreboard 벌크 삭제
             scoreboardRepository.deleteByGameIds(gameIds);
+            cardDrawSlotRepository.deleteByGameIds(gameIds);
 
             // 5. Game 벌크 삭제
             gameRepository.deleteByClubId(clubId);
         }
 
-        // 6. UserClub 벌크 삭제
+        // 6. UserClub / 회원 통계 벌크 삭제
         userClubRepository.deleteByClubId(clubId);
+        clubMemberStatsRepository.deleteByClubId(clubId);
+        clubMemberStatsRepository.clearBuilt(clubId);
+        currentUserProvider.evictClub(clubId);
+        eventPublisher.publishEvent(new ClubDeletedEvent(clubId));
 
         // 7. Club 삭제
         clubRepository.deleteById(clubId);
@@ -261,5 +272,6 @@ public class ClubServiceImpl implements ClubService {
 
         user.updateRole(userClubRoleUpdateReqDto.role());
         userClubRepository.save(user);
+        currentUserProvider.evictMembership(clubId, userClubRoleUpdateReqDto.memberId());
     }
 }
@@ -0,0 +1,37 @@
+package com.kh.pinpal2.club_member_stats.controller;
+
+import com.kh.pinpal2.base.dto.PageResponse;
+import com.kh.pinpal2.club_member_stats.dto.ClubMemberStatsRespDto;
+import com.kh.pinpal2.club_member_stats.dto.LeaderboardEntryRespDto;
+import com.kh.pinpal2.club_member_stats.entity.LeaderboardSort;
+import com.kh.pinpal2.club_member_stats.service.ClubMemberStatsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/clubs")
+public class ClubMemberStatsController {
+
+    private final ClubMemberStatsService clubMemberStatsService;
+
+    @GetMapping("/{clubId}/stats")
+    public ResponseEntity<List<ClubMemberStatsRespDto>> getStats(@PathVariable Long clubId) {
+        List<ClubMemberStatsRespDto> response = clubMemberStatsService.getStatsByClubId(clubId);
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+
+    @GetMapping("/{clubId}/leaderboard")
+    public ResponseEntity<PageResponse<LeaderboardEntryRespDto>> getLeaderboard(
+            @PathVariable Long clubId,
+            @RequestParam(required = false, defaultValue = "AVERAGE") LeaderboardSort sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "20") Integer size) {
+        PageResponse<LeaderboardEntryRespDto> response = clubMemberStatsService.getLeaderboard(clubId, sort, cursor, size);
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+}
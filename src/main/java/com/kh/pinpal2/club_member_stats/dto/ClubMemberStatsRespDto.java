@@ -0,0 +1,18 @@
+package com.kh.pinpal2.club_member_stats.dto;
+
+public record ClubMemberStatsRespDto(
+        Long userId,
+        String name,
+        String profile,
+        int grade,
+        int gradeRank,
+        int gameCount,
+        int seriesCount,
+        long pinTotal,
+        int average,
+        int rollingAverage,
+        int highGame,
+        int highSeries,
+        int count200
+) {
+}
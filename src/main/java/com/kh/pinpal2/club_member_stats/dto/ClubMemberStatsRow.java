@@ -0,0 +1,14 @@
+package com.kh.pinpal2.club_member_stats.dto;
+
+import com.kh.pinpal2.club_member_stats.entity.ClubMemberStats;
+
+/**
+ * 현재 클럽 회원의 통계 + 표시용 회원 정보
+ */
+public record ClubMemberStatsRow(
+        ClubMemberStats stats,
+        String name,
+        String profile,
+        int grade
+) {
+}
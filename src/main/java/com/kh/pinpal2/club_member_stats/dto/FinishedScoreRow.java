@@ -0,0 +1,17 @@
+package com.kh.pinpal2.club_member_stats.dto;
+
+/**
+ * 종료된 게임의 회원 점수 한 줄 (통계 누적용)
+ */
+public record FinishedScoreRow(
+        Long gameId,
+        Long userId,
+        int score1,
+        int score2,
+        int score3,
+        int score4
+) {
+    public int[] scores() {
+        return new int[]{score1, score2, score3, score4};
+    }
+}
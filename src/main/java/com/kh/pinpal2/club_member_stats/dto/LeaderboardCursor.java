@@ -0,0 +1,37 @@
+package com.kh.pinpal2.club_member_stats.dto;
+
+import com.kh.pinpal2.base.exception.club.InvalidLeaderboardCursorException;
+
+/**
+ * 리더보드 keyset 커서 ("정렬값:userId:순위:지금까지 읽은 수")
+ * - 정렬값/userId 로 다음 페이지 위치를 찾고, 순위/읽은 수로 순위를 이어서 계산 (COUNT 쿼리 없음)
+ */
+public record LeaderboardCursor(
+        long value,
+        long userId,
+        int rank,
+        int seen
+) {
+
+    public static LeaderboardCursor parse(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        String[] parts = cursor.split(":");
+        if (parts.length != 4) {
+            throw new InvalidLeaderboardCursorException();
+        }
+        try {
+            return new LeaderboardCursor(
+                    Long.parseLong(parts[0]), Long.parseLong(parts[1]),
+                    Integer.parseInt(parts[2]), Integer.parseInt(parts[3]));
+        } catch (NumberFormatException e) {
+            throw new InvalidLeaderboardCursorException();
+        }
+    }
+
+    public String encode() {
+        return value + ":" + userId + ":" + rank + ":" + seen;
+    }
+}
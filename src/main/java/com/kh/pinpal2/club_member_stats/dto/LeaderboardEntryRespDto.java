@@ -0,0 +1,14 @@
+package com.kh.pinpal2.club_member_stats.dto;
+
+public record LeaderboardEntryRespDto(
+        int rank,
+        Long userId,
+        String name,
+        String profile,
+        int grade,
+        int gameCount,
+        int average,
+        long pinTotal,
+        int highGame
+) {
+}
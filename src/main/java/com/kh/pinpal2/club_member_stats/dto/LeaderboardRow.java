@@ -0,0 +1,25 @@
+package com.kh.pinpal2.club_member_stats.dto;
+
+import com.kh.pinpal2.club_member_stats.entity.LeaderboardSort;
+
+/**
+ * 리더보드 한 줄
+ */
+public record LeaderboardRow(
+        Long userId,
+        String name,
+        String profile,
+        int grade,
+        int gameCount,
+        int average,
+        long pinTotal,
+        int highGame
+) {
+    public long valueOf(LeaderboardSort sort) {
+        return switch (sort) {
+            case AVERAGE -> average;
+            case PIN_TOTAL -> pinTotal;
+            case HIGH_GAME -> highGame;
+        };
+    }
+}
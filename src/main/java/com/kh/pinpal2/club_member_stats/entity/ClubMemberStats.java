@@ -0,0 +1,126 @@
+package com.kh.pinpal2.club_member_stats.entity;
+
+import com.kh.pinpal2.base.entity.BaseUpdatableEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.util.Arrays;
+
+/**
+ * 클럽 회원별 누적 기록 (게임 종료 시마다 증분 갱신)
+ * - 연관관계 없이 club_id / user_id만 보관하는 가벼운 행
+ * - 최근 N게임 점수는 integer[] 한 컬럼에 오래된 순으로 보관
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "club_member_stats",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"club_id", "user_id"}),
+        indexes = {
+                // 리더보드 keyset 페이지네이션용 (정렬 기준, user_id 모두 내림차순으로 역방향 스캔)
+                @Index(name = "idx_club_member_stats_average", columnList = "club_id, average, user_id"),
+                @Index(name = "idx_club_member_stats_pin_total", columnList = "club_id, pin_total, user_id"),
+                @Index(name = "idx_club_member_stats_high_game", columnList = "club_id, high_game, user_id")
+        })
+public class ClubMemberStats extends BaseUpdatableEntity {
+
+    @Column(name = "club_id", nullable = false)
+    private Long clubId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "game_count", nullable = false)
+    private int gameCount;
+
+    @Column(name = "series_count", nullable = false)
+    private int seriesCount;
+
+    @Column(name = "pin_total", nullable = false)
+    private long pinTotal;
+
+    // 정렬/인덱스용으로 저장하는 전체 평균 (pin_total / game_count 반올림)
+    @Column(name = "average", columnDefinition = "integer not null default 0")
+    private int average;
+
+    @Column(name = "high_game", nullable = false)
+    private int highGame;
+
+    @Column(name = "high_series", nullable = false)
+    private int highSeries;
+
+    @Column(name = "count_200", nullable = false)
+    private int count200;
+
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "recent_scores", columnDefinition = "integer[]")
+    private int[] recentScores = new int[0];
+
+    @Column(name = "last_game_id")
+    private Long lastGameId;
+
+    public ClubMemberStats(Long clubId, Long userId) {
+        this.clubId = clubId;
+        this.userId = userId;
+    }
+
+    /**
+     * 게임 하나(1~4게임 점수)를 누적 (같은 게임이 연달아 들어오면 무시)
+     * - 0점은 치지 않은 게임으로 보고 제외
+     */
+    public void record(Long gameId, int[] scores, int rollingGames) {
+        if (gameId.equals(lastGameId)) {
+            return;
+        }
+
+        int[] recent = Arrays.copyOf(recentScores, recentScores.length + scores.length);
+        int recentSize = recentScores.length;
+        int series = 0;
+
+        for (int score : scores) {
+            if (score <= 0) {
+                continue;
+            }
+            gameCount++;
+            pinTotal += score;
+            highGame = Math.max(highGame, score);
+            if (score >= 200) {
+                count200++;
+            }
+            series += score;
+            recent[recentSize++] = score;
+        }
+
+        if (series > 0) {
+            seriesCount++;
+            highSeries = Math.max(highSeries, series);
+        }
+
+        this.average = gameCount == 0 ? 0 : Math.round((float) pinTotal / gameCount);
+
+        int from = Math.max(0, recentSize - rollingGames);
+        this.recentScores = Arrays.copyOfRange(recent, from, recentSize);
+        this.lastGameId = gameId;
+    }
+
+    /**
+     * 최근 rollingGames 게임 평균 (기록이 적으면 있는 만큼)
+     */
+    public int rollingAverage(int rollingGames) {
+        int from = Math.max(0, recentScores.length - rollingGames);
+        int count = recentScores.length - from;
+        if (count == 0) {
+            return 0;
+        }
+
+        long sum = 0;
+        for (int i = from; i < recentScores.length; i++) {
+            sum += recentScores[i];
+        }
+        return Math.round((float) sum / count);
+    }
+}
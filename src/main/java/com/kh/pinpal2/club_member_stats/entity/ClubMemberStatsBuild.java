@@ -0,0 +1,30 @@
+package com.kh.pinpal2.club_member_stats.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 클럽 회원 통계가 전체 기록으로 만들어졌다는 표시 (클럽당 1행)
+ * - 종료된 게임이 없는 클럽도 표시가 남으므로 매번 다시 계산하지 않음
+ * - 종료된 게임이 삭제되면 표시를 지워 ClubMemberStatsBackfill이 다시 만들게 함
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "club_member_stats_build")
+public class ClubMemberStatsBuild {
+
+    @Id
+    @Column(name = "club_id", nullable = false)
+    private Long clubId;
+
+    @Column(name = "built_at", columnDefinition = "timestamp with time zone", nullable = false)
+    private Instant builtAt;
+}
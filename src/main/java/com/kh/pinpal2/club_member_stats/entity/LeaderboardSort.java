@@ -0,0 +1,10 @@
+package com.kh.pinpal2.club_member_stats.entity;
+
+/**
+ * 리더보드 정렬 기준 (모두 높은 순)
+ */
+public enum LeaderboardSort {
+    AVERAGE,
+    PIN_TOTAL,
+    HIGH_GAME
+}
@@ -0,0 +1,31 @@
+package com.kh.pinpal2.club_member_stats.repository;
+
+import com.kh.pinpal2.club_member_stats.dto.ClubMemberStatsRow;
+import com.kh.pinpal2.club_member_stats.dto.FinishedScoreRow;
+import com.kh.pinpal2.club_member_stats.dto.LeaderboardCursor;
+import com.kh.pinpal2.club_member_stats.dto.LeaderboardRow;
+import com.kh.pinpal2.club_member_stats.entity.LeaderboardSort;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+public interface ClubMemberStatsCustomRepository {
+
+    List<ClubMemberStatsRow> findRowsByClubId(Long clubId);
+
+    List<LeaderboardRow> findLeaderboard(Long clubId, LeaderboardSort sort, LeaderboardCursor cursor, int limit);
+
+    List<FinishedScoreRow> findScoresByGameId(Long gameId);
+
+    void forEachFinishedScore(Long clubId, Consumer<FinishedScoreRow> consumer);
+
+    void lockClub(Long clubId);
+
+    boolean isBuilt(Long clubId);
+
+    void markBuilt(Long clubId);
+
+    void clearBuilt(Long clubId);
+
+    List<Long> findUnbuiltClubIds(int limit);
+}
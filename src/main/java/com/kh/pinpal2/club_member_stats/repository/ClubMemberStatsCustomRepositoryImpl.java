@@ -0,0 +1,165 @@
+package com.kh.pinpal2.club_member_stats.repository;
+
+import com.kh.pinpal2.club_member_stats.dto.ClubMemberStatsRow;
+import com.kh.pinpal2.club_member_stats.dto.FinishedScoreRow;
+import com.kh.pinpal2.club_member_stats.dto.LeaderboardCursor;
+import com.kh.pinpal2.club_member_stats.dto.LeaderboardRow;
+import com.kh.pinpal2.club_member_stats.entity.LeaderboardSort;
+import com.kh.pinpal2.club_member_stats.entity.QClubMemberStats;
+import com.kh.pinpal2.user.entity.QUser;
+import com.kh.pinpal2.user_club.entity.QUserClub;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.function.Consumer;
+
+@Repository
+@RequiredArgsConstructor
+public class ClubMemberStatsCustomRepositoryImpl implements ClubMemberStatsCustomRepository {
+
+    private static final RowMapper<FinishedScoreRow> SCORE_ROW_MAPPER = (rs, rowNum) -> new FinishedScoreRow(
+            rs.getLong("game_id"), rs.getLong("user_id"),
+            rs.getInt("score1"), rs.getInt("score2"), rs.getInt("score3"), rs.getInt("score4"));
+
+    // pg_advisory_xact_lock(int, int)의 첫 번째 키 (다른 용도의 advisory lock과 겹치지 않도록)
+    private static final int STATS_LOCK_NAMESPACE = 0x5354_4154;   // "STAT"
+
+    private final JPAQueryFactory queryFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 현재 클럽 회원의 통계만 조회 (탈퇴한 회원의 기록은 제외)
+     */
+    @Override
+    public List<ClubMemberStatsRow> findRowsByClubId(Long clubId) {
+        QClubMemberStats stats = QClubMemberStats.clubMemberStats;
+        QUserClub userClub = QUserClub.userClub;
+        QUser user = QUser.user;
+
+        return queryFactory
+                .select(Projections.constructor(ClubMemberStatsRow.class,
+                        stats, user.name, user.profile, userClub.grade))
+                .from(stats)
+                .join(userClub).on(userClub.club.id.eq(stats.clubId), userClub.user.id.eq(stats.userId))
+                .join(userClub.user, user)
+                .where(stats.clubId.eq(clubId))
+                .fetch();
+    }
+
+    /**
+     * 리더보드 한 페이지 (정렬값 내림차순, 같으면 user_id 내림차순)
+     * - (club_id, 정렬값, user_id) 인덱스를 커서 위치부터 역방향으로 limit 만큼만 읽음
+     */
+    @Override
+    public List<LeaderboardRow> findLeaderboard(Long clubId, LeaderboardSort sort, LeaderboardCursor cursor, int limit) {
+        QClubMemberStats stats = QClubMemberStats.clubMemberStats;
+        QUserClub userClub = QUserClub.userClub;
+        QUser user = QUser.user;
+
+        BooleanBuilder where = new BooleanBuilder(stats.clubId.eq(clubId));
+        if (cursor != null) {
+            // 컬럼을 그대로 비교해야 인덱스 범위 검색이 됨 (CAST 금지)
+            where.and(switch (sort) {
+                case AVERAGE -> after(stats.average, (int) cursor.value(), stats.userId, cursor.userId());
+                case PIN_TOTAL -> after(stats.pinTotal, cursor.value(), stats.userId, cursor.userId());
+                case HIGH_GAME -> after(stats.highGame, (int) cursor.value(), stats.userId, cursor.userId());
+            });
+        }
+        NumberPath<?> sortColumn = switch (sort) {
+            case AVERAGE -> stats.average;
+            case PIN_TOTAL -> stats.pinTotal;
+            case HIGH_GAME -> stats.highGame;
+        };
+
+        return queryFactory
+                .select(Projections.constructor(LeaderboardRow.class,
+                        stats.userId, user.name, user.profile, userClub.grade,
+                        stats.gameCount, stats.average, stats.pinTotal, stats.highGame))
+                .from(stats)
+                .join(userClub).on(userClub.club.id.eq(stats.clubId), userClub.user.id.eq(stats.userId))
+                .join(userClub.user, user)
+                .where(where)
+                .orderBy(sortColumn.desc(), stats.userId.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    // (정렬값, user_id) 내림차순에서 커서 다음 위치
+    private static <T extends Number & Comparable<?>> BooleanExpression after(NumberPath<T> column, T value,
+                                                                             NumberPath<Long> userId, long cursorUserId) {
+        return column.lt(value).or(column.eq(value).and(userId.lt(cursorUserId)));
+    }
+
+    @Override
+    public List<FinishedScoreRow> findScoresByGameId(Long gameId) {
+        return jdbcTemplate.query(
+                "SELECT game_id, user_id, score1, score2, score3, score4 FROM scoreboard WHERE game_id = ?",
+                SCORE_ROW_MAPPER, gameId);
+    }
+
+    /**
+     * 클럽의 종료된 게임 점수를 오래된 게임부터 한 줄씩 전달 (전체 재계산용, 결과를 메모리에 모으지 않음)
+     */
+    @Override
+    public void forEachFinishedScore(Long clubId, Consumer<FinishedScoreRow> consumer) {
+        jdbcTemplate.query(
+                "SELECT s.game_id, s.user_id, s.score1, s.score2, s.score3, s.score4 " +
+                        "FROM scoreboard s JOIN game g ON g.id = s.game_id " +
+                        "WHERE g.club_id = ? AND g.status = 'FINISHED' AND g.is_delete = false " +
+                        "ORDER BY g.date, g.time, g.id",
+                rs -> {
+                    consumer.accept(SCORE_ROW_MAPPER.mapRow(rs, 0));
+                },
+                clubId);
+    }
+
+    /**
+     * 클럽 단위 트랜잭션 잠금 (재계산과 게임 종료 반영이 동시에 같은 클럽 통계를 쓰지 않도록)
+     * - 트랜잭션이 끝나면 자동 해제
+     */
+    @Override
+    public void lockClub(Long clubId) {
+        jdbcTemplate.queryForList("SELECT pg_advisory_xact_lock(?, ?)", STATS_LOCK_NAMESPACE, Long.hashCode(clubId));
+    }
+
+    @Override
+    public boolean isBuilt(Long clubId) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM club_member_stats_build WHERE club_id = ?)", Boolean.class, clubId));
+    }
+
+    @Override
+    public void markBuilt(Long clubId) {
+        jdbcTemplate.update(
+                "INSERT INTO club_member_stats_build (club_id, built_at) VALUES (?, ?) " +
+                        "ON CONFLICT (club_id) DO UPDATE SET built_at = EXCLUDED.built_at",
+                clubId, Timestamp.from(Instant.now()));
+    }
+
+    @Override
+    public void clearBuilt(Long clubId) {
+        jdbcTemplate.update("DELETE FROM club_member_stats_build WHERE club_id = ?", clubId);
+    }
+
+    /**
+     * 아직 통계가 만들어지지 않은 클럽
+     */
+    @Override
+    public List<Long> findUnbuiltClubIds(int limit) {
+        return jdbcTemplate.queryForList(
+                "SELECT c.id FROM club c " +
+                        "WHERE NOT EXISTS (SELECT 1 FROM club_member_stats_build b WHERE b.club_id = c.id) " +
+                        "ORDER BY c.id LIMIT ?",
+                Long.class, limit);
+    }
+}
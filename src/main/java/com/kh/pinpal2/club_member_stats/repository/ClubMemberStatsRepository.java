@@ -0,0 +1,21 @@
+package com.kh.pinpal2.club_member_stats.repository;
+
+import com.kh.pinpal2.club_member_stats.entity.ClubMemberStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ClubMemberStatsRepository extends JpaRepository<ClubMemberStats, Long>, ClubMemberStatsCustomRepository {
+
+    List<ClubMemberStats> findAllByClubIdAndUserIdIn(Long clubId, Collection<Long> userIds);
+
+    @Modifying
+    @Query("DELETE FROM ClubMemberStats s WHERE s.clubId = :clubId")
+    void deleteByClubId(@Param("clubId") Long clubId);
+}
@@ -0,0 +1,59 @@
+package com.kh.pinpal2.club_member_stats.service;
+
+import com.kh.pinpal2.club_member_stats.entity.ClubMemberStats;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * 회원 통계 → 클럽 에버/군 산정 규칙 (pinpal.statistics.average.*)
+ * - 에버: 최근 lastGames 게임 평균
+ * - 군: 에버가 gradeCutoffs[i] 이상이면 i+1군, 모두 미달이면 마지막 군 다음
+ * - minGames 게임 미만 회원은 자동 산정하지 않음 (운영진이 입력한 값 유지)
+ * - 기본은 꺼져 있음 (enabled=true 로 켜기 전까지 운영진이 입력한 에버/군을 건드리지 않음)
+ */
+@Getter
+@Component
+public class AverageGradePolicy {
+
+    private final boolean enabled;
+    private final int lastGames;
+    private final int minGames;
+    private final int[] gradeCutoffs;
+
+    public AverageGradePolicy(
+            @Value("${pinpal.statistics.average.enabled:false}") boolean enabled,
+            @Value("${pinpal.statistics.average.last-games:12}") int lastGames,
+            @Value("${pinpal.statistics.average.min-games:3}") int minGames,
+            @Value("${pinpal.statistics.average.grade-cutoffs:190,170,150,130}") int[] gradeCutoffs) {
+        this.enabled = enabled;
+        this.lastGames = lastGames;
+        this.minGames = minGames;
+        // 높은 기준부터 비교하도록 내림차순 정렬
+        this.gradeCutoffs = Arrays.stream(gradeCutoffs).boxed()
+                .sorted(Comparator.reverseOrder())
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    public boolean appliesTo(ClubMemberStats stats) {
+        return enabled && stats.getGameCount() >= minGames;
+    }
+
+    public int averageOf(ClubMemberStats stats) {
+        return stats.rollingAverage(lastGames);
+    }
+
+    public int gradeOf(int average) {
+        for (int i = 0; i < gradeCutoffs.length; i++) {
+            if (average >= gradeCutoffs[i]) {
+                return i + 1;
+            }
+        }
+        return gradeCutoffs.length + 1;
+    }
+
+}
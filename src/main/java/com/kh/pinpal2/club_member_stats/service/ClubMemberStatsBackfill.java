@@ -0,0 +1,39 @@
+package com.kh.pinpal2.club_member_stats.service;
+
+import com.kh.pinpal2.club_member_stats.repository.ClubMemberStatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 아직 집계되지 않은 클럽(기존 데이터, 종료 게임 삭제 후)의 회원 통계를 주기적으로 만듦
+ * - 조회 API는 읽기 전용으로 두고 재계산은 여기서만 실행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ClubMemberStatsBackfill {
+
+    private final ClubMemberStatsRepository clubMemberStatsRepository;
+    private final ClubMemberStatsService clubMemberStatsService;
+
+    @Value("${pinpal.statistics.backfill-batch-size:20}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${pinpal.statistics.backfill-interval-ms:10000}")
+    public void backfill() {
+        List<Long> clubIds = clubMemberStatsRepository.findUnbuiltClubIds(batchSize);
+
+        for (Long clubId : clubIds) {
+            try {
+                clubMemberStatsService.rebuildIfNeeded(clubId);
+            } catch (RuntimeException e) {
+                log.error("회원 통계 재계산 실패: clubId={}, error={}", clubId, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.kh.pinpal2.club_member_stats.service;
+
+import com.kh.pinpal2.base.dto.PageResponse;
+import com.kh.pinpal2.club_member_stats.dto.ClubMemberStatsRespDto;
+import com.kh.pinpal2.club_member_stats.dto.LeaderboardEntryRespDto;
+import com.kh.pinpal2.club_member_stats.entity.LeaderboardSort;
+
+import java.util.List;
+
+public interface ClubMemberStatsService {
+
+    List<ClubMemberStatsRespDto> getStatsByClubId(Long clubId);
+
+    PageResponse<LeaderboardEntryRespDto> getLeaderboard(Long clubId, LeaderboardSort sort, String cursor, int size);
+
+    void applyFinishedGame(Long gameId, Long clubId);
+
+    void rebuildIfNeeded(Long clubId);
+}
@@ -0,0 +1,241 @@
+package com.kh.pinpal2.club_member_stats.service;
+
+import com.kh.pinpal2.base.dto.PageResponse;
+import com.kh.pinpal2.base.exception.club.ClubNotFoundException;
+import com.kh.pinpal2.base.mapper.PageResponseMapper;
+import com.kh.pinpal2.club.repository.ClubRepository;
+import com.kh.pinpal2.club_member_stats.dto.ClubMemberStatsRespDto;
+import com.kh.pinpal2.club_member_stats.dto.ClubMemberStatsRow;
+import com.kh.pinpal2.club_member_stats.dto.FinishedScoreRow;
+import com.kh.pinpal2.club_member_stats.dto.LeaderboardCursor;
+import com.kh.pinpal2.club_member_stats.dto.LeaderboardEntryRespDto;
+import com.kh.pinpal2.club_member_stats.dto.LeaderboardRow;
+import com.kh.pinpal2.club_member_stats.entity.ClubMemberStats;
+import com.kh.pinpal2.club_member_stats.entity.LeaderboardSort;
+import com.kh.pinpal2.club_member_stats.repository.ClubMemberStatsRepository;
+import com.kh.pinpal2.user_club.dto.UserClubAvgGrade;
+import com.kh.pinpal2.user_club.repository.UserClubRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+public class ClubMemberStatsServiceImpl implements ClubMemberStatsService {
+
+    private static final int MAX_LEADERBOARD_SIZE = 100;
+
+    private final ClubMemberStatsRepository clubMemberStatsRepository;
+    private final ClubRepository clubRepository;
+    private final UserClubRepository userClubRepository;
+    private final AverageGradePolicy averageGradePolicy;
+    private final PageResponseMapper pageResponseMapper;
+    private final int rollingGames;
+    // 보관할 최근 점수 수 (통계 표시용 / 에버 산정용 중 큰 쪽)
+    private final int recentCapacity;
+
+    public ClubMemberStatsServiceImpl(ClubMemberStatsRepository clubMemberStatsRepository,
+                                      ClubRepository clubRepository,
+                                      UserClubRepository userClubRepository,
+                                      AverageGradePolicy averageGradePolicy,
+                                      PageResponseMapper pageResponseMapper,
+                                      @Value("${pinpal.statistics.rolling-games:12}") int rollingGames) {
+        this.clubMemberStatsRepository = clubMemberStatsRepository;
+        this.clubRepository = clubRepository;
+        this.userClubRepository = userClubRepository;
+        this.averageGradePolicy = averageGradePolicy;
+        this.pageResponseMapper = pageResponseMapper;
+        this.rollingGames = rollingGames;
+        this.recentCapacity = Math.max(rollingGames, averageGradePolicy.getLastGames());
+    }
+
+    /**
+     * 클럽 회원 통계 조회 (군별 순위 포함, 군 → 군 내 순위 순으로 정렬)
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<ClubMemberStatsRespDto> getStatsByClubId(Long clubId) {
+        checkClub(clubId);
+
+        Map<Integer, List<ClubMemberStatsRow>> rowsByGrade = clubMemberStatsRepository.findRowsByClubId(clubId).stream()
+                .collect(Collectors.groupingBy(ClubMemberStatsRow::grade, TreeMap::new, Collectors.toList()));
+
+        List<ClubMemberStatsRespDto> result = new ArrayList<>();
+        rowsByGrade.forEach((grade, rows) -> {
+            rows.sort(Comparator.comparingInt((ClubMemberStatsRow row) -> row.stats().getAverage()).reversed());
+
+            int rank = 0;
+            int previousAverage = -1;
+            for (int i = 0; i < rows.size(); i++) {
+                ClubMemberStats stats = rows.get(i).stats();
+                // 평균이 같으면 같은 순위
+                if (stats.getAverage() != previousAverage) {
+                    rank = i + 1;
+                    previousAverage = stats.getAverage();
+                }
+                result.add(toDto(rows.get(i), rank));
+            }
+        });
+        return result;
+    }
+
+    /**
+     * 리더보드 (keyset 페이지네이션, 순위는 커서로 이어서 계산)
+     * - 같은 값이면 같은 순위, 다음 값은 그만큼 건너뛴 순위
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponse<LeaderboardEntryRespDto> getLeaderboard(Long clubId, LeaderboardSort sort, String cursor, int size) {
+        checkClub(clubId);
+
+        int pageSize = Math.min(Math.max(size, 1), MAX_LEADERBOARD_SIZE);
+        LeaderboardCursor after = LeaderboardCursor.parse(cursor);
+
+        List<LeaderboardRow> rows = clubMemberStatsRepository.findLeaderboard(clubId, sort, after, pageSize + 1);
+        boolean hasNext = rows.size() > pageSize;
+        List<LeaderboardRow> content = hasNext ? rows.subList(0, pageSize) : rows;
+
+        int seen = after == null ? 0 : after.seen();
+        int rank = after == null ? 0 : after.rank();
+        long previousValue = after == null ? Long.MIN_VALUE : after.value();
+
+        List<LeaderboardEntryRespDto> entries = new ArrayList<>(content.size());
+        for (LeaderboardRow row : content) {
+            long value = row.valueOf(sort);
+            seen++;
+            if (value != previousValue) {
+                rank = seen;
+                previousValue = value;
+            }
+            entries.add(new LeaderboardEntryRespDto(rank, row.userId(), row.name(), row.profile(), row.grade(),
+                    row.gameCount(), row.average(), row.pinTotal(), row.highGame()));
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            LeaderboardRow last = content.get(content.size() - 1);
+            nextCursor = new LeaderboardCursor(last.valueOf(sort), last.userId(), rank, seen).encode();
+        }
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("nextCursor", nextCursor);
+        result.put("hasNext", hasNext);
+        // keyset 페이지네이션이라 전체 개수는 세지 않음
+        result.put("totalElements", null);
+
+        return pageResponseMapper.pageResponse(entries, result);
+    }
+
+    /**
+     * 종료된 게임 하나를 참가자 통계에 누적하고, 참가자의 클럽 에버/군을 다시 산정
+     * - 게임 종료 트랜잭션 커밋 후 호출되므로 새 트랜잭션에서 처리
+     * - 에버/군은 이번 게임 참가자만 한 번의 UPDATE로 반영하고 users 캐시는 한 번만 무효화
+     * - 클럽 잠금 후 처리 (재계산과 동시에 실행되지 않도록)
+     */
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @CacheEvict(cacheNames = "users", key = "#clubId")
+    public void applyFinishedGame(Long gameId, Long clubId) {
+        List<FinishedScoreRow> rows = clubMemberStatsRepository.findScoresByGameId(gameId);
+        if (rows.isEmpty()) {
+            return;
+        }
+        Set<Long> userIds = rows.stream().map(FinishedScoreRow::userId).collect(Collectors.toSet());
+
+        clubMemberStatsRepository.lockClub(clubId);
+        Collection<ClubMemberStats> played;
+        if (!clubMemberStatsRepository.isBuilt(clubId)) {
+            // 집계 전 클럽: 이번 게임을 포함해 전체 기록으로 한 번 만듦
+            rebuildLocked(clubId);
+            played = clubMemberStatsRepository.findAllByClubIdAndUserIdIn(clubId, userIds);
+        } else {
+            Map<Long, ClubMemberStats> statsByUserId = clubMemberStatsRepository.findAllByClubIdAndUserIdIn(clubId, userIds).stream()
+                    .collect(Collectors.toMap(ClubMemberStats::getUserId, Function.identity()));
+
+            rows.forEach(row -> statsByUserId
+                    .computeIfAbsent(row.userId(), userId -> new ClubMemberStats(clubId, userId))
+                    .record(gameId, row.scores(), recentCapacity));
+
+            played = clubMemberStatsRepository.saveAll(statsByUserId.values());
+            log.info("회원 통계 반영: clubId={}, gameId={}, 회원 수={}", clubId, gameId, played.size());
+        }
+
+        recalculateAvgAndGrade(clubId, played);
+    }
+
+    /**
+     * 클럽의 종료된 게임 전체로 통계를 다시 만듦
+     * - 클럽 잠금 후 다시 확인하므로 여러 노드/스레드가 동시에 호출해도 한 번만 만듦
+     */
+    @Override
+    @Transactional
+    public void rebuildIfNeeded(Long clubId) {
+        clubMemberStatsRepository.lockClub(clubId);
+        if (!clubMemberStatsRepository.isBuilt(clubId)) {
+            rebuildLocked(clubId);
+        }
+    }
+
+    private void rebuildLocked(Long clubId) {
+        Map<Long, ClubMemberStats> statsByUserId = new LinkedHashMap<>();
+        clubMemberStatsRepository.forEachFinishedScore(clubId, row -> statsByUserId
+                .computeIfAbsent(row.userId(), userId -> new ClubMemberStats(clubId, userId))
+                .record(row.gameId(), row.scores(), recentCapacity));
+
+        clubMemberStatsRepository.deleteByClubId(clubId);
+        clubMemberStatsRepository.saveAll(statsByUserId.values());
+        clubMemberStatsRepository.markBuilt(clubId);
+        log.info("회원 통계 재계산: clubId={}, 회원 수={}", clubId, statsByUserId.size());
+    }
+
+    private void checkClub(Long clubId) {
+        if (!clubRepository.existsById(clubId)) {
+            throw new ClubNotFoundException();
+        }
+    }
+
+    /**
+     * 통계로 클럽 에버/군 산정 (규칙 미적용 회원은 그대로 둠)
+     */
+    private void recalculateAvgAndGrade(Long clubId, Collection<ClubMemberStats> played) {
+        if (!averageGradePolicy.isEnabled()) {
+            return;
+        }
+        List<UserClubAvgGrade> members = played.stream()
+                .filter(averageGradePolicy::appliesTo)
+                .map(stats -> {
+                    int avg = averageGradePolicy.averageOf(stats);
+                    return new UserClubAvgGrade(stats.getUserId(), avg, averageGradePolicy.gradeOf(avg));
+                })
+                .toList();
+
+        int updated = userClubRepository.bulkUpdateAvgAndGrade(clubId, members);
+        log.info("클럽 에버/군 재산정: clubId={}, 대상={}, 반영={}", clubId, members.size(), updated);
+    }
+
+    private ClubMemberStatsRespDto toDto(ClubMemberStatsRow row, int gradeRank) {
+        ClubMemberStats stats = row.stats();
+        return new ClubMemberStatsRespDto(
+                stats.getUserId(),
+                row.name(),
+                row.profile(),
+                row.grade(),
+                gradeRank,
+                stats.getGameCount(),
+                stats.getSeriesCount(),
+                stats.getPinTotal(),
+                stats.getAverage(),
+                stats.rollingAverage(rollingGames),
+                stats.getHighGame(),
+                stats.getHighSeries(),
+                stats.getCount200()
+        );
+    }
+}
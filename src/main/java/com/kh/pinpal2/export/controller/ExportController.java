@@ -0,0 +1,45 @@
+package com.kh.pinpal2.export.controller;
+
+import com.kh.pinpal2.export.dto.ExportJobRespDto;
+import com.kh.pinpal2.export.dto.SeasonExportReqDto;
+import com.kh.pinpal2.export.service.ExportJobService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/exports")
+public class ExportController {
+
+    private final ExportJobService exportJobService;
+
+    @PostMapping("/season")
+    public ResponseEntity<ExportJobRespDto> submitSeason(@Valid @RequestBody SeasonExportReqDto request) {
+        ExportJobRespDto response = exportJobService.submitSeason(request);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+
+    @GetMapping("/{jobId}")
+    public ResponseEntity<ExportJobRespDto> getJob(@PathVariable String jobId) {
+        ExportJobRespDto response = exportJobService.getJob(jobId);
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+
+    // Resource 본문이므로 Range 요청은 스프링이 부분 응답(206)으로 처리
+    @GetMapping("/{jobId}/file")
+    public ResponseEntity<Resource> download(@PathVariable String jobId) {
+        Resource response = exportJobService.getFile(jobId);
+
+        return ResponseEntity.status(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=season.xlsx")
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .body(response);
+    }
+}
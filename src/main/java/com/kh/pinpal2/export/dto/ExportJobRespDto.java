@@ -0,0 +1,17 @@
+package com.kh.pinpal2.export.dto;
+
+import com.kh.pinpal2.export.job.ExportJobStatus;
+
+import java.time.Instant;
+
+public record ExportJobRespDto(
+        String jobId,
+        ExportJobStatus status,
+        int totalGames,
+        int writtenGames,
+        String error,
+        Instant createdAt,
+        String nodeId,
+        String nodeUrl
+) {
+}
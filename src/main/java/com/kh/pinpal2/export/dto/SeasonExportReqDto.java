@@ -0,0 +1,12 @@
+package com.kh.pinpal2.export.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDate;
+
+public record SeasonExportReqDto(
+        @NotNull Long clubId,
+        LocalDate startDate,
+        LocalDate endDate
+) {
+}
@@ -0,0 +1,47 @@
+package com.kh.pinpal2.export.job;
+
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 내보내기 작업용 스레드 풀 (요청 스레드와 분리, 크기/대기열 모두 제한)
+ * - jobExecutor: 작업 하나 = 워크북 하나 기록
+ * - loadExecutor: 작업 안에서 게임별 점수를 병렬 조회
+ * - Executor 빈으로 등록하면 스프링 기본 applicationTaskExecutor가 만들어지지 않으므로 이 컴포넌트 안에서만 관리
+ */
+@Getter
+@Component
+public class ExportExecutors {
+
+    private final ThreadPoolTaskExecutor jobExecutor;
+    private final ThreadPoolTaskExecutor loadExecutor;
+    private final int loadThreads;
+
+    public ExportExecutors(@Value("${pinpal.export.job.threads:2}") int jobThreads,
+                           @Value("${pinpal.export.job.queue-capacity:20}") int queueCapacity,
+                           @Value("${pinpal.export.job.load-threads:4}") int loadThreads) {
+        this.jobExecutor = create("export-job-", jobThreads, queueCapacity);
+        // 작업마다 최대 loadThreads 개까지 미리 조회하므로 대기열은 그만큼 여유 있게
+        this.loadExecutor = create("export-load-", loadThreads, loadThreads * jobThreads);
+        this.loadThreads = loadThreads;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobExecutor.shutdown();
+        loadExecutor.shutdown();
+    }
+
+    private static ThreadPoolTaskExecutor create(String threadNamePrefix, int threads, int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,56 @@
+package com.kh.pinpal2.export.job;
+
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 시즌 내보내기 작업 하나의 진행 상태 (메모리에만 보관)
+ */
+@Getter
+public class ExportJob {
+
+    private final String id;
+    private final String cacheKey;
+    private final Long clubId;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final int totalGames;
+    private final Instant createdAt = Instant.now();
+    private final AtomicInteger writtenGames = new AtomicInteger();
+
+    private volatile ExportJobStatus status = ExportJobStatus.PENDING;
+    private volatile Path file;
+    private volatile String error;
+
+    public ExportJob(String id, String cacheKey, Long clubId, LocalDate startDate, LocalDate endDate, int totalGames) {
+        this.id = id;
+        this.cacheKey = cacheKey;
+        this.clubId = clubId;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.totalGames = totalGames;
+    }
+
+    public void start() {
+        this.status = ExportJobStatus.RUNNING;
+    }
+
+    public void progress(int writtenGames) {
+        this.writtenGames.set(writtenGames);
+    }
+
+    public void complete(Path file) {
+        this.file = file;
+        this.writtenGames.set(totalGames);
+        this.status = ExportJobStatus.DONE;
+    }
+
+    public void fail(String error) {
+        this.error = error;
+        this.status = ExportJobStatus.FAILED;
+    }
+}
@@ -0,0 +1,5 @@
+package com.kh.pinpal2.export.job;
+
+public enum ExportJobStatus {
+    PENDING, RUNNING, DONE, FAILED
+}
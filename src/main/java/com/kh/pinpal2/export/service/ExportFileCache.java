@@ -0,0 +1,91 @@
+package com.kh.pinpal2.export.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.*;
+import java.nio.file.attribute.FileTime;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * 내보내기 결과 파일의 로컬 디스크 캐시
+ * - 키에 버전(마지막 수정 시각 등)이 들어가므로 같은 키의 파일은 내용이 바뀌지 않음
+ * - 임시 파일에 다 쓴 뒤 이름을 바꿔 넣으므로 반쯤 쓴 파일이 보이지 않음
+ * - 같은 그룹(prefix)의 이전 버전 파일은 새 파일을 넣을 때 삭제
+ *   단, 최근 graceMillis 안에 만들어졌거나 조회된 파일은 완료된 작업이 아직 가리킬 수 있으므로 남겨 둠
+ */
+@Slf4j
+@Component
+public class ExportFileCache {
+
+    private static final String EXTENSION = ".xlsx";
+
+    private final Path directory;
+    private final long graceMillis;
+
+    public ExportFileCache(@Value("${pinpal.export.cache-dir:${java.io.tmpdir}/pinpal-export}") String directory,
+                           @Value("${pinpal.export.job.retention-ms:3600000}") long graceMillis) {
+        this.directory = Paths.get(directory);
+        this.graceMillis = graceMillis;
+    }
+
+    /**
+     * 캐시된 파일 조회 (찾으면 수정 시각을 갱신해 이전 버전 정리 대상에서 한동안 빠지게 함)
+     */
+    public Optional<Path> find(String key) {
+        Path file = directory.resolve(key + EXTENSION);
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        try {
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException e) {
+            // 그 사이 삭제됨
+            return Optional.empty();
+        }
+        return Optional.of(file);
+    }
+
+    /**
+     * writer로 파일을 만들어 캐시에 넣음
+     *
+     * @param group 같은 대상의 이전 버전을 찾기 위한 키 접두사
+     */
+    public Path store(String group, String key, Consumer<OutputStream> writer) {
+        try {
+            Files.createDirectories(directory);
+            Path temp = Files.createTempFile(directory, key, ".tmp");
+            try {
+                try (OutputStream out = Files.newOutputStream(temp)) {
+                    writer.accept(out);
+                }
+                Path file = directory.resolve(key + EXTENSION);
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                deleteOlderVersions(group, file);
+                return file;
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void deleteOlderVersions(String group, Path current) {
+        long threshold = System.currentTimeMillis() - graceMillis;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, group + "*" + EXTENSION)) {
+            for (Path file : files) {
+                if (!file.equals(current) && Files.getLastModifiedTime(file).toMillis() < threshold) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("이전 내보내기 파일 삭제 실패: group={}, {}", group, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.kh.pinpal2.export.service;
+
+import com.kh.pinpal2.export.dto.ExportJobRespDto;
+import com.kh.pinpal2.export.dto.SeasonExportReqDto;
+import org.springframework.core.io.Resource;
+
+public interface ExportJobService {
+
+    ExportJobRespDto submitSeason(SeasonExportReqDto request);
+
+    ExportJobRespDto getJob(String jobId);
+
+    Resource getFile(String jobId);
+}
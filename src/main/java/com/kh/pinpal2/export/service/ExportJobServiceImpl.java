@@ -0,0 +1,219 @@
+package com.kh.pinpal2.export.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kh.pinpal2.base.cluster.ClusterMember;
+import com.kh.pinpal2.base.cluster.ClusterMembership;
+import com.kh.pinpal2.base.cluster.ClusterNode;
+import com.kh.pinpal2.base.exception.export.ExportJobNotFoundException;
+import com.kh.pinpal2.base.exception.export.ExportJobOnOtherNodeException;
+import com.kh.pinpal2.base.exception.export.ExportJobRejectedException;
+import com.kh.pinpal2.base.exception.export.ExportNotReadyException;
+import com.kh.pinpal2.base.provider.CurrentUserProvider;
+import com.kh.pinpal2.base.service.ExcelExportService;
+import com.kh.pinpal2.export.dto.ExportJobRespDto;
+import com.kh.pinpal2.export.dto.SeasonExportReqDto;
+import com.kh.pinpal2.export.job.ExportExecutors;
+import com.kh.pinpal2.export.job.ExportJob;
+import com.kh.pinpal2.game.entity.Game;
+import com.kh.pinpal2.game.repository.GameRepository;
+import com.kh.pinpal2.scoreboard.repository.ScoreboardRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 시즌 엑셀 내보내기 작업 (요청 → 상태 조회 → 다운로드)
+ * - 작업은 ExportExecutors의 작업 풀에서 실행하고, 게임별 점수 조회는 조회 풀에서 병렬로 진행
+ * - 결과 파일은 (클럽, 기간, 게임 수, 마지막 수정 시각) 키로 디스크에 캐시 → 같은 요청은 바로 완료
+ * - 같은 키로 진행 중인 작업이 있으면 그 작업을 그대로 돌려줌
+ * - 작업 상태와 결과 파일은 만든 노드에만 있음 → 작업 id에 노드 id를 붙이고 응답의 nodeUrl로 조회/다운로드
+ *   (다른 노드가 받으면 404 대신 409로 거절, 만든 노드가 빠졌으면 404)
+ */
+@Slf4j
+@Service
+public class ExportJobServiceImpl implements ExportJobService {
+
+    // 작업 id: "노드id_UUID" (UUID에는 '_'가 없으므로 마지막 '_' 앞이 노드 id)
+    private static final char JOB_ID_SEPARATOR = '_';
+
+    private final ExcelExportService excelExportService;
+    private final ExportFileCache exportFileCache;
+    private final GameRepository gameRepository;
+    private final ScoreboardRepository scoreboardRepository;
+    private final CurrentUserProvider currentUserProvider;
+    private final ExportExecutors exportExecutors;
+    private final ClusterNode clusterNode;
+    private final ClusterMembership clusterMembership;
+
+    private final Cache<String, ExportJob> jobs;
+    private final Map<String, ExportJob> runningByCacheKey = new ConcurrentHashMap<>();
+
+    public ExportJobServiceImpl(ExcelExportService excelExportService,
+                                ExportFileCache exportFileCache,
+                                GameRepository gameRepository,
+                                ScoreboardRepository scoreboardRepository,
+                                CurrentUserProvider currentUserProvider,
+                                ExportExecutors exportExecutors,
+                                ClusterNode clusterNode,
+                                ClusterMembership clusterMembership,
+                                @Value("${pinpal.export.job.retention-ms:3600000}") long retentionMillis) {
+        this.excelExportService = excelExportService;
+        this.exportFileCache = exportFileCache;
+        this.gameRepository = gameRepository;
+        this.scoreboardRepository = scoreboardRepository;
+        this.currentUserProvider = currentUserProvider;
+        this.exportExecutors = exportExecutors;
+        this.clusterNode = clusterNode;
+        this.clusterMembership = clusterMembership;
+        this.jobs = Caffeine.newBuilder()
+                .expireAfterWrite(retentionMillis, TimeUnit.MILLISECONDS)
+                .maximumSize(1000)
+                .build();
+    }
+
+    @Override
+    public ExportJobRespDto submitSeason(SeasonExportReqDto request) {
+        Long clubId = request.clubId();
+        checkManager(clubId);
+
+        List<Game> games = new ArrayList<>(gameRepository.findAllByClubIdAndFilter(clubId, request.startDate(), request.endDate(), null));
+        Collections.reverse(games); // 오래된 게임부터
+
+        String group = "season-" + clubId + "-" + dateKey(request.startDate()) + "-" + dateKey(request.endDate()) + "-";
+        String cacheKey = group + games.size() + "-" + lastModified(games).toEpochMilli();
+
+        ExportJob job = new ExportJob(clusterNode.getId() + JOB_ID_SEPARATOR + UUID.randomUUID(), cacheKey, clubId,
+                request.startDate(), request.endDate(), games.size());
+
+        Optional<Path> cached = exportFileCache.find(cacheKey);
+        if (cached.isPresent()) {
+            job.complete(cached.get());
+            jobs.put(job.getId(), job);
+            log.info("시즌 내보내기 캐시 사용: clubId={}, key={}", clubId, cacheKey);
+            return toDto(job);
+        }
+
+        ExportJob running = runningByCacheKey.putIfAbsent(cacheKey, job);
+        if (running != null) {
+            return toDto(running);
+        }
+
+        jobs.put(job.getId(), job);
+        try {
+            exportExecutors.getJobExecutor().execute(() -> run(job, group, games));
+        } catch (TaskRejectedException e) {
+            runningByCacheKey.remove(cacheKey, job);
+            jobs.invalidate(job.getId());
+            throw new ExportJobRejectedException();
+        }
+
+        log.info("시즌 내보내기 작업 등록: jobId={}, clubId={}, 게임 수={}", job.getId(), clubId, games.size());
+        return toDto(job);
+    }
+
+    @Override
+    public ExportJobRespDto getJob(String jobId) {
+        return toDto(findJob(jobId));
+    }
+
+    @Override
+    public Resource getFile(String jobId) {
+        ExportJob job = findJob(jobId);
+        if (job.getFile() == null) {
+            throw new ExportNotReadyException();
+        }
+        // 캐시 디렉터리 정리 등으로 파일이 없어졌으면 작업도 만료 처리 (다시 요청하면 새로 만듦)
+        if (!Files.isRegularFile(job.getFile())) {
+            jobs.invalidate(jobId);
+            throw new ExportJobNotFoundException();
+        }
+        return new FileSystemResource(job.getFile());
+    }
+
+    private void run(ExportJob job, String group, List<Game> games) {
+        job.start();
+        try {
+            Path file = exportFileCache.store(group, job.getCacheKey(), out ->
+                    excelExportService.writeSeason(games, out, exportExecutors.getLoadExecutor(),
+                            exportExecutors.getLoadThreads(), job::progress));
+            job.complete(file);
+            log.info("시즌 내보내기 완료: jobId={}, 게임 수={}", job.getId(), games.size());
+        } catch (Exception e) {
+            job.fail("내보내기 중 오류가 발생했습니다.");
+            log.error("시즌 내보내기 실패: jobId={}", job.getId(), e);
+        } finally {
+            runningByCacheKey.remove(job.getCacheKey(), job);
+        }
+    }
+
+    private ExportJob findJob(String jobId) {
+        ExportJob job = jobs.getIfPresent(jobId);
+        if (job == null) {
+            Optional<ClusterMember> creator = creatorOf(jobId);
+            if (creator.isPresent()) {
+                throw new ExportJobOnOtherNodeException(creator.get().url());
+            }
+            throw new ExportJobNotFoundException();
+        }
+        checkManager(job.getClubId());
+        return job;
+    }
+
+    // 작업을 만든 노드가 이 노드가 아니고 아직 살아 있으면 그 노드
+    private Optional<ClusterMember> creatorOf(String jobId) {
+        int separator = jobId.lastIndexOf(JOB_ID_SEPARATOR);
+        if (separator <= 0) {
+            return Optional.empty();
+        }
+        String nodeId = jobId.substring(0, separator);
+        if (nodeId.equals(clusterNode.getId())) {
+            return Optional.empty();
+        }
+        return clusterMembership.members().stream()
+                .filter(member -> member.id().equals(nodeId))
+                .findFirst();
+    }
+
+    // 클럽 운영진(MASTER/STAFF)만 시즌 내보내기 가능
+    private void checkManager(Long clubId) {
+        currentUserProvider.requireManager(clubId);
+    }
+
+    // 게임 / 스코어보드 중 가장 최근 수정 시각 (게임이 없으면 0)
+    private Instant lastModified(List<Game> games) {
+        Instant lastModified = Instant.EPOCH;
+        for (Game game : games) {
+            if (game.getUpdatedAt() != null && game.getUpdatedAt().isAfter(lastModified)) {
+                lastModified = game.getUpdatedAt();
+            }
+        }
+
+        Instant scoreboardModified = scoreboardRepository.findLastModifiedAtByGameIds(games.stream().map(Game::getId).toList());
+        if (scoreboardModified != null && scoreboardModified.isAfter(lastModified)) {
+            lastModified = scoreboardModified;
+        }
+        return lastModified;
+    }
+
+    private String dateKey(LocalDate date) {
+        return date == null ? "all" : date.toString();
+    }
+
+    private ExportJobRespDto toDto(ExportJob job) {
+        return new ExportJobRespDto(job.getId(), job.getStatus(), job.getTotalGames(),
+                job.getWrittenGames().get(), job.getError(), job.getCreatedAt(),
+                clusterNode.getId(), clusterNode.getUrl());
+    }
+}
@@ -0,0 +1,159 @@
+package com.kh.pinpal2.export.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.kh.pinpal2.base.exception.game.GameNotFoundException;
+import com.kh.pinpal2.base.service.ExcelExportService;
+import com.kh.pinpal2.game.entity.Game;
+import com.kh.pinpal2.game.repository.GameRepository;
+import com.kh.pinpal2.scoreboard.repository.ScoreboardRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.*;
+
+/**
+ * 종료된 게임의 엑셀 파일 캐시
+ * - 버전 = max(게임 updatedAt, 스코어보드 updatedAt) → ETag로도 사용
+ * - 파일은 디스크(ExportFileCache)에, 게임별 위치/크기는 Caffeine 인덱스에 보관 (전체 바이트 수 제한)
+ * - 인덱스에서 빠지면 deleteDelayMillis 뒤에 파일 삭제 (이미 돌려준 응답이 파일을 열 시간을 둠),
+ *   재시작 후에는 디스크에 남은 같은 버전 파일을 다시 인덱스에 올림
+ * - 파일 하나가 maxBytes보다 크면 인덱스에 넣지 않고 디스크 캐시만 사용 (넣자마자 밀려나므로)
+ * - 같은 버전을 동시에 요청하면 한 번만 만들고 나머지는 결과를 기다림 (맵 잠금 밖에서 생성)
+ * - 진행 중인 게임은 캐시하지 않음 (메모리에만 있는 점수가 있으므로)
+ */
+@Slf4j
+@Component
+public class GameExportCache {
+
+    private final ExcelExportService excelExportService;
+    private final ExportFileCache exportFileCache;
+    private final GameRepository gameRepository;
+    private final ScoreboardRepository scoreboardRepository;
+    private final Cache<Long, CachedGameExport> index;
+    private final Map<String, CompletableFuture<CachedGameExport>> loading = new ConcurrentHashMap<>();
+    private final long maxBytes;
+    private final Executor deleteExecutor;
+
+    public GameExportCache(ExcelExportService excelExportService,
+                           ExportFileCache exportFileCache,
+                           GameRepository gameRepository,
+                           ScoreboardRepository scoreboardRepository,
+                           @Value("${pinpal.export.game-cache.max-bytes:268435456}") long maxBytes,
+                           @Value("${pinpal.export.game-cache.delete-delay-ms:60000}") long deleteDelayMillis) {
+        this.excelExportService = excelExportService;
+        this.exportFileCache = exportFileCache;
+        this.gameRepository = gameRepository;
+        this.scoreboardRepository = scoreboardRepository;
+        this.maxBytes = maxBytes;
+        this.deleteExecutor = CompletableFuture.delayedExecutor(deleteDelayMillis, TimeUnit.MILLISECONDS);
+        this.index = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Long gameId, CachedGameExport export) -> (int) Math.min(export.size(), Integer.MAX_VALUE))
+                .removalListener((Long gameId, CachedGameExport export, RemovalCause cause) -> {
+                    if (export != null) {
+                        deleteExecutor.execute(() -> deleteIfUnused(gameId, export.file()));
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * 종료된 게임이면 캐시된(없으면 새로 만든) 파일, 진행 중인 게임이면 empty
+     */
+    public Optional<CachedGameExport> resolve(Long gameId) {
+        Game game = gameRepository.findById(gameId).orElseThrow(GameNotFoundException::new);
+        if (!"FINISHED".equals(game.getStatus())) {
+            return Optional.empty();
+        }
+
+        String etag = "\"game-" + gameId + "-" + version(game).toEpochMilli() + "\"";
+        CachedGameExport cached = index.getIfPresent(gameId);
+        if (cached != null && cached.etag().equals(etag) && Files.isRegularFile(cached.file())) {
+            return Optional.of(cached);
+        }
+
+        return Optional.of(loadOnce(gameId, etag));
+    }
+
+    public void evict(Long gameId) {
+        index.invalidate(gameId);
+    }
+
+    // 같은 버전은 한 스레드만 만들고 나머지는 그 결과를 기다림
+    private CachedGameExport loadOnce(Long gameId, String etag) {
+        CompletableFuture<CachedGameExport> future = new CompletableFuture<>();
+        CompletableFuture<CachedGameExport> running = loading.putIfAbsent(etag, future);
+        if (running != null) {
+            try {
+                return running.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+
+        try {
+            CachedGameExport export = load(gameId, etag);
+            if (export.size() <= maxBytes) {
+                index.put(gameId, export);
+            } else {
+                log.info("게임 엑셀 파일이 캐시 한도보다 커서 인덱스에 넣지 않음: gameId={}, size={}", gameId, export.size());
+            }
+            future.complete(export);
+            return export;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(etag, future);
+        }
+    }
+
+    private CachedGameExport load(Long gameId, String etag) {
+        String group = "game-" + gameId + "-";
+        String key = etag.replace("\"", "");
+
+        Path file = exportFileCache.find(key).orElseGet(() -> {
+            log.info("게임 엑셀 캐시 생성: gameId={}, version={}", gameId, key);
+            return exportFileCache.store(group, key, out -> excelExportService.writeScoreboard(gameId, out));
+        });
+
+        try {
+            return new CachedGameExport(etag, file, Files.size(file));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Instant version(Game game) {
+        Instant version = game.getUpdatedAt() == null ? Instant.EPOCH : game.getUpdatedAt();
+        Instant scoreboardModified = scoreboardRepository.findLastModifiedAtByGameIds(List.of(game.getId()));
+        return scoreboardModified != null && scoreboardModified.isAfter(version) ? scoreboardModified : version;
+    }
+
+    // 그 사이 같은 파일이 다시 인덱스에 올라왔으면 삭제하지 않음
+    private void deleteIfUnused(Long gameId, Path file) {
+        CachedGameExport current = index.getIfPresent(gameId);
+        if (current != null && current.file().equals(file)) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("게임 엑셀 캐시 파일 삭제 실패: {}, {}", file, e.getMessage());
+        }
+    }
+
+    public record CachedGameExport(String etag, Path file, long size) {
+    }
+}
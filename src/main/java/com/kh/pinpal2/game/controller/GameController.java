@@ -1,19 +1,28 @@
 package com.kh.pinpal2.game.controller;
 
+import com.kh.pinpal2.base.cluster.ClusterMember;
+import com.kh.pinpal2.base.cluster.GameAffinityRing;
 import com.kh.pinpal2.base.dto.PageResponse;
+import com.kh.pinpal2.base.provider.CurrentUserProvider;
 import com.kh.pinpal2.base.service.ExcelExportService;
+import com.kh.pinpal2.base.service.ScoreboardHistoryExportService;
+import com.kh.pinpal2.export.service.GameExportCache;
 import com.kh.pinpal2.game.dto.*;
 import com.kh.pinpal2.game.service.GameService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequiredArgsConstructor
@@ -22,6 +31,10 @@ public class GameController {
 
     private final GameService gameService;
     private final ExcelExportService excelExportService;
+    private final ScoreboardHistoryExportService scoreboardHistoryExportService;
+    private final GameExportCache gameExportCache;
+    private final GameAffinityRing gameAffinityRing;
+    private final CurrentUserProvider currentUserProvider;
 
     @GetMapping
     public ResponseEntity<PageResponse<GameRespDto>> findAllByClubId(
@@ -55,6 +68,14 @@ public class GameController {
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
 
+    // /ws 연결 전에 호출: 이 게임을 맡는 노드 (같은 게임의 소켓이 한 노드로 모이도록)
+    @GetMapping("/{gameId}/affinity")
+    public ResponseEntity<GameAffinityRespDto> getAffinity(@PathVariable Long gameId) {
+        ClusterMember owner = gameAffinityRing.ownerOf(gameId);
+        GameAffinityRespDto response = new GameAffinityRespDto(gameId, owner.id(), owner.url(), gameAffinityRing.isLocal(gameId));
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+
     @PostMapping("/{gameId}/scoreboards")
     public ResponseEntity<GameRespDto> joinGame(@PathVariable Long gameId, @RequestParam Long clubId) {
         GameRespDto response = gameService.joinGame(gameId, clubId);
@@ -68,12 +89,62 @@ public class GameController {
     }
 
     @GetMapping("/{gameId}/export/scoreboards")
-    public ResponseEntity<byte[]> exportScoreboards(@PathVariable Long gameId) {
-        byte[] response = excelExportService.exportScoreboardToExcel(gameId);
+    public ResponseEntity<?> exportScoreboards(@PathVariable Long gameId, WebRequest webRequest) {
+        // 종료된 게임: 캐시된 파일 + ETag (변경이 없으면 304)
+        Optional<GameExportCache.CachedGameExport> cached = gameExportCache.resolve(gameId);
+        if (cached.isPresent()) {
+            String etag = cached.get().etag();
+            if (webRequest.checkNotModified(etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+            }
+
+            return ResponseEntity.status(HttpStatus.OK)
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=scoreboard.xlsx")
+                    .eTag(etag)
+                    .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                    .body(new FileSystemResource(cached.get().file()));
+        }
+
+        StreamingResponseBody response = out -> excelExportService.writeScoreboard(gameId, out);
 
         return ResponseEntity.status(HttpStatus.OK)
                 .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=scoreboard.xlsx")
                 .contentType(MediaType.APPLICATION_OCTET_STREAM)
                 .body(response);
     }
+
+    @GetMapping("/{clubId}/export/history")
+    public ResponseEntity<StreamingResponseBody> exportHistory(@PathVariable Long clubId, LocalDate startDate, LocalDate endDate,
+                                                               @RequestParam(required = false, defaultValue = "csv") String format) {
+        currentUserProvider.requireManager(clubId);
+
+        if ("columnar".equals(format)) {
+            StreamingResponseBody response = out -> scoreboardHistoryExportService.writeColumnar(clubId, startDate, endDate, out);
+
+            return ResponseEntity.status(HttpStatus.OK)
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=history.ppcol")
+                    .contentType(MediaType.parseMediaType(ScoreboardHistoryExportService.COLUMNAR_CONTENT_TYPE))
+                    .body(response);
+        }
+
+        StreamingResponseBody response = out -> scoreboardHistoryExportService.writeCsv(clubId, startDate, endDate, out);
+
+        return ResponseEntity.status(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=history.csv")
+                .contentType(MediaType.parseMediaType(ScoreboardHistoryExportService.CSV_CONTENT_TYPE))
+                .body(response);
+    }
+
+    @GetMapping("/{clubId}/export/season")
+    public ResponseEntity<StreamingResponseBody> exportSeason(@PathVariable Long clubId, LocalDate startDate, LocalDate endDate) {
+        // 스트리밍 응답은 응답이 시작된 뒤 실행되므로 권한은 여기서 먼저 확인
+        currentUserProvider.requireManager(clubId);
+
+        StreamingResponseBody response = out -> excelExportService.writeSeason(clubId, startDate, endDate, out);
+
+        return ResponseEntity.status(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=season.xlsx")
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .body(response);
+    }
 }
@@ -0,0 +1,13 @@
+package com.kh.pinpal2.game.dto;
+
+/**
+ * @param url   주인 노드 주소 (비어 있으면 지금 접속한 주소로 /ws 연결)
+ * @param local 이 요청을 받은 노드가 주인이면 true
+ */
+public record GameAffinityRespDto(
+        Long gameId,
+        String nodeId,
+        String url,
+        boolean local
+) {
+}
@@ -0,0 +1,30 @@
+package com.kh.pinpal2.game.dto;
+
+import com.kh.pinpal2.game.entity.GameType;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * 클럽 스코어보드 기록 조회용 한 행 (게임 컬럼 + 스코어보드 컬럼)
+ * - 참가자가 없는 게임은 스코어보드 컬럼이 모두 null
+ */
+public record GameScoreboardRow(
+        Long gameId,
+        String gameName,
+        GameType gameType,
+        boolean scoreCounting,
+        LocalDate date,
+        LocalTime time,
+        String status,
+        boolean isDelete,
+        Long userId,
+        Integer score1,
+        Integer score2,
+        Integer score3,
+        Integer score4,
+        Integer grade,
+        Integer avg,
+        Integer teamNumber
+) {
+}
@@ -10,11 +10,11 @@ import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
-import java.util.Map;
 
 @Entity
 @Getter
 @NoArgsConstructor
+@Table(indexes = @Index(name = "idx_game_club_status_date", columnList = "club_id, status, date"))
 public class Game extends BaseUpdatableEntity {
 
     @Column
@@ -33,9 +33,6 @@ public class Game extends BaseUpdatableEntity {
     @Column(name = "card_draw", nullable = false)
     private Boolean cardDraw = false;
 
-    @Column(name = "card_draw_data", columnDefinition = "TEXT")
-    private String cardDrawData;
-
     @Column
     private LocalDate date;
 
@@ -108,12 +105,4 @@ public class Game extends BaseUpdatableEntity {
     public Boolean isCardDraw() {
         return this.cardDraw != null ? this.cardDraw : false;
     }
-
-    public void setCardDrawData(String cardDrawData) {
-        this.cardDrawData = cardDrawData;
-    }
-
-    public String getCardDrawData() {
-        return this.cardDrawData;
-    }
 }
@@ -1,5 +1,6 @@
 package com.kh.pinpal2.game.repository;
 
+import com.kh.pinpal2.game.dto.GameScoreboardRow;
 import com.kh.pinpal2.game.entity.Game;
 import com.querydsl.core.Tuple;
 
@@ -7,9 +8,13 @@ import java.time.Instant;
 import java.time.LocalDate;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 public interface GameCustomRepository {
     List<Game> findAllByClubId(Long clubId, Instant cursor, int size);
+    Map<Long, List<Long>> findUserIdsByGameIds(List<Long> gameIds);
     long countByClubIdAndCursor(Long clubId, Instant cursor);
     List<Game> findAllByClubIdAndFilter(Long clubId, LocalDate startDate, LocalDate endDate, String type);
+    Stream<GameScoreboardRow> streamScoreboardRowsByClubIdAndFilter(Long clubId, LocalDate startDate, LocalDate endDate, String type);
 }
@@ -1,5 +1,6 @@
 package com.kh.pinpal2.game.repository;
 
+import com.kh.pinpal2.game.dto.GameScoreboardRow;
 import com.kh.pinpal2.game.entity.Game;
 import com.kh.pinpal2.game.entity.GameType;
 import com.kh.pinpal2.game.entity.QGame;
@@ -7,15 +8,21 @@ import com.kh.pinpal2.scoreboard.entity.QScoreboard;
 import com.kh.pinpal2.user.entity.QUser;
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.stereotype.Repository;
 
 import java.time.Instant;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 @Repository
 @RequiredArgsConstructor
@@ -45,6 +52,32 @@ public class GameCustomRepositoryImpl implements GameCustomRepository {
                 .fetch();
     }
 
+    /**
+     * 여러 게임의 참가자 id를 한 번의 IN 쿼리로 조회 (gameId → userId 목록)
+     */
+    @Override
+    public Map<Long, List<Long>> findUserIdsByGameIds(List<Long> gameIds) {
+        if (gameIds.isEmpty()) {
+            return Map.of();
+        }
+
+        QScoreboard scoreboard = QScoreboard.scoreboard;
+
+        List<Tuple> rows = queryFactory
+                .select(scoreboard.game.id, scoreboard.user.id)
+                .distinct()
+                .from(scoreboard)
+                .where(scoreboard.game.id.in(gameIds))
+                .fetch();
+
+        Map<Long, List<Long>> userIdsByGameId = new HashMap<>();
+        for (Tuple row : rows) {
+            userIdsByGameId.computeIfAbsent(row.get(scoreboard.game.id), key -> new ArrayList<>())
+                    .add(row.get(scoreboard.user.id));
+        }
+        return userIdsByGameId;
+    }
+
     @Override
     public long countByClubIdAndCursor(Long clubId, Instant cursor) {
         QGame game = QGame.game;
@@ -63,10 +96,45 @@ public class GameCustomRepositoryImpl implements GameCustomRepository {
                 .fetchOne();
     }
 
+    /**
+     * 종료된 게임 + 스코어보드를 한 번에 조회 (게임 순서대로 정렬, 커서로 흘려보냄)
+     * - 호출하는 쪽에서 Stream을 닫아야 함
+     */
+    @Override
+    public Stream<GameScoreboardRow> streamScoreboardRowsByClubIdAndFilter(Long clubId, LocalDate startDate, LocalDate endDate, String type) {
+        QGame game = QGame.game;
+        QScoreboard scoreboard = QScoreboard.scoreboard;
+
+        return queryFactory
+                .select(Projections.constructor(GameScoreboardRow.class,
+                        game.id, game.name, game.type, game.scoreCounting,
+                        game.date, game.time, game.status, game.isDelete,
+                        scoreboard.user.id,
+                        scoreboard.score1, scoreboard.score2, scoreboard.score3, scoreboard.score4,
+                        scoreboard.grade, scoreboard.avg, scoreboard.teamNumber
+                ))
+                .from(game)
+                .leftJoin(scoreboard).on(scoreboard.game.id.eq(game.id))
+                .where(finishedGameFilter(game, clubId, startDate, endDate, type))
+                .orderBy(game.date.desc(), game.time.desc(), game.id.desc(), scoreboard.id.asc())
+                .setHint(HibernateHints.HINT_FETCH_SIZE, 500)
+                .stream();
+    }
+
     @Override
     public List<Game> findAllByClubIdAndFilter(Long clubId, LocalDate startDate, LocalDate endDate, String type) {
         QGame game = QGame.game;
 
+        return queryFactory
+                .select(game)
+                .from(game)
+                .where(finishedGameFilter(game, clubId, startDate, endDate, type))
+                .orderBy(game.date.desc(), game.time.desc())
+                .fetch();
+    }
+
+    // 클럽의 종료된 게임 + 날짜 범위/타입 필터 (club_id, status, date 인덱스 사용)
+    private BooleanBuilder finishedGameFilter(QGame game, Long clubId, LocalDate startDate, LocalDate endDate, String type) {
         BooleanBuilder builder = new BooleanBuilder();
         builder.and(game.club.id.eq(clubId));
         builder.and(game.status.eq("FINISHED"));
@@ -84,11 +152,6 @@ public class GameCustomRepositoryImpl implements GameCustomRepository {
             builder.and(game.type.eq(GameType.valueOf(type)));
         }
 
-        return queryFactory
-                .select(game)
-                .from(game)
-                .where(builder)
-                .orderBy(game.date.desc(), game.time.desc())
-                .fetch();
+        return builder;
     }
 }
@@ -8,11 +8,13 @@ import com.kh.pinpal2.base.exception.game.GameNotFoundException;
 import com.kh.pinpal2.base.exception.game.UserAlreadyJoinedGameException;
 import com.kh.pinpal2.base.exception.user.UserNotFoundException;
 import com.kh.pinpal2.base.mapper.PageResponseMapper;
-import com.kh.pinpal2.base.util.SecurityUtil;
+import com.kh.pinpal2.base.provider.CurrentUserProvider;
+import com.kh.pinpal2.card_draw_slot.repository.CardDrawSlotRepository;
 import com.kh.pinpal2.ceremony.repository.CeremonyRepository;
 import com.kh.pinpal2.ceremony_user.repository.CeremonyUserRepository;
 import com.kh.pinpal2.club.entity.Club;
 import com.kh.pinpal2.club.repository.ClubRepository;
+import com.kh.pinpal2.club_member_stats.repository.ClubMemberStatsRepository;
 import com.kh.pinpal2.game.dto.*;
 import com.kh.pinpal2.game.entity.Game;
 import com.kh.pinpal2.game.mapper.GameMapper;
@@ -20,15 +22,18 @@ import com.kh.pinpal2.game.repository.GameRepository;
 import com.kh.pinpal2.scoreboard.dto.ScoreboardMemberRow;
 import com.kh.pinpal2.scoreboard.dto.ScoreboardRespDto;
 import com.kh.pinpal2.scoreboard.entity.Scoreboard;
+import com.kh.pinpal2.scoreboard.carddraw.CardDrawRegistry;
+import com.kh.pinpal2.scoreboard.live.LiveGameRegistry;
+import com.kh.pinpal2.scoreboard.snapshot.ScoreboardSnapshotCache;
 import com.kh.pinpal2.scoreboard.repository.ScoreboardRepository;
 import com.kh.pinpal2.user.entity.User;
-import com.kh.pinpal2.user.repository.UserRepository;
-import com.kh.pinpal2.user_club.entity.ClubRole;
+import com.kh.pinpal2.user.dto.AuthUser;
 import com.kh.pinpal2.user_club.entity.UserClub;
 import com.kh.pinpal2.user_club.repository.UserClubRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -37,8 +42,11 @@ import java.time.Instant;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -46,7 +54,6 @@ public class GameServiceImpl implements GameService {
 
     private final GameRepository gameRepository;
     private final ClubRepository clubRepository;
-    private final UserRepository userRepository;
     private final UserClubRepository userClubRepository;
     private final ScoreboardRepository scoreboardRepository;
     private final CeremonyRepository ceremonyRepository;
@@ -54,10 +61,16 @@ public class GameServiceImpl implements GameService {
     private final GameMapper gameMapper;
     private final PageResponseMapper pageResponseMapper;
     private final ApplicationEventPublisher eventPublisher;
+    private final LiveGameRegistry liveGameRegistry;
+    private final ScoreboardSnapshotCache snapshotCache;
+    private final CardDrawRegistry cardDrawRegistry;
+    private final CardDrawSlotRepository cardDrawSlotRepository;
+    private final ClubMemberStatsRepository clubMemberStatsRepository;
+    private final CurrentUserProvider currentUserProvider;
 
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(cacheNames = "games", key = "#clubId", condition = "#cursor == null")
+    @Cacheable(cacheNames = "games", key = "#clubId", condition = "#cursor == null", sync = true)
     public PageResponse<GameRespDto> findAllByClubId(Long clubId, Instant cursor) {
         List<Game> games = gameRepository.findAllByClubId(clubId, cursor, 50);
 
@@ -68,13 +81,19 @@ public class GameServiceImpl implements GameService {
                 ? null
                 : content.get(content.size() - 1).getCreatedAt();
 
-        // 전체 개수(totalElements) 조회
-        long totalElements = gameRepository.countByClubIdAndCursor(clubId, cursor);
+        // 전체 개수(totalElements) 조회 (다음 페이지가 없으면 조회한 개수가 곧 전체 개수)
+        long totalElements = games.size() > 50
+                ? gameRepository.countByClubIdAndCursor(clubId, cursor)
+                : content.size();
+
+        // 참가자 id는 모든 게임에 대해 한 번에 조회
+        Map<Long, List<Long>> userIdsByGameIds = gameRepository.findUserIdsByGameIds(
+                content.stream().map(Game::getId).toList());
 
         // DTO 변환
         List<GameRespDto> list = content.stream()
                 .map(game -> {
-                    List<Long> userIdsByGameId = gameRepository.findUserIdsByGameId(game.getId());
+                    List<Long> userIdsByGameId = userIdsByGameIds.getOrDefault(game.getId(), List.of());
 
                     return gameMapper.toDto(game, userIdsByGameId.size(), userIdsByGameId);
                 })
@@ -97,15 +116,7 @@ public class GameServiceImpl implements GameService {
                 ClubNotFoundException::new
         );
 
-        User user = SecurityUtil.getCurrentUser(userRepository);
-
-        UserClub userClub = userClubRepository.findByClubIdAndUserId(club.getId(), user.getId()).orElseThrow(
-                PermissionDeniedException::new
-        );
-
-        if (userClub.getRole().equals(ClubRole.MEMBER)) {
-            throw new PermissionDeniedException();
-        }
+        currentUserProvider.requireManager(club.getId());
 
         Game game = new Game(gameCreateDto, club);
         Game savedGame = gameRepository.save(game);
@@ -125,15 +136,11 @@ public class GameServiceImpl implements GameService {
                 ClubNotFoundException::new
         );
 
-        User user = SecurityUtil.getCurrentUser(userRepository);
+        currentUserProvider.requireManager(club.getId());
 
-        UserClub userClub = userClubRepository.findByClubIdAndUserId(club.getId(), user.getId()).orElseThrow(
-                PermissionDeniedException::new
-        );
-
-        if (userClub.getRole().equals(ClubRole.MEMBER)) {
-            throw new PermissionDeniedException();
-        }
+        // 상태 변경 전에 메모리 점수를 반영하고 진행 중 게임 상태를 다시 적재하도록 해제
+        liveGameRegistry.flushAndEvict(game.getId());
+        snapshotCache.evict(game.getId());
 
         game.update(gameUpdateDto);
         Game savedGame = gameRepository.save(game);
@@ -145,19 +152,31 @@ public class GameServiceImpl implements GameService {
 
     @Override
     @Transactional
-    @CacheEvict(cacheNames = "games", key = "#clubId")
+    @Caching(evict = {
+        @CacheEvict(cacheNames = "games", key = "#clubId"),
+        @CacheEvict(cacheNames = "scoreboards", key = "#clubId")   // 종료된 게임이면 스코어보드 목록에 포함되어 있음
+    })
     public void deleteGame(Long gameId, Long clubId) {
         if (!gameRepository.existsById(gameId)) throw new GameNotFoundException();
 
-        User user = SecurityUtil.getCurrentUser(userRepository);
         Game game = gameRepository.findById(gameId).orElseThrow(GameNotFoundException::new);
-        UserClub userClub = userClubRepository.findByClubIdAndUserId(clubId, user.getId()).orElseThrow(UserNotFoundException::new);
+        if (currentUserProvider.findRole(clubId).isEmpty()) {
+            throw new UserNotFoundException();
+        }
 
-        if (!game.getClub().getId().equals(userClub.getClub().getId())) {
+        if (!game.getClub().getId().equals(clubId)) {
             throw new PermissionDeniedException();
         }
 
+        liveGameRegistry.evict(gameId);
+        snapshotCache.evict(gameId);
+        cardDrawRegistry.evict(gameId);
         scoreboardRepository.deleteByGameIds(List.of(gameId));
+        cardDrawSlotRepository.deleteByGameIds(List.of(gameId));
+        // 이미 집계된 게임이면 집계 표시만 지우고 ClubMemberStatsBackfill이 다시 계산 (그 전까지는 기존 통계 유지)
+        if ("FINISHED".equals(game.getStatus())) {
+            clubMemberStatsRepository.clearBuilt(game.getClub().getId());
+        }
 
         List<Long> ceremonyIds = ceremonyRepository.findIdsByGameIds(List.of(gameId));
         if (!ceremonyIds.isEmpty()) {
@@ -176,11 +195,12 @@ public class GameServiceImpl implements GameService {
                 GameNotFoundException::new
         );
 
-        User user = SecurityUtil.getCurrentUser(userRepository);
+        AuthUser currentUser = currentUserProvider.getCurrentUser();
 
-        UserClub userClub = userClubRepository.findByClubIdAndUserId(clubId, user.getId()).orElseThrow(
+        UserClub userClub = userClubRepository.findByClubIdAndUserId(clubId, currentUser.id()).orElseThrow(
             PermissionDeniedException::new
         );
+        User user = userClub.getUser();
 
         if (scoreboardRepository.existsByGameIdAndUserId(gameId, user.getId())) {
             throw new UserAlreadyJoinedGameException();
@@ -189,6 +209,10 @@ public class GameServiceImpl implements GameService {
         Scoreboard scoreboard = new Scoreboard(game, user, userClub.getAvg());
         Scoreboard savedScoreboard = scoreboardRepository.save(scoreboard);
 
+        // 참가자 구성이 바뀌었으므로 진행 중 게임 상태와 카드뽑기 상태는 다음 접근 시 다시 적재
+        liveGameRegistry.flushAndEvict(gameId);
+        cardDrawRegistry.evict(gameId);
+
         // 새로운 회원 참여 이벤트 발행
 
         ScoreboardMemberRow newUser = new ScoreboardMemberRow(
@@ -229,16 +253,16 @@ public class GameServiceImpl implements GameService {
                 GameNotFoundException::new
         );
 
-        User user = SecurityUtil.getCurrentUser(userRepository);
+        AuthUser currentUser = currentUserProvider.getCurrentUser();
+        currentUserProvider.requireMember(clubId);
 
-        userClubRepository.findByClubIdAndUserId(clubId, user.getId()).orElseThrow(
-                PermissionDeniedException::new
-        );
-
-        Scoreboard scoreboard = scoreboardRepository.findByGameIdAndUserId(gameId, user.getId()).orElseThrow(
+        Scoreboard scoreboard = scoreboardRepository.findByGameIdAndUserId(gameId, currentUser.id()).orElseThrow(
                 () -> new RuntimeException("참여하지 않은 게임입니다.")
         );
 
+        liveGameRegistry.flushAndEvict(gameId);
+        snapshotCache.evict(gameId);
+        cardDrawRegistry.evict(gameId);
         scoreboardRepository.deleteById(scoreboard.getId());
         List<Long> userIdsByGameId = gameRepository.findUserIdsByGameId(gameId);
         long userCount = userIdsByGameId.size();
@@ -253,11 +277,7 @@ public class GameServiceImpl implements GameService {
                 GameNotFoundException::new
         );
 
-        User user = SecurityUtil.getCurrentUser(userRepository);
-
-        userClubRepository.findByClubIdAndUserId(game.getClub().getId(), user.getId()).orElseThrow(
-                PermissionDeniedException::new
-        );
+        currentUserProvider.requireMember(game.getClub().getId());
 
         return scoreboardRepository.findAllByGameId(gameId).stream()
                 .map(scoreboard -> new GameParticipantDto(
@@ -274,36 +294,68 @@ public class GameServiceImpl implements GameService {
     @Cacheable(
         cacheNames = "scoreboards",
         key = "#clubId",
-        condition = "#startDate == null && #endDate == null && type == null"
+        condition = "#startDate == null && #endDate == null && #type == null",
+        sync = true
     )
     public List<GameScoreboardsRespDto> getScoreboardByClubId(Long clubId, LocalDate startDate, LocalDate endDate, String type) {
         clubRepository.findById(clubId).orElseThrow(ClubNotFoundException::new);
 
-        List<GameRespDto> games = gameRepository.findAllByClubIdAndFilter(clubId, startDate, endDate, type).stream()
-                .map(game -> {
-                    List<Long> userIdsByGameId = gameRepository.findUserIdsByGameId(game.getId());
-                    return gameMapper.toDto(game, userIdsByGameId.size(), userIdsByGameId);
-                })
-                .toList();
-
         List<GameScoreboardsRespDto> result = new ArrayList<>();
 
-        games.forEach(game -> {
-            result.add(new GameScoreboardsRespDto(
-                    game, scoreboardRepository.findAllByGameId(game.id()).stream()
-                    .map(scoreboard -> new ScoreboardRespDto(
-                            scoreboard.getUser().getId(),
-                            scoreboard.getScore1(),
-                            scoreboard.getScore2(),
-                            scoreboard.getScore3(),
-                            scoreboard.getScore4(),
-                            scoreboard.getGrade(),
-                            scoreboard.getAvg(),
-                            scoreboard.getTeamNumber()
-                    )).toList()
-            ));
-        });
+        // 게임 + 스코어보드를 한 번의 쿼리로 받아 게임 단위로 묶음 (게임 순서대로 정렬되어 있음)
+        try (Stream<GameScoreboardRow> rows = gameRepository.streamScoreboardRowsByClubIdAndFilter(clubId, startDate, endDate, type)) {
+            GameScoreboardRow current = null;
+            Set<Long> participantUserIds = new LinkedHashSet<>();
+            List<ScoreboardRespDto> scoreboards = new ArrayList<>();
+
+            for (GameScoreboardRow row : (Iterable<GameScoreboardRow>) rows::iterator) {
+                if (current != null && !current.gameId().equals(row.gameId())) {
+                    result.add(toGameScoreboards(current, participantUserIds, scoreboards));
+                    participantUserIds = new LinkedHashSet<>();
+                    scoreboards = new ArrayList<>();
+                }
+                current = row;
+
+                if (row.userId() != null) {
+                    participantUserIds.add(row.userId());
+                    scoreboards.add(new ScoreboardRespDto(
+                            row.userId(),
+                            valueOrZero(row.score1()),
+                            valueOrZero(row.score2()),
+                            valueOrZero(row.score3()),
+                            valueOrZero(row.score4()),
+                            valueOrZero(row.grade()),
+                            valueOrZero(row.avg()),
+                            valueOrZero(row.teamNumber())
+                    ));
+                }
+            }
+            if (current != null) {
+                result.add(toGameScoreboards(current, participantUserIds, scoreboards));
+            }
+        }
 
         return result;
     }
+
+    private GameScoreboardsRespDto toGameScoreboards(GameScoreboardRow row, Set<Long> participantUserIds, List<ScoreboardRespDto> scoreboards) {
+        List<Long> userIds = List.copyOf(participantUserIds);
+        GameRespDto game = new GameRespDto(
+                row.gameId(),
+                row.gameName(),
+                row.gameType(),
+                row.scoreCounting(),
+                row.date(),
+                row.time(),
+                row.status(),
+                row.isDelete(),
+                userIds.size(),
+                userIds
+        );
+        return new GameScoreboardsRespDto(game, scoreboards);
+    }
+
+    private int valueOrZero(Integer value) {
+        return value != null ? value : 0;
+    }
 }
@@ -0,0 +1,55 @@
+package com.kh.pinpal2.scoreboard.broadcast;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * compact 포맷으로 구독 중인 세션 수를 게임별로 관리
+ * - 구독자가 없는 게임은 compact 프레임 인코딩 자체를 생략하기 위함
+ */
+@Component
+public class CompactSubscriptionRegistry {
+
+    private final Map<Long, AtomicInteger> countByGameId = new ConcurrentHashMap<>();
+    // sessionId → (subscriptionId → gameId)
+    private final Map<String, Map<String, Long>> subscriptionsBySession = new ConcurrentHashMap<>();
+
+    public void subscribe(String sessionId, String subscriptionId, Long gameId) {
+        Long previous = subscriptionsBySession
+                .computeIfAbsent(sessionId, key -> new ConcurrentHashMap<>())
+                .put(subscriptionId, gameId);
+        if (previous == null) {
+            countByGameId.computeIfAbsent(gameId, key -> new AtomicInteger()).incrementAndGet();
+        }
+    }
+
+    public void unsubscribe(String sessionId, String subscriptionId) {
+        Map<String, Long> subscriptions = subscriptionsBySession.get(sessionId);
+        if (subscriptions == null) {
+            return;
+        }
+        Long gameId = subscriptions.remove(subscriptionId);
+        if (gameId != null) {
+            decrement(gameId);
+        }
+    }
+
+    public void disconnect(String sessionId) {
+        Map<String, Long> subscriptions = subscriptionsBySession.remove(sessionId);
+        if (subscriptions != null) {
+            subscriptions.values().forEach(this::decrement);
+        }
+    }
+
+    public boolean hasSubscribers(Long gameId) {
+        AtomicInteger count = countByGameId.get(gameId);
+        return count != null && count.get() > 0;
+    }
+
+    private void decrement(Long gameId) {
+        countByGameId.computeIfPresent(gameId, (key, count) -> count.decrementAndGet() <= 0 ? null : count);
+    }
+}
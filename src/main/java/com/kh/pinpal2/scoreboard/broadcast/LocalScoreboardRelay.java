@@ -0,0 +1,61 @@
+package com.kh.pinpal2.scoreboard.broadcast;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * 같은 JVM 안의 노드끼리 쓰는 릴레이 (단일 노드 / 테스트용)
+ * - LocalClusterMembership과 같이 인스턴스 목록을 static으로 공유 → 한 JVM의 다른 애플리케이션 컨텍스트에 바로 전달
+ * - 자기 자신이 보낸 이벤트는 전달하지 않음 (PostgresScoreboardRelay와 동일)
+ * - 전달은 인스턴스마다 스레드 하나에서 순서대로 (publish는 게임 잠금을 쥔 채 호출되므로 받는 쪽 잠금을 기다리지 않도록)
+ */
+@Component
+@ConditionalOnProperty(name = "pinpal.scoreboard.relay.type", havingValue = "local", matchIfMissing = true)
+public class LocalScoreboardRelay implements ScoreboardRelay {
+
+    private static final Set<LocalScoreboardRelay> INSTANCES = ConcurrentHashMap.newKeySet();
+
+    private final List<Consumer<RelayedScoreboardEvent>> listeners = new CopyOnWriteArrayList<>();
+    private final ExecutorService delivery = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "local-scoreboard-relay");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @PostConstruct
+    public void join() {
+        INSTANCES.add(this);
+    }
+
+    @PreDestroy
+    public void leave() {
+        INSTANCES.remove(this);
+        delivery.shutdown();
+    }
+
+    @Override
+    public void publish(RelayedScoreboardEvent event) {
+        delivery.execute(() -> {
+            for (LocalScoreboardRelay instance : INSTANCES) {
+                if (instance != this) {
+                    instance.listeners.forEach(listener -> listener.accept(event));
+                }
+            }
+        });
+    }
+
+    @Override
+    public void subscribe(Consumer<RelayedScoreboardEvent> listener) {
+        listeners.add(listener);
+    }
+}
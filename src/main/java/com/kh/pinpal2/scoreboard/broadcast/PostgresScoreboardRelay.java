@@ -0,0 +1,178 @@
+package com.kh.pinpal2.scoreboard.broadcast;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kh.pinpal2.base.cluster.ClusterNode;
+import com.kh.pinpal2.base.cluster.PgNotificationHub;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * PostgreSQL LISTEN/NOTIFY 기반 릴레이 (인스턴스가 여러 개일 때)
+ * - publish는 큐에만 넣고, flush-interval마다 모아서 순서대로 전송 (전송은 스케줄러 한 곳에서만 → 노드 내 순서 유지)
+ * - NOTIFY payload 제한(8000 bytes)을 넘는 묶음(카드뽑기 데이터 등)은 여러 조각으로 나눠 보내고 받는 쪽에서 합침
+ * - 조각 형식: "노드 메시지번호 조각번호 조각수\n데이터"
+ * - flush는 스케줄러와 종료 처리에서 동시에 불릴 수 있으므로 한 번에 하나만 (조각 순서 유지)
+ * - 전송에 실패한 게임은 다음 전송 때 resync 이벤트를 먼저 보내고, 수신 연결이 다시 붙으면 onReconnect 리스너 호출
+ *   → 어느 쪽이든 놓친 이벤트가 있는 게임의 클라이언트는 스냅샷을 다시 받음
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "pinpal.scoreboard.relay.type", havingValue = "postgres")
+public class PostgresScoreboardRelay implements ScoreboardRelay {
+
+    // 한글은 UTF-8로 3 bytes → 조각당 문자 수를 8000 / 3 보다 작게
+    private static final int MAX_CHARS_PER_PART = 2500;
+    private static final TypeReference<List<RelayedScoreboardEvent>> EVENTS = new TypeReference<>() {};
+
+    private final PgNotificationHub notificationHub;
+    private final ObjectMapper objectMapper;
+    private final String nodeId;
+    private final String channel;
+
+    private final Queue<RelayedScoreboardEvent> pending = new ConcurrentLinkedQueue<>();
+    private final List<Consumer<RelayedScoreboardEvent>> listeners = new CopyOnWriteArrayList<>();
+    private final List<Runnable> reconnectListeners = new CopyOnWriteArrayList<>();
+    private final Object flushLock = new Object();
+    // 전송에 실패해 다른 노드가 이벤트를 놓친 게임 (flushLock 안에서만 사용)
+    private final Set<Long> unsentGameIds = new LinkedHashSet<>();
+    private final AtomicLong messageIds = new AtomicLong();
+    // 보낸 노드 → 조립 중인 메시지 (한 노드의 조각은 순서대로 연속해서 도착)
+    private final Map<String, Partial> partials = new ConcurrentHashMap<>();
+
+    public PostgresScoreboardRelay(PgNotificationHub notificationHub,
+                                   ObjectMapper objectMapper,
+                                   ClusterNode clusterNode,
+                                   @Value("${pinpal.scoreboard.relay.channel:pinpal_scoreboard}") String channel) {
+        this.notificationHub = notificationHub;
+        this.objectMapper = objectMapper;
+        this.nodeId = clusterNode.getId();
+        this.channel = channel;
+        notificationHub.listen(channel, this::receive, this::reconnected);
+    }
+
+    @PreDestroy
+    public void stop() {
+        flush();
+    }
+
+    @Override
+    public void publish(RelayedScoreboardEvent event) {
+        pending.add(event);
+    }
+
+    @Override
+    public void subscribe(Consumer<RelayedScoreboardEvent> listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void onReconnect(Runnable listener) {
+        reconnectListeners.add(listener);
+    }
+
+    @Scheduled(fixedDelayString = "${pinpal.scoreboard.relay.flush-interval-ms:20}")
+    public void flush() {
+        synchronized (flushLock) {
+            if (pending.isEmpty() && unsentGameIds.isEmpty()) {
+                return;
+            }
+
+            List<RelayedScoreboardEvent> batch = new ArrayList<>();
+            unsentGameIds.forEach(gameId -> batch.add(new RelayedScoreboardEvent(nodeId, gameId,
+                    Map.of("type", ScoreboardBroadcaster.RESYNC, "gameId", gameId))));
+            RelayedScoreboardEvent event;
+            while ((event = pending.poll()) != null) {
+                batch.add(event);
+            }
+
+            try {
+                String data = objectMapper.writeValueAsString(batch);
+                long messageId = messageIds.incrementAndGet();
+                List<String> parts = split(data);
+                for (int i = 0; i < parts.size(); i++) {
+                    notificationHub.notify(channel, nodeId + " " + messageId + " " + i + " " + parts.size() + "\n" + parts.get(i));
+                }
+                unsentGameIds.clear();
+            } catch (JsonProcessingException | RuntimeException e) {
+                batch.forEach(failed -> unsentGameIds.add(failed.gameId()));
+                log.error("스코어보드 이벤트 릴레이 전송 실패: {}건, 다음 전송 때 resync, error={}", batch.size(), e.getMessage());
+            }
+        }
+    }
+
+    private void reconnected() {
+        partials.clear();
+        reconnectListeners.forEach(Runnable::run);
+    }
+
+    private void receive(String payload) {
+        int newline = payload.indexOf('\n');
+        String[] header = payload.substring(0, newline).split(" ");
+        String node = header[0];
+        if (nodeId.equals(node)) {
+            return;
+        }
+        long messageId = Long.parseLong(header[1]);
+        int index = Integer.parseInt(header[2]);
+        int total = Integer.parseInt(header[3]);
+        String data = payload.substring(newline + 1);
+
+        if (total > 1) {
+            Partial partial = index == 0 ? new Partial(messageId, new StringBuilder()) : partials.get(node);
+            if (partial == null || partial.messageId() != messageId) {
+                log.warn("스코어보드 릴레이 조각 누락: node={}, messageId={}", node, messageId);
+                partials.remove(node);
+                return;
+            }
+            partial.data().append(data);
+            if (index < total - 1) {
+                partials.put(node, partial);
+                return;
+            }
+            partials.remove(node);
+            data = partial.data().toString();
+        }
+
+        try {
+            objectMapper.readValue(data, EVENTS).forEach(event -> listeners.forEach(listener -> listener.accept(event)));
+        } catch (JsonProcessingException e) {
+            log.error("스코어보드 릴레이 수신 처리 실패: node={}, error={}", node, e.getMessage());
+        }
+    }
+
+    private static List<String> split(String data) {
+        List<String> parts = new ArrayList<>();
+        int from = 0;
+        while (from < data.length()) {
+            int to = Math.min(from + MAX_CHARS_PER_PART, data.length());
+            // 서로게이트 쌍이 조각 경계에서 나뉘지 않도록
+            if (to < data.length() && Character.isHighSurrogate(data.charAt(to - 1))) {
+                to--;
+            }
+            parts.add(data.substring(from, to));
+            from = to;
+        }
+        return parts;
+    }
+
+    private record Partial(long messageId, StringBuilder data) {
+    }
+}
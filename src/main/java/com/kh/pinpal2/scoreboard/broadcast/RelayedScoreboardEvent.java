@@ -0,0 +1,13 @@
+package com.kh.pinpal2.scoreboard.broadcast;
+
+import java.util.Map;
+
+/**
+ * @param payload seq가 포함된 이벤트 본문 (보낸 노드에서 부여한 seq)
+ */
+public record RelayedScoreboardEvent(
+        String node,
+        Long gameId,
+        Map<String, Object> payload
+) {
+}
@@ -0,0 +1,192 @@
+package com.kh.pinpal2.scoreboard.broadcast;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kh.pinpal2.base.cluster.ClusterNode;
+import com.kh.pinpal2.scoreboard.carddraw.CardDrawRegistry;
+import com.kh.pinpal2.scoreboard.live.LiveGameRegistry;
+import com.kh.pinpal2.scoreboard.snapshot.ScoreboardSnapshot;
+import com.kh.pinpal2.scoreboard.snapshot.ScoreboardSnapshotCache;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.util.StringUtils;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * /sub/scoreboard/{gameId} 로 나가는 모든 메시지의 단일 전송 지점
+ * - 게임별 시퀀스 번호(seq)를 부여하고 이벤트 로그에 기록 (재접속 시 이어받기용)
+ * - 이벤트당 한 번만 직렬화 (브로커가 같은 메시지를 구독자들에게 그대로 전달)
+ * - compact 구독자가 있는 게임은 /sub/scoreboard/{gameId}/compact 로 compact 프레임도 전송
+ * - 특정 세션에만 보내는 메시지는 /user/queue/scoreboard/{gameId} 로 전송
+ * - 상태 변경 이벤트는 ScoreboardRelay로 다른 노드에도 보내고, 다른 노드의 이벤트는 이 노드의 세션에 전달
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScoreboardBroadcaster {
+
+    public static final String DESTINATION_PREFIX = "/sub/scoreboard/";
+    public static final String COMPACT_SUFFIX = "/compact";
+    public static final String USER_DESTINATION_PREFIX = "/queue/scoreboard/";
+    public static final String RESYNC = "resync";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ScoreboardCompactEncoder compactEncoder;
+    private final CompactSubscriptionRegistry compactSubscriptionRegistry;
+    private final ScoreboardEventLog eventLog;
+    private final ObjectMapper objectMapper;
+    private final ScoreboardRelay relay;
+    private final ClusterNode clusterNode;
+    private final ScoreboardSnapshotCache snapshotCache;
+    private final LiveGameRegistry liveGameRegistry;
+    private final CardDrawRegistry cardDrawRegistry;
+
+    @PostConstruct
+    public void subscribeRelay() {
+        relay.subscribe(this::receive);
+        relay.onReconnect(() -> eventLog.gameIds().forEach(this::resync));
+    }
+
+    /**
+     * 상태 변경 이벤트 전송 (seq 증가 + 이벤트 로그 기록)
+     */
+    public void broadcast(Long gameId, Map<String, Object> payload) {
+        ScoreboardEventLog.GameEvents events = eventLog.of(gameId);
+
+        // seq 부여와 전송 순서를 게임 단위로 맞춤 (relay.publish는 큐에만 넣으므로 다른 노드의 잠금을 기다리지 않음)
+        synchronized (events) {
+            events.append(payload);
+            send(gameId, payload);
+            relay.publish(new RelayedScoreboardEvent(clusterNode.getId(), gameId, payload));
+        }
+    }
+
+    /**
+     * 다른 노드에서 온 이벤트를 이 노드의 세션에 전달
+     * - 보낸 노드의 seq를 그대로 기록하고, 이 노드의 스냅샷/카드뽑기 상태는 그 변경을 모르므로 제거
+     * - seq가 이 노드의 로그에 이어지지 않으면 resync 표시한 복사본을 전송 (클라이언트가 스냅샷을 다시 받음)
+     * - 점수 변경은 이 노드의 메모리 점수에도 반영 (write-behind flush가 예전 점수로 덮어쓰지 않도록)
+     */
+    private void receive(RelayedScoreboardEvent event) {
+        if (clusterNode.getId().equals(event.node())) {
+            return;
+        }
+        Long gameId = event.gameId();
+        Map<String, Object> payload = event.payload();
+        if (RESYNC.equals(payload.get("type"))) {
+            resync(gameId);
+            return;
+        }
+        ScoreboardEventLog.GameEvents events = eventLog.of(gameId);
+
+        synchronized (events) {
+            Map<String, Object> recorded = events.record((String) payload.get("epoch"), ((Number) payload.get("seq")).longValue(), payload);
+            applyToLocalState(gameId, payload);
+            snapshotCache.evict(gameId);
+            cardDrawRegistry.evict(gameId);
+            send(gameId, recorded);
+        }
+    }
+
+    /**
+     * 다른 노드의 이벤트를 놓쳤을 수 있는 게임을 다시 맞춤 (릴레이 재접속, 보낸 노드의 전송 실패)
+     * - 메모리 점수는 놓친 변경을 모르므로 반영 후 내려 다음 요청 때 DB에서 다시 적재
+     * - 이 노드의 세션에 resync 이벤트를 보내 스냅샷을 다시 받게 함 (다른 노드로는 보내지 않음)
+     */
+    public void resync(Long gameId) {
+        try {
+            liveGameRegistry.flushAndEvict(gameId);
+        } catch (RuntimeException e) {
+            log.error("resync 중 게임 상태 반영 실패: gameId={}, error={}", gameId, e.getMessage());
+        }
+
+        ScoreboardEventLog.GameEvents events = eventLog.of(gameId);
+        synchronized (events) {
+            Map<String, Object> payload = new HashMap<>();
+            payload.put("type", RESYNC);
+            payload.put("gameId", gameId);
+            payload.put("timestamp", System.currentTimeMillis());
+            events.resync(payload);
+            snapshotCache.evict(gameId);
+            cardDrawRegistry.evict(gameId);
+            send(gameId, payload);
+        }
+        log.warn("다른 노드의 스코어보드 이벤트를 놓쳤을 수 있어 resync 전송: gameId={}", gameId);
+    }
+
+    /**
+     * 요청한 세션 하나에만 전송 (/user/queue/scoreboard/{gameId})
+     */
+    public void sendToSession(Long gameId, String user, String sessionId, Object payload) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId(sessionId);
+        accessor.setLeaveMutable(true);
+
+        messagingTemplate.convertAndSendToUser(user, USER_DESTINATION_PREFIX + gameId, payload, accessor.getMessageHeaders());
+    }
+
+    /**
+     * 스냅샷을 요청한 세션 하나에만 전송
+     * - 상태 변경이 아니므로 seq를 올리지 않고 현재 seq/epoch만 표시
+     * - 미리 직렬화된 바이트를 그대로 전송
+     */
+    public void sendSnapshotToSession(Long gameId, String user, String sessionId, ScoreboardSnapshot snapshot) {
+        ScoreboardEventLog.GameEvents events = eventLog.of(gameId);
+
+        synchronized (events) {
+            byte[] body = snapshot.serialize(events.currentSeq(), events.epoch(), objectMapper);
+
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+            accessor.setSessionId(sessionId);
+            accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+            accessor.setLeaveMutable(true);
+
+            // convertAndSendToUser와 같은 방식으로 사용자 경로 구성 (바이트는 변환 없이 그대로 전송)
+            String destination = "/user/" + StringUtils.replace(user, "/", "%2F") + USER_DESTINATION_PREFIX + gameId;
+            messagingTemplate.send(destination, MessageBuilder.createMessage(body, accessor.getMessageHeaders()));
+        }
+    }
+
+    public ScoreboardEventLog.GameEvents events(Long gameId) {
+        return eventLog.of(gameId);
+    }
+
+    private void applyToLocalState(Long gameId, Map<String, Object> payload) {
+        if (!"scoreUpdated".equals(payload.get("type"))) {
+            return;
+        }
+        Long userId = ((Number) payload.get("userId")).longValue();
+        liveGameRegistry.find(gameId).ifPresent(state -> state.applyRelayedScore(userId,
+                intOf(payload.get("score1")), intOf(payload.get("score2")),
+                intOf(payload.get("score3")), intOf(payload.get("score4"))));
+    }
+
+    private static int intOf(Object value) {
+        return value == null ? 0 : ((Number) value).intValue();
+    }
+
+    private void send(Long gameId, Map<String, Object> payload) {
+        String destination = DESTINATION_PREFIX + gameId;
+        messagingTemplate.convertAndSend(destination, payload);
+
+        if (compactSubscriptionRegistry.hasSubscribers(gameId)) {
+            sendEncoded(destination + COMPACT_SUFFIX, compactEncoder.encode(payload));
+        }
+    }
+
+    private void sendEncoded(String destination, byte[] body) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create();
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setLeaveMutable(true);
+
+        messagingTemplate.send(destination, MessageBuilder.createMessage(body, accessor.getMessageHeaders()));
+    }
+}
@@ -0,0 +1,131 @@
+package com.kh.pinpal2.scoreboard.broadcast;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 스코어보드 이벤트의 compact 프레임 인코더
+ * - 키 이름 없이 고정 위치 배열로 인코딩: [타입코드, seq, 필드...]
+ * - gameId는 구독 경로에 이미 있으므로 생략
+ * - SockJS 전송은 텍스트만 안전하므로 바이너리 대신 숫자 배열(JSON 텍스트)을 사용
+ * - 고정 레이아웃이 없는 타입(initialData, cardDrawStart 등)과 resync 표시된 이벤트는 기존 JSON 객체 그대로 전송
+ */
+@Component
+@RequiredArgsConstructor
+public class ScoreboardCompactEncoder {
+
+    public static final int SCORE_UPDATED = 1;
+    public static final int BATCH_TEAM_NUMBER_UPDATE = 2;
+    public static final int BATCH_GRADE_UPDATE = 3;
+    public static final int SIDE_UPDATED = 4;
+    public static final int CONFIRMED_UPDATED = 5;
+    public static final int SCORE_COUNTING_UPDATED = 6;
+    public static final int AVG_UPDATED = 7;
+    public static final int CARD_SELECTED = 8;
+    public static final int CARD_DRAW_RESET = 9;
+
+    private final ObjectMapper objectMapper;
+
+    public byte[] encode(Map<String, Object> payload) {
+        String type = (String) payload.get("type");
+        long seq = ((Number) payload.get("seq")).longValue();
+
+        // resync 표시는 고정 레이아웃에 자리가 없으므로 JSON 그대로 (받은 쪽이 스냅샷을 다시 요청)
+        Frame frame = Boolean.TRUE.equals(payload.get("resync")) ? null : switch (type == null ? "" : type) {
+            case "scoreUpdated" -> scoreUpdated(seq, payload);
+            case "batchTeamNumberUpdate" -> batch(BATCH_TEAM_NUMBER_UPDATE, seq, payload, "teamNumber");
+            case "batchGradeUpdate" -> batch(BATCH_GRADE_UPDATE, seq, payload, "grade");
+            case "sideUpdated" -> new Frame(SIDE_UPDATED, seq)
+                    .add(payload.get("userId"))
+                    .add("avg".equals(payload.get("sideType")) ? 1 : 0)
+                    .add(payload.get(payload.get("sideType")));
+            case "confirmedUpdated" -> new Frame(CONFIRMED_UPDATED, seq)
+                    .add(payload.get("userId"))
+                    .add(payload.get("confirmed"));
+            case "scoreCountingUpdated" -> new Frame(SCORE_COUNTING_UPDATED, seq)
+                    .add(payload.get("scoreCounting"));
+            case "avgUpdated" -> new Frame(AVG_UPDATED, seq)
+                    .add(payload.get("userId"))
+                    .add(payload.get("memberAvg"));
+            case "cardSelected" -> new Frame(CARD_SELECTED, seq)
+                    .add(payload.get("userId"))
+                    .add(payload.get("grade"))
+                    .add(payload.get("cardIndex"))
+                    .add(payload.get("teamNumber"));
+            case "cardDrawReset" -> new Frame(CARD_DRAW_RESET, seq);
+            default -> null;
+        };
+
+        if (frame != null) {
+            return frame.toBytes();
+        }
+
+        try {
+            return objectMapper.writeValueAsBytes(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("compact 프레임 인코딩 실패: type=" + type, e);
+        }
+    }
+
+    /**
+     * [1, seq, userId, changedMask, 바뀐 점수들...]
+     * - changedMask 의 i번째 비트가 켜진 게임 점수만 순서대로 포함
+     */
+    private Frame scoreUpdated(long seq, Map<String, Object> payload) {
+        int mask = payload.get("changedMask") instanceof Number number ? number.intValue() : 0b1111;
+
+        Frame frame = new Frame(SCORE_UPDATED, seq)
+                .add(payload.get("userId"))
+                .add(mask);
+        for (int i = 0; i < 4; i++) {
+            if ((mask & (1 << i)) != 0) {
+                frame.add(payload.get("score" + (i + 1)));
+            }
+        }
+        return frame;
+    }
+
+    /**
+     * [타입코드, seq, 개수, userId, 값, userId, 값, ...]
+     */
+    @SuppressWarnings("unchecked")
+    private Frame batch(int code, long seq, Map<String, Object> payload, String valueKey) {
+        List<Map<String, Object>> updates = (List<Map<String, Object>>) payload.get("updates");
+
+        Frame frame = new Frame(code, seq).add(updates.size());
+        for (Map<String, Object> update : updates) {
+            frame.add(update.get("userId")).add(update.get(valueKey));
+        }
+        return frame;
+    }
+
+    private static final class Frame {
+        private final StringBuilder builder = new StringBuilder(64);
+
+        private Frame(int code, long seq) {
+            builder.append('[').append(code).append(',').append(seq);
+        }
+
+        private Frame add(Object value) {
+            builder.append(',');
+            if (value instanceof Boolean bool) {
+                builder.append(bool ? 1 : 0);
+            } else if (value == null) {
+                builder.append(0);
+            } else {
+                builder.append(((Number) value).longValue());
+            }
+            return this;
+        }
+
+        private byte[] toBytes() {
+            return builder.append(']').toString().getBytes(StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.kh.pinpal2.scoreboard.broadcast;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게임별 최근 스코어보드 이벤트 로그 (고정 크기 링 버퍼)
+ * - 시퀀스 번호는 게임마다 1부터 단조 증가
+ * - 로그가 새로 만들어질 때마다(재시작, 만료) 새 epoch를 부여하고 모든 이벤트에 함께 실음
+ *   → seq가 다시 1부터 시작해도 이전 epoch의 lastSeq로는 이어받지 않음
+ * - 재접속한 클라이언트는 "같은 epoch의 seq N 이후" 이벤트만 다시 받고, 아니면 스냅샷으로 대체
+ * - 주인이 아닌 노드도 seq를 부여하므로 노드끼리 seq가 겹칠 수 있음 → 겹치거나 빈 이벤트는 resync 표시로 스냅샷 유도
+ * - 일정 시간 접근이 없는 게임의 로그는 자동으로 정리
+ */
+@Component
+public class ScoreboardEventLog {
+
+    private final int capacity;
+    private final Cache<Long, GameEvents> eventsByGameId;
+
+    public ScoreboardEventLog(
+            @Value("${pinpal.scoreboard.event-log.capacity:256}") int capacity,
+            @Value("${pinpal.scoreboard.event-log.expire-after-access-ms:21600000}") long expireAfterAccessMillis) {
+        this.capacity = capacity;
+        this.eventsByGameId = Caffeine.newBuilder()
+                .expireAfterAccess(expireAfterAccessMillis, TimeUnit.MILLISECONDS)
+                .build();
+    }
+
+    public GameEvents of(Long gameId) {
+        return eventsByGameId.get(gameId, key -> new GameEvents(capacity));
+    }
+
+    /**
+     * 로그가 남아 있는 게임 (최근에 이벤트가 있었거나 구독자가 이어받을 수 있는 게임)
+     */
+    public Set<Long> gameIds() {
+        return Set.copyOf(eventsByGameId.asMap().keySet());
+    }
+
+    public static final class GameEvents {
+
+        private final long[] seqs;
+        private final Map<String, Object>[] payloads;
+        private int head;   // 다음에 쓸 위치
+        private int size;
+        private long lastSeq;
+        private String epoch = newEpoch();
+
+        @SuppressWarnings("unchecked")
+        private GameEvents(int capacity) {
+            this.seqs = new long[capacity];
+            this.payloads = new Map[capacity];
+        }
+
+        /**
+         * 다음 seq를 부여하고 버퍼에 기록
+         */
+        public synchronized long append(Map<String, Object> payload) {
+            long seq = lastSeq + 1;
+            payload.put("seq", seq);
+            payload.put("epoch", epoch);
+            store(seq, payload);
+            return seq;
+        }
+
+        /**
+         * 다른 노드에서 seq가 이미 부여된 이벤트를 기록
+         * - 보낸 노드의 epoch가 다르면 그 epoch로 갈아탐 (이전 epoch의 lastSeq로는 이어받기 불가)
+         * - 이어지지 않는 seq(놓친 이벤트 / 두 노드가 같은 게임에 같은 seq를 부여한 경우)도 버리지 않음
+         *   → 버퍼를 비우고 resync 표시한 복사본을 다음 seq로 기록 (받은 클라이언트는 스냅샷을 다시 요청)
+         * @return 이 노드의 세션에 보낼 payload (이어지면 받은 그대로, 아니면 resync 복사본)
+         */
+        public synchronized Map<String, Object> record(String epoch, long seq, Map<String, Object> payload) {
+            if (epoch != null && !epoch.equals(this.epoch)) {
+                this.epoch = epoch;
+                lastSeq = 0;
+                head = 0;
+                size = 0;
+            }
+            if (seq == lastSeq + 1) {
+                store(seq, payload);
+                return payload;
+            }
+
+            head = 0;
+            size = 0;
+            long resyncSeq = Math.max(seq, lastSeq + 1);
+            Map<String, Object> resync = new HashMap<>(payload);
+            resync.put("seq", resyncSeq);
+            resync.put("epoch", this.epoch);
+            resync.put("resync", true);
+            store(resyncSeq, resync);
+            return resync;
+        }
+
+        /**
+         * 이 노드가 다른 노드의 이벤트를 놓쳤을 때 resync 표시 이벤트를 다음 seq로 기록
+         * - 버퍼를 비워 놓친 구간을 건너뛴 이어받기를 막음 (받은 클라이언트는 스냅샷을 다시 요청)
+         */
+        public synchronized long resync(Map<String, Object> payload) {
+            head = 0;
+            size = 0;
+            payload.put("resync", true);
+            return append(payload);
+        }
+
+        private void store(long seq, Map<String, Object> payload) {
+            seqs[head] = seq;
+            payloads[head] = payload;
+            head = (head + 1) % seqs.length;
+            if (size < seqs.length) {
+                size++;
+            }
+            lastSeq = seq;
+        }
+
+        public synchronized long currentSeq() {
+            return lastSeq;
+        }
+
+        public synchronized String epoch() {
+            return epoch;
+        }
+
+        /**
+         * 같은 epoch에서 afterSeq 이후의 이벤트 목록
+         * @return epoch가 다르거나, 버퍼에서 이미 밀려났거나 알 수 없는 seq면 empty (스냅샷 필요)
+         */
+        public synchronized Optional<List<Map<String, Object>>> since(String epoch, long afterSeq) {
+            if (!Objects.equals(this.epoch, epoch) || afterSeq > lastSeq || afterSeq < 0) {
+                return Optional.empty();
+            }
+            int missing = (int) Math.min(lastSeq - afterSeq, Integer.MAX_VALUE);
+            if (missing > size) {
+                return Optional.empty();
+            }
+
+            List<Map<String, Object>> result = new ArrayList<>(missing);
+            int start = Math.floorMod(head - missing, seqs.length);
+            for (int i = 0; i < missing; i++) {
+                result.add(payloads[(start + i) % seqs.length]);
+            }
+            return Optional.of(result);
+        }
+
+        private static String newEpoch() {
+            return Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, 36);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.kh.pinpal2.scoreboard.broadcast;
+
+import java.util.function.Consumer;
+
+/**
+ * /sub/scoreboard 이벤트를 다른 인스턴스로 전달하는 통로
+ * - 각 노드는 자기 SimpleBroker로 자기 세션에만 전달하고, 다른 노드의 이벤트는 이 통로로 받음
+ * - 받은 쪽은 보낸 노드(node)가 자기 자신이면 무시
+ * - publish는 보내는 쪽의 게임 잠금 안에서 호출되므로 전달을 기다리지 않고 순서만 지켜 넘겨야 함
+ */
+public interface ScoreboardRelay {
+
+    void publish(RelayedScoreboardEvent event);
+
+    void subscribe(Consumer<RelayedScoreboardEvent> listener);
+
+    /**
+     * 다른 노드의 이벤트를 놓쳤을 수 있을 때(수신 연결 재접속 등) 호출할 리스너 등록
+     */
+    default void onReconnect(Runnable listener) {
+    }
+}
@@ -0,0 +1,37 @@
+package com.kh.pinpal2.scoreboard.carddraw;
+
+/**
+ * 카드 선점 결과
+ * @param teamNumber 해당 카드의 팀 번호 (없는 카드면 -1)
+ * @param claimedBy 이미 선점한 사용자 (실패한 경우에만)
+ */
+public record CardClaimResult(
+        Status status,
+        int teamNumber,
+        Long claimedBy
+) {
+
+    public enum Status {
+        CLAIMED, TAKEN, INVALID, WRONG_GRADE
+    }
+
+    public static CardClaimResult claimed(int teamNumber) {
+        return new CardClaimResult(Status.CLAIMED, teamNumber, null);
+    }
+
+    public static CardClaimResult taken(int teamNumber, long claimedBy) {
+        return new CardClaimResult(Status.TAKEN, teamNumber, claimedBy);
+    }
+
+    public static CardClaimResult invalid() {
+        return new CardClaimResult(Status.INVALID, -1, null);
+    }
+
+    public static CardClaimResult wrongGrade() {
+        return new CardClaimResult(Status.WRONG_GRADE, -1, null);
+    }
+
+    public boolean isClaimed() {
+        return status == Status.CLAIMED;
+    }
+}
@@ -0,0 +1,161 @@
+package com.kh.pinpal2.scoreboard.carddraw;
+
+import com.kh.pinpal2.scoreboard.dto.ScoreboardMemberRow;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 게임 하나의 카드뽑기 상태
+ * - 군 → 카드 슬롯(팀 번호) → 선택한 사용자
+ * - 팀 번호 → 슬롯 역인덱스를 미리 만들어 indexOf 탐색 없이 조회
+ * - 선택된 카드 뷰(selectedCards)는 선택/해제 시점에 갱신해 두고 그대로 읽음
+ * - 슬롯 선점은 CAS로 처리 (같은 카드를 동시에 눌러도 한 명만 성공, 락 없음)
+ * - 참가자는 자기 군의 카드만 선택 가능 (적재 시점의 군 기준, 군이 바뀌면 상태를 다시 적재)
+ */
+public class CardDrawBoard {
+
+    private static final long FREE = 0L;
+
+    private final Map<Integer, List<Integer>> cardDrawData;
+    private final Map<Integer, GradeSlots> gradeSlots = new HashMap<>();
+    // "군-카드인덱스" → {userId, teamNumber}
+    private final Map<String, Map<String, Object>> selectedCards = new ConcurrentHashMap<>();
+    private final Map<Long, CardKey> cardKeyByUserId = new ConcurrentHashMap<>();
+    private final Map<Long, Integer> gradeByUserId = new HashMap<>();
+    // 같은 사용자의 선택을 순서대로 처리하기 위한 락 (선점 → DB 반영을 한 묶음으로)
+    private final Map<Long, Object> userLocks = new ConcurrentHashMap<>();
+
+    private CardDrawBoard(Map<Integer, List<Integer>> cardDrawData) {
+        this.cardDrawData = Collections.unmodifiableMap(cardDrawData);
+        cardDrawData.forEach((grade, cards) -> gradeSlots.put(grade, new GradeSlots(cards)));
+    }
+
+    /**
+     * 카드 배열 + 참가자 행으로 생성 (이미 팀 번호가 있는 참가자는 해당 카드를 선택한 것으로 복원)
+     */
+    public static CardDrawBoard of(Map<Integer, List<Integer>> cardDrawData, List<ScoreboardMemberRow> rows) {
+        CardDrawBoard board = new CardDrawBoard(cardDrawData);
+        for (ScoreboardMemberRow row : rows) {
+            int grade = row.grade() != null ? row.grade() : 0;
+            board.gradeByUserId.put(row.memberId(), grade);
+            if (row.teamNumber() == null || row.teamNumber() <= 0) {
+                continue;
+            }
+            GradeSlots slots = board.gradeSlots.get(grade);
+            if (slots == null) {
+                continue;
+            }
+            int slot = slots.firstFreeSlotOf(row.teamNumber());
+            if (slot >= 0) {
+                board.claim(row.memberId(), grade, slot);
+            }
+        }
+        return board;
+    }
+
+    /**
+     * 사용자가 카드를 선점 (성공하면 이전에 선택한 카드는 해제)
+     * - 비어 있는 슬롯만 CAS로 차지할 수 있고, 이미 다른 사람이 차지했으면 실패
+     * - 참가자가 아니면 INVALID, 자기 군이 아닌 카드면 WRONG_GRADE
+     */
+    public CardClaimResult claim(Long userId, int grade, int cardIndex) {
+        GradeSlots slots = gradeSlots.get(grade);
+        Integer userGrade = gradeByUserId.get(userId);
+        if (slots == null || userGrade == null || cardIndex < 0 || cardIndex >= slots.teamNumbers.length) {
+            return CardClaimResult.invalid();
+        }
+        if (userGrade != grade) {
+            return CardClaimResult.wrongGrade();
+        }
+
+        int teamNumber = slots.teamNumbers[cardIndex];
+        if (!slots.claimedBy.compareAndSet(cardIndex, FREE, userId)) {
+            long owner = slots.claimedBy.get(cardIndex);
+            // 같은 사용자가 같은 카드를 다시 누른 경우는 성공으로 처리
+            return owner == userId
+                    ? CardClaimResult.claimed(teamNumber)
+                    : CardClaimResult.taken(teamNumber, owner);
+        }
+
+        CardKey cardKey = new CardKey(grade, cardIndex);
+        selectedCards.put(cardKey.toString(), Map.of(
+                "userId", userId,
+                "teamNumber", teamNumber
+        ));
+        CardKey previous = cardKeyByUserId.put(userId, cardKey);
+        if (previous != null && !previous.equals(cardKey)) {
+            release(userId, previous);
+        }
+        return CardClaimResult.claimed(teamNumber);
+    }
+
+    /**
+     * 사용자별 락 (선점과 DB 반영 사이에 같은 사용자의 다른 선택이 끼어들지 않도록)
+     */
+    public Object lockOf(Long userId) {
+        return userLocks.computeIfAbsent(userId, key -> new Object());
+    }
+
+    public Map<Integer, List<Integer>> cardDrawData() {
+        return cardDrawData;
+    }
+
+    public Map<String, Map<String, Object>> selectedCards() {
+        return selectedCards;
+    }
+
+    // 뷰에서 먼저 지운 뒤 슬롯을 비움 (비우는 순간 다른 사용자가 차지해도 그 사용자의 뷰 항목은 지워지지 않음)
+    private void release(Long userId, CardKey cardKey) {
+        AtomicLongArray claimedBy = gradeSlots.get(cardKey.grade()).claimedBy;
+        if (claimedBy.get(cardKey.cardIndex()) == userId) {
+            selectedCards.remove(cardKey.toString());
+            claimedBy.compareAndSet(cardKey.cardIndex(), userId, FREE);
+        }
+    }
+
+    private record CardKey(int grade, int cardIndex) {
+        @Override
+        public String toString() {
+            return grade + "-" + cardIndex;
+        }
+    }
+
+    private static final class GradeSlots {
+
+        private final int[] teamNumbers;
+        private final AtomicLongArray claimedBy;
+        // 팀 번호 → 해당 팀 번호를 가진 슬롯들 (보통 1개)
+        private final Map<Integer, int[]> slotsByTeamNumber = new HashMap<>();
+
+        private GradeSlots(List<Integer> cards) {
+            this.teamNumbers = cards.stream().mapToInt(Integer::intValue).toArray();
+            this.claimedBy = new AtomicLongArray(teamNumbers.length);
+
+            for (int slot = 0; slot < teamNumbers.length; slot++) {
+                int[] previous = slotsByTeamNumber.get(teamNumbers[slot]);
+                int[] slots = previous == null ? new int[1] : Arrays.copyOf(previous, previous.length + 1);
+                slots[slots.length - 1] = slot;
+                slotsByTeamNumber.put(teamNumbers[slot], slots);
+            }
+        }
+
+        private int firstFreeSlotOf(int teamNumber) {
+            int[] slots = slotsByTeamNumber.get(teamNumber);
+            if (slots == null) {
+                return -1;
+            }
+            for (int slot : slots) {
+                if (claimedBy.get(slot) == FREE) {
+                    return slot;
+                }
+            }
+            return -1;
+        }
+    }
+}
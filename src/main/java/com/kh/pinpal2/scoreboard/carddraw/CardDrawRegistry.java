@@ -0,0 +1,48 @@
+package com.kh.pinpal2.scoreboard.carddraw;
+
+import com.kh.pinpal2.base.cluster.GameAffinityRing;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 진행 중인 카드뽑기 상태 보관소 (gameId 기준)
+ * - 카드뽑기 시작 또는 첫 조회 시 적재, 초기화/종료/삭제 시 제거
+ * - 이 노드가 주인(GameAffinityRing)인 게임만 보관, 아니면 매번 DB에서 새로 만듦
+ *   (다른 노드의 선택을 모르는 상태가 남지 않도록)
+ * - 메모리 선점만으로는 노드 간 중복 선택을 막을 수 없으므로 DB 반영은 카드가 남아 있을 때만 (claimTeamNumber)
+ */
+@Component
+@RequiredArgsConstructor
+public class CardDrawRegistry {
+
+    private final ConcurrentHashMap<Long, CardDrawBoard> boards = new ConcurrentHashMap<>();
+    private final GameAffinityRing gameAffinityRing;
+
+    public CardDrawBoard getOrLoad(Long gameId, Function<Long, CardDrawBoard> loader) {
+        if (!gameAffinityRing.isLocal(gameId)) {
+            return loader.apply(gameId);
+        }
+        return boards.computeIfAbsent(gameId, loader);
+    }
+
+    public Optional<CardDrawBoard> find(Long gameId) {
+        return Optional.ofNullable(boards.get(gameId));
+    }
+
+    public void put(Long gameId, CardDrawBoard board) {
+        if (gameAffinityRing.isLocal(gameId)) {
+            boards.put(gameId, board);
+        }
+    }
+
+    /**
+     * @return 적재되어 있던 상태가 있었으면 true
+     */
+    public boolean evict(Long gameId) {
+        return boards.remove(gameId) != null;
+    }
+}
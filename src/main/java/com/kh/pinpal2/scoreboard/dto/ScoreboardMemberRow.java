@@ -24,4 +24,46 @@ public record ScoreboardMemberRow(
         Integer memberAvg,
         Integer gender
 ) {
+
+    public ScoreboardMemberRow withScores(Integer game1, Integer game2, Integer game3, Integer game4) {
+        return new ScoreboardMemberRow(scoreboardId, memberId, memberName, memberProfile, gameId, gameName,
+                scoreCounting, cardDraw, game1, game2, game3, game4, grade, confirmedJoin, sideAvg, side,
+                teamNumber, memberRole, memberAvg, gender);
+    }
+
+    public ScoreboardMemberRow withGameFlags(boolean scoreCounting, boolean cardDraw) {
+        return new ScoreboardMemberRow(scoreboardId, memberId, memberName, memberProfile, gameId, gameName,
+                scoreCounting, cardDraw, game1, game2, game3, game4, grade, confirmedJoin, sideAvg, side,
+                teamNumber, memberRole, memberAvg, gender);
+    }
+
+    public ScoreboardMemberRow withGrade(Integer grade) {
+        return new ScoreboardMemberRow(scoreboardId, memberId, memberName, memberProfile, gameId, gameName,
+                scoreCounting, cardDraw, game1, game2, game3, game4, grade, confirmedJoin, sideAvg, side,
+                teamNumber, memberRole, memberAvg, gender);
+    }
+
+    public ScoreboardMemberRow withTeamNumber(Integer teamNumber) {
+        return new ScoreboardMemberRow(scoreboardId, memberId, memberName, memberProfile, gameId, gameName,
+                scoreCounting, cardDraw, game1, game2, game3, game4, grade, confirmedJoin, sideAvg, side,
+                teamNumber, memberRole, memberAvg, gender);
+    }
+
+    public ScoreboardMemberRow withConfirmedJoin(boolean confirmedJoin) {
+        return new ScoreboardMemberRow(scoreboardId, memberId, memberName, memberProfile, gameId, gameName,
+                scoreCounting, cardDraw, game1, game2, game3, game4, grade, confirmedJoin, sideAvg, side,
+                teamNumber, memberRole, memberAvg, gender);
+    }
+
+    public ScoreboardMemberRow withSide(boolean sideAvg, boolean side) {
+        return new ScoreboardMemberRow(scoreboardId, memberId, memberName, memberProfile, gameId, gameName,
+                scoreCounting, cardDraw, game1, game2, game3, game4, grade, confirmedJoin, sideAvg, side,
+                teamNumber, memberRole, memberAvg, gender);
+    }
+
+    public ScoreboardMemberRow withMemberAvg(Integer memberAvg) {
+        return new ScoreboardMemberRow(scoreboardId, memberId, memberName, memberProfile, gameId, gameName,
+                scoreCounting, cardDraw, game1, game2, game3, game4, grade, confirmedJoin, sideAvg, side,
+                teamNumber, memberRole, memberAvg, gender);
+    }
 }
@@ -0,0 +1,8 @@
+package com.kh.pinpal2.scoreboard.dto;
+
+public record ScoreboardResumeRequestDto(
+        Long gameId,
+        String epoch,
+        Long lastSeq
+) {
+}
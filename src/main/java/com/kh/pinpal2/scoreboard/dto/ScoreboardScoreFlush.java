@@ -0,0 +1,10 @@
+package com.kh.pinpal2.scoreboard.dto;
+
+public record ScoreboardScoreFlush(
+        Long scoreboardId,
+        int score1,
+        int score2,
+        int score3,
+        int score4
+) {
+}
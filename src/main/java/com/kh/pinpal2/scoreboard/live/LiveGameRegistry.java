@@ -0,0 +1,223 @@
+package com.kh.pinpal2.scoreboard.live;
+
+import com.kh.pinpal2.base.cluster.GameAffinityRing;
+import com.kh.pinpal2.base.cluster.GameOwnershipLease;
+import com.kh.pinpal2.base.exception.game.GameNotFoundException;
+import com.kh.pinpal2.game.entity.Game;
+import com.kh.pinpal2.game.repository.GameRepository;
+import com.kh.pinpal2.scoreboard.dto.ScoreboardScoreFlush;
+import com.kh.pinpal2.scoreboard.repository.ScoreboardRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 진행 중인 게임의 LiveGameState 보관소 (gameId 기준)
+ * - ACTIVE 게임만 메모리에 올리고, 종료/삭제/참가자 변경 시 flush 후 내림
+ * - 트랜잭션 안에서 내리는 경우 커밋될 때까지 닫힌 상태로 남겨 둠
+ *   (그 사이 다른 요청이 커밋 전 DB 값으로 다시 적재하지 않도록)
+ * - 이 노드가 주인(GameAffinityRing)인 게임만 올림 → 주인이 아닌 노드의 점수 변경은 DB에 바로 저장
+ * - 적재 전 GameOwnershipLease를 잡고 메모리에서 내릴 때 놓음
+ *   (주인이 바뀐 직후 이전 주인이 아직 flush 중이면 새 주인은 적재하지 않고 DB에 바로 저장)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LiveGameRegistry {
+
+    private static final String ACTIVE = "ACTIVE";
+    private static final int LOAD_LOCK_STRIPES = 64;
+
+    private final ConcurrentHashMap<Long, LiveGameState> states = new ConcurrentHashMap<>();
+    // 같은 게임의 적재를 한 번만 하기 위한 락 (DB 조회를 맵 연산 밖에서 하도록 gameId로 나눈 고정 개수)
+    private final Object[] loadLocks = newLoadLocks();
+    private final GameRepository gameRepository;
+    private final ScoreboardRepository scoreboardRepository;
+    private final GameAffinityRing gameAffinityRing;
+    private final GameOwnershipLease gameOwnershipLease;
+
+    /**
+     * 게임 상태 조회 (없으면 DB에서 적재)
+     * - 적재는 게임별 락 안에서 한 번만, DB 조회는 맵 연산 밖에서 (다른 게임의 조회/제거를 막지 않도록)
+     * - 해제 중인 상태가 반환될 수 있음 (applyScore가 CLOSED를 반환)
+     * @return ACTIVE 상태가 아니거나 이 노드가 주인이 아닌 게임이면 empty
+     */
+    public Optional<LiveGameState> getOrLoad(Long gameId) {
+        if (!gameAffinityRing.isLocal(gameId)) {
+            return Optional.empty();
+        }
+
+        LiveGameState state = states.get(gameId);
+        if (state != null) {
+            state.touch();
+            return Optional.of(state);
+        }
+
+        synchronized (loadLocks[Math.floorMod(gameId.hashCode(), LOAD_LOCK_STRIPES)]) {
+            state = states.get(gameId);
+            if (state != null) {
+                state.touch();
+                return Optional.of(state);
+            }
+            LiveGameState loaded = load(gameId);
+            if (loaded != null) {
+                states.put(gameId, loaded);
+            }
+            return Optional.ofNullable(loaded);
+        }
+    }
+
+    /**
+     * ACTIVE 게임이면 보유 표시를 잡고 참가자 행을 읽어 상태 생성
+     * - 보유 표시를 잡은 뒤 적재에 실패하면 바로 놓음 (다음 주인이 기다리지 않도록)
+     */
+    private LiveGameState load(Long gameId) {
+        Game game = gameRepository.findById(gameId).orElseThrow(GameNotFoundException::new);
+        if (!ACTIVE.equals(game.getStatus())) {
+            return null;
+        }
+        if (!gameOwnershipLease.tryAcquire(gameId)) {
+            log.info("이전 주인이 아직 게임 상태를 반영 중, DB에 바로 저장: gameId={}", gameId);
+            return null;
+        }
+
+        try {
+            LiveGameState loaded = new LiveGameState(gameId, scoreboardRepository.findAllByGameId(gameId));
+            log.info("진행 중 게임 메모리 적재: gameId={}", gameId);
+            return loaded;
+        } catch (RuntimeException e) {
+            gameOwnershipLease.release(gameId);
+            throw e;
+        }
+    }
+
+    /**
+     * 이미 적재된 게임만 조회 (DB 접근 없음)
+     */
+    public Optional<LiveGameState> find(Long gameId) {
+        return Optional.ofNullable(states.get(gameId));
+    }
+
+    public Collection<LiveGameState> all() {
+        return states.values();
+    }
+
+    /**
+     * 해당 게임의 미반영 점수를 즉시 DB에 반영
+     */
+    public void flush(Long gameId) {
+        LiveGameState state = states.get(gameId);
+        if (state != null) {
+            flush(state);
+        }
+    }
+
+    /**
+     * flush 후 메모리에서 제거 (게임 종료, 참가자 변경 등)
+     * - 먼저 닫아서 이후 점수 변경을 막고 남은 점수를 반영
+     * - 트랜잭션 안이면 커밋 후에 제거, 롤백되면 반영한 점수를 다시 dirty로 두고 열어 둠
+     * - flush가 실패하면 상태를 그대로 두고 예외 전달 (점수 유실 방지)
+     */
+    public void flushAndEvict(Long gameId) {
+        LiveGameState state = states.get(gameId);
+        if (state == null) {
+            return;
+        }
+
+        state.close();
+        List<ScoreboardScoreFlush> flushed;
+        try {
+            flushed = flush(state);
+        } catch (RuntimeException e) {
+            state.reopen();
+            throw e;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            remove(state);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    remove(state);
+                    return;
+                }
+                state.markDirty(flushed);
+                state.reopen();
+                log.warn("트랜잭션 롤백으로 게임 메모리 해제 취소: gameId={}", gameId);
+            }
+        });
+    }
+
+    /**
+     * flush 없이 제거 (게임 삭제 등 행 자체가 사라지는 경우)
+     */
+    public void evict(Long gameId) {
+        LiveGameState state = states.remove(gameId);
+        if (state != null) {
+            state.close();
+            gameOwnershipLease.release(gameId);
+        }
+    }
+
+    /**
+     * 종료 시 모든 게임을 반영하고 보유 표시를 놓음 (다음 주인이 바로 적재할 수 있도록)
+     * - 노드 목록에서 빠지기 전에 실행됨 (ClusterMembership이 이 빈보다 나중에 정리됨)
+     */
+    @PreDestroy
+    public void shutdown() {
+        for (LiveGameState state : states.values()) {
+            try {
+                flushAndEvict(state.getGameId());
+            } catch (RuntimeException e) {
+                log.error("종료 전 게임 상태 반영 실패: gameId={}, error={}", state.getGameId(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * @return DB에 반영한 행
+     */
+    List<ScoreboardScoreFlush> flush(LiveGameState state) {
+        synchronized (state.flushLock()) {
+            List<ScoreboardScoreFlush> rows = state.drainDirty();
+            if (rows.isEmpty()) {
+                return rows;
+            }
+
+            try {
+                scoreboardRepository.batchUpdateScores(rows);
+            } catch (RuntimeException e) {
+                // 실패한 행은 다음 주기에 다시 반영
+                state.markDirty(rows);
+                throw e;
+            }
+            return rows;
+        }
+    }
+
+    private void remove(LiveGameState state) {
+        if (states.remove(state.getGameId(), state)) {
+            gameOwnershipLease.release(state.getGameId());
+            log.info("진행 중 게임 메모리 해제: gameId={}", state.getGameId());
+        }
+    }
+
+    private static Object[] newLoadLocks() {
+        Object[] locks = new Object[LOAD_LOCK_STRIPES];
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new Object();
+        }
+        return locks;
+    }
+}
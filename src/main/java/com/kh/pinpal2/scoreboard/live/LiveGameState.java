@@ -0,0 +1,202 @@
+package com.kh.pinpal2.scoreboard.live;
+
+import com.kh.pinpal2.scoreboard.dto.ScoreboardMemberRow;
+import com.kh.pinpal2.scoreboard.dto.ScoreboardScoreFlush;
+import com.kh.pinpal2.scoreboard.entity.Scoreboard;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 진행 중(ACTIVE)인 게임 하나의 스코어보드 상태
+ * - 참가자별 점수를 원시 배열로 보관하며, 게임이 진행되는 동안 점수의 원본 역할을 함
+ * - 군/팀/사이드 등 점수 외 항목은 DB에 바로 저장되므로 보관하지 않음 (다른 노드의 변경과 어긋나지 않도록)
+ * - 점수 변경은 메모리에만 반영하고 dirty 표시 → ScoreboardWriteBehindFlusher가 모아서 DB에 반영
+ * - 종료/해제가 시작되면 close() → 이후 점수 변경은 거절 (호출 측이 DB에 바로 저장)
+ */
+public class LiveGameState {
+
+    public static final int NOT_PARTICIPANT = -1;
+    public static final int CLOSED = -2;
+
+    private final Long gameId;
+    private final Map<Long, Integer> indexByUserId;
+
+    private final long[] scoreboardIds;
+    private final long[] userIds;
+    private final int[] score1;
+    private final int[] score2;
+    private final int[] score3;
+    private final int[] score4;
+
+    private final BitSet dirty;
+    // drain → DB 반영을 한 번에 하나만 (먼저 꺼낸 이전 값이 나중에 반영되지 않도록)
+    private final Object flushLock = new Object();
+    private boolean closed;
+    private volatile long lastAccessMillis;
+
+    public LiveGameState(Long gameId, List<Scoreboard> scoreboards) {
+        int size = scoreboards.size();
+
+        this.gameId = gameId;
+        this.indexByUserId = new HashMap<>(size * 2);
+        this.scoreboardIds = new long[size];
+        this.userIds = new long[size];
+        this.score1 = new int[size];
+        this.score2 = new int[size];
+        this.score3 = new int[size];
+        this.score4 = new int[size];
+        this.dirty = new BitSet(size);
+
+        for (int i = 0; i < size; i++) {
+            Scoreboard scoreboard = scoreboards.get(i);
+            // LAZY 프록시라도 getId()는 초기화 없이 식별자만 반환
+            long userId = scoreboard.getUser().getId();
+
+            indexByUserId.put(userId, i);
+            scoreboardIds[i] = scoreboard.getId();
+            userIds[i] = userId;
+            score1[i] = valueOf(scoreboard.getScore1());
+            score2[i] = valueOf(scoreboard.getScore2());
+            score3[i] = valueOf(scoreboard.getScore3());
+            score4[i] = valueOf(scoreboard.getScore4());
+        }
+
+        touch();
+    }
+
+    public Long getGameId() {
+        return gameId;
+    }
+
+    public boolean contains(Long userId) {
+        return indexByUserId.containsKey(userId);
+    }
+
+    /**
+     * 점수 반영 (메모리만 변경, DB 반영은 write-behind)
+     * @return 바뀐 게임 점수 비트마스크 (1G=1, 2G=2, 3G=4, 4G=8),
+     *         참여하지 않은 사용자면 NOT_PARTICIPANT, 해제 중인 상태면 CLOSED
+     */
+    public synchronized int applyScore(Long userId, int game1, int game2, int game3, int game4) {
+        if (closed) {
+            return CLOSED;
+        }
+        Integer index = indexByUserId.get(userId);
+        if (index == null) {
+            return NOT_PARTICIPANT;
+        }
+
+        int changedMask = (score1[index] != game1 ? 1 : 0)
+                | (score2[index] != game2 ? 2 : 0)
+                | (score3[index] != game3 ? 4 : 0)
+                | (score4[index] != game4 ? 8 : 0);
+
+        score1[index] = game1;
+        score2[index] = game2;
+        score3[index] = game3;
+        score4[index] = game4;
+        if (changedMask != 0) {
+            dirty.set(index);
+        }
+        touch();
+        return changedMask;
+    }
+
+    /**
+     * 다른 노드가 DB에 바로 저장한 점수를 메모리에 맞추고 dirty로 표시
+     * - 이 노드의 flush가 그 저장 직후 예전 점수를 덮어썼을 수 있으므로 다음 flush에서 다시 저장
+     */
+    public synchronized void applyRelayedScore(Long userId, int game1, int game2, int game3, int game4) {
+        Integer index = indexByUserId.get(userId);
+        if (index == null) {
+            return;
+        }
+        score1[index] = game1;
+        score2[index] = game2;
+        score3[index] = game3;
+        score4[index] = game4;
+        dirty.set(index);
+    }
+
+    /**
+     * dirty 행을 꺼내고 dirty 표시를 지움
+     * - DB 반영에 실패하면 markDirty로 되돌려야 함
+     */
+    public synchronized List<ScoreboardScoreFlush> drainDirty() {
+        List<ScoreboardScoreFlush> rows = new ArrayList<>(dirty.cardinality());
+        for (int i = dirty.nextSetBit(0); i >= 0; i = dirty.nextSetBit(i + 1)) {
+            rows.add(new ScoreboardScoreFlush(scoreboardIds[i], score1[i], score2[i], score3[i], score4[i]));
+        }
+        dirty.clear();
+        return rows;
+    }
+
+    public synchronized void markDirty(List<ScoreboardScoreFlush> rows) {
+        Map<Long, Integer> indexByScoreboardId = new HashMap<>();
+        for (int i = 0; i < scoreboardIds.length; i++) {
+            indexByScoreboardId.put(scoreboardIds[i], i);
+        }
+        rows.forEach(row -> {
+            Integer index = indexByScoreboardId.get(row.scoreboardId());
+            if (index != null) dirty.set(index);
+        });
+    }
+
+    public synchronized boolean hasDirty() {
+        return !dirty.isEmpty();
+    }
+
+    /**
+     * 점수 변경 거절 시작 (flush 후 메모리에서 내리기 직전)
+     */
+    public synchronized void close() {
+        closed = true;
+    }
+
+    /**
+     * 해제가 취소된 경우 (flush 실패, 트랜잭션 롤백) 다시 점수 변경 허용
+     */
+    public synchronized void reopen() {
+        closed = false;
+    }
+
+    public synchronized boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * DB에서 읽은 행에 아직 반영되지 않은 메모리 점수를 덮어씀 (점수 외 항목은 DB 값 그대로)
+     */
+    public synchronized List<ScoreboardMemberRow> overlay(List<ScoreboardMemberRow> rows) {
+        List<ScoreboardMemberRow> result = new ArrayList<>(rows.size());
+        for (ScoreboardMemberRow row : rows) {
+            Integer index = indexByUserId.get(row.memberId());
+            if (index == null) {
+                result.add(row);
+                continue;
+            }
+            result.add(row.withScores(score1[index], score2[index], score3[index], score4[index]));
+        }
+        return result;
+    }
+
+    public long getLastAccessMillis() {
+        return lastAccessMillis;
+    }
+
+    Object flushLock() {
+        return flushLock;
+    }
+
+    void touch() {
+        this.lastAccessMillis = System.currentTimeMillis();
+    }
+
+    private static int valueOf(Integer value) {
+        return value != null ? value : 0;
+    }
+}
@@ -0,0 +1,55 @@
+package com.kh.pinpal2.scoreboard.live;
+
+import com.kh.pinpal2.base.cluster.GameAffinityRing;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 메모리에서 변경된 점수를 주기적으로 모아서 배치 UPDATE로 반영 (write-behind)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScoreboardWriteBehindFlusher {
+
+    private final LiveGameRegistry liveGameRegistry;
+    private final GameAffinityRing gameAffinityRing;
+
+    @Value("${pinpal.scoreboard.live.idle-evict-ms:21600000}")
+    private long idleEvictMillis;
+
+    @Scheduled(fixedDelayString = "${pinpal.scoreboard.live.flush-interval-ms:500}")
+    public void flushDirtyScores() {
+        long now = System.currentTimeMillis();
+
+        for (LiveGameState state : liveGameRegistry.all()) {
+            try {
+                liveGameRegistry.flush(state);
+            } catch (RuntimeException e) {
+                log.error("점수 write-behind 반영 실패: gameId={}, error={}", state.getGameId(), e.getMessage());
+                continue;
+            }
+
+            // 오래 사용되지 않은 게임은 메모리에서 내림 (종료 처리 없이 방치된 게임)
+            // 주인이 바뀐 게임도 내림 (넘기기가 실패했던 경우 다시 시도 → 새 주인이 적재할 수 있도록)
+            boolean idle = now - state.getLastAccessMillis() > idleEvictMillis && !state.hasDirty();
+            if (idle || !gameAffinityRing.isLocal(state.getGameId())) {
+                try {
+                    liveGameRegistry.flushAndEvict(state.getGameId());
+                } catch (RuntimeException e) {
+                    log.error("게임 메모리 해제 실패: gameId={}, error={}", state.getGameId(), e.getMessage());
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("종료 전 미반영 점수 flush");
+        flushDirtyScores();
+    }
+}
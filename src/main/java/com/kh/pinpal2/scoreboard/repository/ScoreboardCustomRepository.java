@@ -1,10 +1,23 @@
 package com.kh.pinpal2.scoreboard.repository;
 
 import com.kh.pinpal2.scoreboard.dto.ScoreboardMemberRow;
+import com.kh.pinpal2.scoreboard.dto.ScoreboardScoreFlush;
+import com.kh.pinpal2.scoreboard.dto.UserGradeUpdateDto;
+import com.kh.pinpal2.scoreboard.dto.UserTeamUpdateDto;
 
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.time.Instant;
+import java.time.LocalDate;
 import java.util.List;
 
 public interface ScoreboardCustomRepository {
     long countByGameId(Long gameId);
     List<ScoreboardMemberRow> findAllWithMemberMetaByGameId(Long gameId);
+    void batchUpdateScores(List<ScoreboardScoreFlush> rows);
+    int bulkUpdateTeamNumbers(Long gameId, List<UserTeamUpdateDto> users);
+    int claimTeamNumber(Long gameId, Long userId, int grade, int teamNumber);
+    int bulkUpdateGrades(Long gameId, List<UserGradeUpdateDto> users);
+    Instant findLastModifiedAtByGameIds(List<Long> gameIds);
+    void streamClubHistory(Long clubId, LocalDate startDate, LocalDate endDate, RowCallbackHandler handler);
 }
@@ -3,21 +3,37 @@ package com.kh.pinpal2.scoreboard.repository;
 import com.kh.pinpal2.club.entity.QClub;
 import com.kh.pinpal2.game.entity.QGame;
 import com.kh.pinpal2.scoreboard.dto.ScoreboardMemberRow;
+import com.kh.pinpal2.scoreboard.dto.ScoreboardScoreFlush;
+import com.kh.pinpal2.scoreboard.dto.UserGradeUpdateDto;
+import com.kh.pinpal2.scoreboard.dto.UserTeamUpdateDto;
 import com.kh.pinpal2.scoreboard.entity.QScoreboard;
 import com.kh.pinpal2.user.entity.QUser;
 import com.kh.pinpal2.user_club.entity.QUserClub;
 import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.stereotype.Repository;
 
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 @Repository
 @RequiredArgsConstructor
 public class ScoreboardCustomRepositoryImpl implements ScoreboardCustomRepository {
 
+    private static final int HISTORY_FETCH_SIZE = 1000;
+
     private final JPAQueryFactory queryFactory;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public long countByGameId(Long gameId) {
@@ -57,4 +73,157 @@ public class ScoreboardCustomRepositoryImpl implements ScoreboardCustomRepositor
                 .where(s.game.id.eq(gameId))
                 .fetch();
     }
+
+    /**
+     * write-behind 점수 반영용 JDBC 배치 UPDATE (엔티티 로딩 없이 한 번에 전송)
+     */
+    @Override
+    public void batchUpdateScores(List<ScoreboardScoreFlush> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.from(Instant.now());
+
+        jdbcTemplate.batchUpdate(
+                "UPDATE scoreboard SET score1 = ?, score2 = ?, score3 = ?, score4 = ?, updated_at = ? WHERE id = ?",
+                rows,
+                rows.size(),
+                (ps, row) -> {
+                    ps.setInt(1, row.score1());
+                    ps.setInt(2, row.score2());
+                    ps.setInt(3, row.score3());
+                    ps.setInt(4, row.score4());
+                    ps.setTimestamp(5, now);
+                    ps.setLong(6, row.scoreboardId());
+                }
+        );
+    }
+
+    @Override
+    public int bulkUpdateTeamNumbers(Long gameId, List<UserTeamUpdateDto> users) {
+        List<Object[]> pairs = users.stream()
+                .map(user -> new Object[]{user.userId(), user.teamNumber()})
+                .toList();
+
+        return bulkUpdateColumnByUser(gameId, "team_number", pairs);
+    }
+
+    /**
+     * 카드뽑기 선택을 조건부로 반영 (해당 군에 그 팀 번호 카드가 아직 남아 있을 때만)
+     * - 카드 선점은 노드 메모리에서 하므로 다른 노드에서 같은 카드를 동시에 선점할 수 있음 → DB에서 한 번 더 확인
+     * - 같은 군/팀 번호의 card_draw_slot 행을 잠가 동시 반영을 줄 세움
+     *   (READ COMMITTED: 잠금을 기다린 쪽의 UPDATE는 먼저 커밋된 선택을 보고 판단)
+     * - 이미 그 팀 번호인 사용자가 다시 선택한 경우는 그대로 성공
+     * @return 반영된 행 수 (0이면 카드가 이미 다른 참가자에게 반영됨 또는 참가자가 아님)
+     */
+    @Override
+    public int claimTeamNumber(Long gameId, Long userId, int grade, int teamNumber) {
+        jdbcTemplate.queryForList(
+                "SELECT id FROM card_draw_slot WHERE game_id = ? AND grade = ? AND team_number = ? FOR UPDATE",
+                Long.class, gameId, grade, teamNumber);
+
+        return jdbcTemplate.update(
+                "UPDATE scoreboard s SET team_number = ?, updated_at = ? " +
+                        "WHERE s.game_id = ? AND s.user_id = ? AND COALESCE(s.grade, 0) = ? " +
+                        "AND (s.team_number = ? OR " +
+                        "(SELECT count(*) FROM scoreboard o WHERE o.game_id = s.game_id AND o.id <> s.id " +
+                        "AND COALESCE(o.grade, 0) = ? AND o.team_number = ?) " +
+                        "< (SELECT count(*) FROM card_draw_slot c WHERE c.game_id = s.game_id " +
+                        "AND c.grade = ? AND c.team_number = ?))",
+                teamNumber, Timestamp.from(Instant.now()),
+                gameId, userId, grade,
+                teamNumber,
+                grade, teamNumber,
+                grade, teamNumber);
+    }
+
+    @Override
+    public int bulkUpdateGrades(Long gameId, List<UserGradeUpdateDto> users) {
+        List<Object[]> pairs = users.stream()
+                .map(user -> new Object[]{user.userId(), user.grade()})
+                .toList();
+
+        return bulkUpdateColumnByUser(gameId, "grade", pairs);
+    }
+
+    /**
+     * 게임들의 스코어보드 중 가장 최근 수정 시각 (없으면 null)
+     */
+    @Override
+    public Instant findLastModifiedAtByGameIds(List<Long> gameIds) {
+        if (gameIds.isEmpty()) {
+            return null;
+        }
+        QScoreboard scoreboard = QScoreboard.scoreboard;
+
+        return queryFactory
+                .select(scoreboard.updatedAt.max())
+                .from(scoreboard)
+                .where(scoreboard.game.id.in(gameIds))
+                .fetchOne();
+    }
+
+    /**
+     * 클럽의 종료된 게임 기록을 한 줄씩 handler로 전달 (엔티티/DTO를 만들지 않음)
+     * - 커서로 HISTORY_FETCH_SIZE 행씩 가져오므로 트랜잭션(autocommit off) 안에서 호출해야 메모리가 일정함
+     * - 컬럼: game_id, game_date, game_name, user_id, member_name, grade, avg, score1~4, team_number
+     */
+    @Override
+    public void streamClubHistory(Long clubId, LocalDate startDate, LocalDate endDate, RowCallbackHandler handler) {
+        StringBuilder sql = new StringBuilder(
+                "SELECT g.id AS game_id, g.date AS game_date, g.name AS game_name, " +
+                        "s.user_id, u.name AS member_name, s.grade, s.avg, " +
+                        "s.score1, s.score2, s.score3, s.score4, s.team_number " +
+                        "FROM game g " +
+                        "JOIN scoreboard s ON s.game_id = g.id " +
+                        "JOIN tbl_user u ON u.id = s.user_id " +
+                        "WHERE g.club_id = ? AND g.status = 'FINISHED' AND g.is_delete = false");
+        List<Object> params = new ArrayList<>();
+        params.add(clubId);
+        if (startDate != null) {
+            sql.append(" AND g.date >= ?");
+            params.add(Date.valueOf(startDate));
+        }
+        if (endDate != null) {
+            sql.append(" AND g.date <= ?");
+            params.add(Date.valueOf(endDate));
+        }
+        sql.append(" ORDER BY g.date, g.time, g.id, s.id");
+
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql.toString(), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(HISTORY_FETCH_SIZE);
+            for (int i = 0; i < params.size(); i++) {
+                ps.setObject(i + 1, params.get(i));
+            }
+            return ps;
+        }, handler);
+    }
+
+    /**
+     * (userId, value) 목록을 한 번의 UPDATE ... FROM (VALUES ...) 로 반영
+     * - column 은 내부에서 넘기는 고정값만 사용 (외부 입력 X)
+     */
+    private int bulkUpdateColumnByUser(Long gameId, String column, List<Object[]> pairs) {
+        if (pairs.isEmpty()) {
+            return 0;
+        }
+
+        String values = String.join(", ", Collections.nCopies(pairs.size(), "(?::bigint, ?::integer)"));
+        String sql = "UPDATE scoreboard s SET " + column + " = v.value, updated_at = ? " +
+                "FROM (VALUES " + values + ") AS v(user_id, value) " +
+                "WHERE s.game_id = ? AND s.user_id = v.user_id";
+
+        // 파라미터 순서: updated_at → VALUES 쌍 → game_id
+        List<Object> params = new ArrayList<>(pairs.size() * 2 + 2);
+        params.add(Timestamp.from(Instant.now()));
+        for (Object[] pair : pairs) {
+            params.add(pair[0]);
+            params.add(pair[1]);
+        }
+        params.add(gameId);
+
+        return jdbcTemplate.update(sql, params.toArray());
+    }
 }
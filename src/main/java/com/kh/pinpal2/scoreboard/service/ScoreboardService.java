@@ -12,10 +12,12 @@ public interface ScoreboardService {
 
     void scoreCounting(ScoreCountingUpdate request);
 
-    void initialScoreboardData(InitialDataRequestDto request);
+    void initialScoreboardData(InitialDataRequestDto request, String user, String sessionId);
+
+    void resume(ScoreboardResumeRequestDto request, String user, String sessionId);
     
     void startCardDraw(CardDrawStartRequestDto request);
-    void selectCard(CardSelectRequestDto request);
+    void selectCard(CardSelectRequestDto request, String user, String sessionId);
     void resetCardDraw(CardDrawStartRequestDto request);
 
     void updateAvg(AvgUpdateRequestDto request);
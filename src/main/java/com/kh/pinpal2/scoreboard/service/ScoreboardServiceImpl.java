@@ -4,22 +4,32 @@ import com.kh.pinpal2.base.event.*;
 import com.kh.pinpal2.base.exception.game.GameNotFoundException;
 import com.kh.pinpal2.base.exception.scoreboard.ScoreboardNotFoundException;
 import com.kh.pinpal2.base.exception.user.UserNotFoundException;
+import com.kh.pinpal2.card_draw_slot.repository.CardDrawSlotRepository;
 import com.kh.pinpal2.ceremony.entity.Ceremony;
 import com.kh.pinpal2.ceremony.repository.CeremonyRepository;
 import com.kh.pinpal2.ceremony_user.entity.CeremonyUser;
 import com.kh.pinpal2.ceremony_user.repository.CeremonyUserRepository;
 import com.kh.pinpal2.game.entity.Game;
 import com.kh.pinpal2.game.repository.GameRepository;
+import com.kh.pinpal2.scoreboard.broadcast.ScoreboardBroadcaster;
+import com.kh.pinpal2.scoreboard.broadcast.ScoreboardEventLog;
+import com.kh.pinpal2.scoreboard.carddraw.CardClaimResult;
+import com.kh.pinpal2.scoreboard.carddraw.CardDrawBoard;
+import com.kh.pinpal2.scoreboard.carddraw.CardDrawRegistry;
 import com.kh.pinpal2.scoreboard.dto.*;
 import com.kh.pinpal2.scoreboard.entity.Scoreboard;
+import com.kh.pinpal2.scoreboard.live.LiveGameRegistry;
+import com.kh.pinpal2.scoreboard.live.LiveGameState;
 import com.kh.pinpal2.scoreboard.repository.ScoreboardRepository;
+import com.kh.pinpal2.scoreboard.snapshot.ScoreboardSnapshot;
+import com.kh.pinpal2.scoreboard.snapshot.ScoreboardSnapshotCache;
 import com.kh.pinpal2.user.entity.User;
 import com.kh.pinpal2.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
@@ -40,8 +50,12 @@ public class ScoreboardServiceImpl implements ScoreboardService {
     private final CeremonyUserRepository ceremonyUserRepository;
     private final ScoreboardRepository scoreboardRepository;
     private final ApplicationEventPublisher eventPublisher;
-    private final SimpMessagingTemplate simpMessagingTemplate;
+    private final ScoreboardBroadcaster scoreboardBroadcaster;
     private final ObjectMapper objectMapper;
+    private final LiveGameRegistry liveGameRegistry;
+    private final ScoreboardSnapshotCache snapshotCache;
+    private final CardDrawRegistry cardDrawRegistry;
+    private final CardDrawSlotRepository cardDrawSlotRepository;
 
     /**
      * 카드뽑기 데이터 생성 헬퍼 메서드
@@ -80,7 +94,13 @@ public class ScoreboardServiceImpl implements ScoreboardService {
         Game game = gameRepository.findById(requestDto.gameId())
                 .orElseThrow(() -> new RuntimeException("게임을 찾을 수 없습니다: " + requestDto.gameId()));
         
+        // 메모리에만 있던 점수를 먼저 DB에 반영하고 진행 중 게임 상태 해제
+        liveGameRegistry.flushAndEvict(game.getId());
+        snapshotCache.evict(game.getId());
+        cardDrawRegistry.evict(game.getId());
+
         // 게임 상태를 종료로 변경
+        boolean alreadyFinished = "FINISHED".equals(game.getStatus());
         game.updateStatus("FINISHED");
         
         // 점수 집계를 완료 상태로 변경
@@ -93,6 +113,9 @@ public class ScoreboardServiceImpl implements ScoreboardService {
         if (shouldCreateCeremonies(requestDto)) {
             createCeremonies(game, requestDto);
         }
+
+        // 커밋 후 캐시 무효화, 처음 종료될 때만 회원 통계에 반영 (ClubMemberStatsEventListener)
+        eventPublisher.publishEvent(new GameFinishedEvent(game.getId(), game.getClub().getId(), !alreadyFinished));
         
         log.info("게임 종료 완료: gameId={}", requestDto.gameId());
     }
@@ -100,58 +123,49 @@ public class ScoreboardServiceImpl implements ScoreboardService {
     @Override
     public void teamNumberUpdate(TeamNumberUpdateRequestDto requestDto) {
         Long gameId = requestDto.gameId();
-        gameRepository.findById(gameId).orElseThrow(GameNotFoundException::new);
+        if (!gameRepository.existsById(gameId)) {
+            throw new GameNotFoundException();
+        }
 
         List<UserTeamUpdateDto> users = requestDto.users();
         log.info("팀 번호 배치 업데이트 시작: gameId={}, 사용자 수={}", gameId, users.size());
 
-        // 각 사용자의 팀 번호를 업데이트 (DB 저장만)
-        users.forEach(user -> {
-            scoreboardRepository.findByGameIdAndUserId(gameId, user.userId())
-                    .ifPresent(scoreboard -> {
-
-                        // 새 팀 번호로 업데이트
-                        scoreboard.updateTeamNumber(user.teamNumber());
-                        scoreboardRepository.save(scoreboard);
-
-                        log.info("팀 번호 업데이트: userId={} -> {}",
-                                user.userId(), user.teamNumber());
-                    });
-        });
+        // 모든 사용자의 팀 번호를 한 번의 UPDATE로 반영 (DB 저장만)
+        int updated = scoreboardRepository.bulkUpdateTeamNumbers(gameId, users);
+        // 카드뽑기 중 수동 변경이면 선택 상태를 다시 복원하도록 해제
+        if (cardDrawRegistry.evict(gameId)) {
+            snapshotCache.evict(gameId);
+        }
 
         // 모든 업데이트가 완료된 후 이벤트 퍼블리셔로 배치 전송
         // (트랜잭션 커밋 후 WebsocketRequiredEventListener에서 처리됨)
-        log.info("팀 번호 배치 업데이트 완료: gameId={}, 사용자 수={}", gameId, users.size());
+        log.info("팀 번호 배치 업데이트 완료: gameId={}, 요청 수={}, 반영 수={}", gameId, users.size(), updated);
         eventPublisher.publishEvent(new ScoreboardTeamUpdate(gameId, users));
     }
 
     @Override
     public void gradeUpdate(GradeUpdateRequestDto request) {
         Long gameId = request.gameId();
-        gameRepository.findById(gameId).orElseThrow(GameNotFoundException::new);
+        if (!gameRepository.existsById(gameId)) {
+            throw new GameNotFoundException();
+        }
 
-        request.users().forEach(user -> {
-            scoreboardRepository.findByGameIdAndUserId(gameId, user.userId())
-                    .ifPresent(scoreboard -> {
-                        scoreboard.updateGrade(user.grade());
-                        scoreboardRepository.save(scoreboard);
-                    });
-        });
+        List<UserGradeUpdateDto> users = request.users();
+
+        // 모든 사용자의 군을 한 번의 UPDATE로 반영
+        scoreboardRepository.bulkUpdateGrades(gameId, users);
+        if (cardDrawRegistry.evict(gameId)) {
+            snapshotCache.evict(gameId);
+        }
 
-        eventPublisher.publishEvent(new ScoreboardGradeUpdate(gameId, request.users()));
+        eventPublisher.publishEvent(new ScoreboardGradeUpdate(gameId, users));
     }
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void scoreUpdate(ScoreboardUpdate request) {
         Long gameId = request.gameId();
-        gameRepository.findById(gameId).orElseThrow(GameNotFoundException::new);
-
         Long userId = request.userId();
-        userRepository.findById(userId).orElseThrow(UserNotFoundException::new);
-
-        Scoreboard user = scoreboardRepository.findByGameIdAndUserId(gameId, userId).orElseThrow(
-                ScoreboardNotFoundException::new
-        );
 
         ScoreUpdateDto score = request.score();
 
@@ -161,10 +175,26 @@ public class ScoreboardServiceImpl implements ScoreboardService {
         int game3Score = score.game3Score() != null ? score.game3Score() : 0;
         int game4Score = score.game4Score() != null ? score.game4Score() : 0;
 
-        user.updateScore(game1Score, game2Score, game3Score, game4Score);
-        Scoreboard save = scoreboardRepository.save(user);
+        // 진행 중인 게임은 메모리에만 반영하고 바로 전송 (DB 반영은 write-behind)
+        int changedMask = LiveGameState.CLOSED;
+        Optional<LiveGameState> liveGame = liveGameRegistry.getOrLoad(gameId);
+        if (liveGame.isPresent()) {
+            changedMask = liveGame.get().applyScore(userId, game1Score, game2Score, game3Score, game4Score);
+            if (changedMask == LiveGameState.NOT_PARTICIPANT) {
+                throw new ScoreboardNotFoundException();
+            }
+        }
+        if (changedMask == LiveGameState.CLOSED) {
+            // 종료된 게임(또는 종료 처리 중인 게임)의 점수 수정은 기존처럼 바로 저장
+            Scoreboard user = scoreboardRepository.findByGameIdAndUserId(gameId, userId).orElseThrow(
+                    ScoreboardNotFoundException::new
+            );
+            user.updateScore(game1Score, game2Score, game3Score, game4Score);
+            scoreboardRepository.save(user);
+            changedMask = 0b1111;
+        }
 
-        eventPublisher.publishEvent(new ScoreUpdate(gameId, userId, game1Score, game2Score, game3Score, game4Score));
+        eventPublisher.publishEvent(new ScoreUpdate(gameId, userId, game1Score, game2Score, game3Score, game4Score, changedMask));
     }
 
     @Override
@@ -243,78 +273,126 @@ public class ScoreboardServiceImpl implements ScoreboardService {
     }
 
     @Override
-    public void initialScoreboardData(InitialDataRequestDto request) {
+    public void initialScoreboardData(InitialDataRequestDto request, String user, String sessionId) {
+        Long gameId = request.gameId();
+
+        // 새로 들어온 세션에게만 전송 (방 전체가 스냅샷을 다시 받지 않도록)
+        scoreboardBroadcaster.sendSnapshotToSession(gameId, user, sessionId, snapshotCache.get(gameId, this::loadSnapshot));
+    }
+
+    @Override
+    public void resume(ScoreboardResumeRequestDto request, String user, String sessionId) {
         Long gameId = request.gameId();
+        long lastSeq = request.lastSeq() != null ? request.lastSeq() : -1L;
+
+        ScoreboardEventLog.GameEvents events = scoreboardBroadcaster.events(gameId);
+        long currentSeq;
+        String epoch;
+        Optional<List<Map<String, Object>>> missed;
+        synchronized (events) {
+            currentSeq = events.currentSeq();
+            epoch = events.epoch();
+            missed = events.since(request.epoch(), lastSeq);
+        }
+
+        if (missed.isPresent()) {
+            Map<String, Object> resumeData = new HashMap<>();
+            resumeData.put("type", "resume");
+            resumeData.put("gameId", gameId);
+            resumeData.put("events", missed.get());
+            resumeData.put("seq", currentSeq);
+            resumeData.put("epoch", epoch);
+
+            scoreboardBroadcaster.sendToSession(gameId, user, sessionId, resumeData);
+            log.info("이벤트 이어받기: gameId={}, lastSeq={}, 전송 이벤트 수={}", gameId, lastSeq, missed.get().size());
+            return;
+        }
+
+        // epoch가 다르거나(재시작, 만료) 버퍼 범위를 벗어난 경우에만 스냅샷을 요청한 세션에게만 전송
+        scoreboardBroadcaster.sendSnapshotToSession(gameId, user, sessionId, snapshotCache.get(gameId, this::loadSnapshot));
+        log.info("이벤트 이어받기 불가, 스냅샷 전송: gameId={}, epoch={}/{}, lastSeq={}, currentSeq={}",
+                gameId, request.epoch(), epoch, lastSeq, currentSeq);
+    }
+
+    /**
+     * 스냅샷 캐시 미스 시에만 DB에서 초기 데이터 생성: 참가자 행 + 카드뽑기 데이터
+     */
+    private ScoreboardSnapshot loadSnapshot(Long gameId) {
         Game game = gameRepository.findById(gameId).orElseThrow(GameNotFoundException::new);
 
-        List<ScoreboardMemberRow> scoreboards = scoreboardRepository.findAllWithMemberMetaByGameId(game.getId());
+        List<ScoreboardMemberRow> scoreboards = scoreboardRepository.findAllWithMemberMetaByGameId(gameId);
 
-        // 카드뽑기 데이터도 함께 전송
-        Map<String, Object> initialData = new HashMap<>();
-        initialData.put("type", "initialData");
-        initialData.put("scoreboards", scoreboards);
-        initialData.put("cardDrawStarted", game.isCardDraw());
-        
-        // 카드뽑기가 시작된 경우에만 카드뽑기 데이터 포함
+        // 아직 DB에 반영되지 않은 점수는 메모리 값으로 덮어씀
+        Optional<LiveGameState> liveGame = liveGameRegistry.find(gameId);
+        if (liveGame.isPresent()) {
+            scoreboards = liveGame.get().overlay(scoreboards);
+        }
+
+        // 카드뽑기가 시작된 경우에만 카드뽑기 데이터 포함 (이미 조회한 행으로 선택 상태 복원, 추가 조회 없음)
+        CardDrawBoard cardDrawBoard = null;
         if (game.isCardDraw()) {
-            Map<Integer, List<Integer>> cardDrawData;
-            
-            // 저장된 카드뽑기 데이터가 있으면 그것을 사용, 없으면 새로 생성
-            if (game.getCardDrawData() != null && !game.getCardDrawData().isEmpty()) {
-                try {
-                    cardDrawData = objectMapper.readValue(game.getCardDrawData(), 
-                        objectMapper.getTypeFactory().constructMapType(Map.class, Integer.class, List.class));
-                    log.info("저장된 카드뽑기 데이터 사용 (initialData): gameId={}", gameId);
-                } catch (JsonProcessingException e) {
-                    log.error("저장된 카드뽑기 데이터 파싱 실패 (initialData): gameId={}, error={}", gameId, e.getMessage());
-                    // 파싱 실패 시 새로 생성
-                    cardDrawData = generateCardDrawData(gameId);
-                }
-            } else {
-                // 저장된 데이터가 없으면 새로 생성
-                cardDrawData = generateCardDrawData(gameId);
-                // 새로 생성한 데이터를 저장
-                try {
-                    String cardDrawDataJson = objectMapper.writeValueAsString(cardDrawData);
-                    game.setCardDrawData(cardDrawDataJson);
-                    gameRepository.save(game);
-                    log.info("새로 생성한 카드뽑기 데이터 저장 (initialData): gameId={}", gameId);
-                } catch (JsonProcessingException e) {
-                    log.error("카드뽑기 데이터 JSON 변환 실패 (initialData): gameId={}, error={}", gameId, e.getMessage());
-                }
-            }
-            
-            initialData.put("cardDrawData", cardDrawData);
-            
-            // 선택된 카드 정보도 포함
-            List<Scoreboard> allScoreboards = scoreboardRepository.findAllByGameId(gameId);
-            Map<String, Object> selectedCards = new HashMap<>();
-            for (Scoreboard scoreboard : allScoreboards) {
-                if (scoreboard.getTeamNumber() != null && scoreboard.getTeamNumber() > 0) {
-                    Integer grade = scoreboard.getGrade() != null ? scoreboard.getGrade() : 0;
-                    // 해당 군의 카드 배열에서 팀 번호의 인덱스 찾기
-                    List<Integer> gradeCards = cardDrawData.get(grade);
-                    if (gradeCards != null) {
-                        int cardIndex = gradeCards.indexOf(scoreboard.getTeamNumber());
-                        if (cardIndex >= 0) {
-                            String cardKey = grade + "-" + cardIndex;
-                            selectedCards.put(cardKey, Map.of(
-                                "userId", scoreboard.getUser().getId(),
-                                "teamNumber", scoreboard.getTeamNumber()
-                            ));
-                        }
-                    }
-                }
-            }
-            
-            initialData.put("selectedCards", selectedCards);
-            log.info("초기 데이터에 카드뽑기 데이터 및 선택된 카드 포함: gameId={}, cardDrawData={}, selectedCards={}, cardDrawStarted={}", 
-                    gameId, cardDrawData, selectedCards, game.isCardDraw());
+            List<ScoreboardMemberRow> rows = scoreboards;
+            cardDrawBoard = cardDrawRegistry.getOrLoad(gameId, id -> CardDrawBoard.of(resolveCardDrawData(game), rows));
         } else {
             log.info("카드뽑기가 시작되지 않음: gameId={}, cardDrawStarted={}", gameId, game.isCardDraw());
         }
 
-        simpMessagingTemplate.convertAndSend("/sub/scoreboard/" + request.gameId(), initialData);
+        return new ScoreboardSnapshot(gameId, scoreboards, game.isScoreCounting(), game.isCardDraw(), cardDrawBoard);
+    }
+
+    /**
+     * 카드뽑기 상태 조회 (메모리에 없으면 게임의 카드 배열 + 현재 팀 번호로 복원)
+     */
+    private CardDrawBoard cardDrawBoard(Long gameId) {
+        return cardDrawRegistry.getOrLoad(gameId, id -> {
+            Game game = gameRepository.findById(id).orElseThrow(GameNotFoundException::new);
+            return CardDrawBoard.of(resolveCardDrawData(game), scoreboardRepository.findAllWithMemberMetaByGameId(id));
+        });
+    }
+
+    /**
+     * 저장된 카드뽑기 데이터가 있으면 그것을 사용, 없으면 새로 생성해서 저장
+     */
+    private Map<Integer, List<Integer>> resolveCardDrawData(Game game) {
+        Long gameId = game.getId();
+
+        Map<Integer, List<Integer>> cardDrawData = storedCardDrawData(gameId);
+        if (!cardDrawData.isEmpty()) {
+            log.info("저장된 카드뽑기 데이터 사용 (initialData): gameId={}", gameId);
+            return cardDrawData;
+        }
+
+        // 저장된 데이터가 없으면 새로 생성해서 저장
+        cardDrawData = generateCardDrawData(gameId);
+        cardDrawSlotRepository.replaceCardDrawData(gameId, cardDrawData);
+        log.info("새로 생성한 카드뽑기 데이터 저장 (initialData): gameId={}", gameId);
+        return cardDrawData;
+    }
+
+    /**
+     * card_draw_slot 에 저장된 카드 배열 조회
+     * - 없으면 이전 버전의 game.card_draw_data(JSON)를 옮겨 담음 (원본 컬럼은 남겨 두므로 파싱에 실패해도 데이터는 유지)
+     */
+    private Map<Integer, List<Integer>> storedCardDrawData(Long gameId) {
+        Map<Integer, List<Integer>> cardDrawData = cardDrawSlotRepository.findCardDrawDataByGameId(gameId);
+        if (!cardDrawData.isEmpty()) {
+            return cardDrawData;
+        }
+
+        Optional<String> legacy = cardDrawSlotRepository.findLegacyCardDrawData(gameId);
+        if (legacy.isEmpty()) {
+            return cardDrawData;
+        }
+        try {
+            cardDrawData = objectMapper.readValue(legacy.get(),
+                objectMapper.getTypeFactory().constructMapType(Map.class, Integer.class, List.class));
+            cardDrawSlotRepository.replaceCardDrawData(gameId, cardDrawData);
+            log.info("이전 카드뽑기 데이터를 card_draw_slot 으로 이전: gameId={}", gameId);
+            return cardDrawData;
+        } catch (JsonProcessingException e) {
+            log.error("저장된 카드뽑기 데이터 파싱 실패: gameId={}, error={}", gameId, e.getMessage());
+            return new HashMap<>();
+        }
     }
 
     /**
@@ -449,6 +527,7 @@ public class ScoreboardServiceImpl implements ScoreboardService {
                     .orElseThrow(() -> new RuntimeException("게임을 찾을 수 없습니다."));
             
             Map<Integer, List<Integer>> cardDrawData;
+            boolean reuseStored = false;
             
             // 프론트엔드에서 전송한 카드뽑기 데이터가 있으면 사용, 없으면 기존 로직 사용
             if (request.cardDrawData() != null && !request.cardDrawData().isEmpty()) {
@@ -463,34 +542,36 @@ public class ScoreboardServiceImpl implements ScoreboardService {
                 log.info("프론트엔드에서 전송한 카드뽑기 데이터 사용: gameId={}, teamCount={}", request.gameId(), request.teamCount());
             } else {
                 // 기존 로직: 카드뽑기 상태가 아직 활성화되지 않았거나 카드뽑기 데이터가 없는 경우에만 새로 생성
-                if (game.isCardDraw() == null || !game.isCardDraw() || game.getCardDrawData() == null || game.getCardDrawData().isEmpty()) {
+                Map<Integer, List<Integer>> stored = game.isCardDraw() ? storedCardDrawData(request.gameId()) : Map.of();
+                if (stored.isEmpty()) {
                     // 새로운 카드뽑기 데이터 생성
                     cardDrawData = generateCardDrawData(request.gameId());
                     log.info("새로운 카드뽑기 데이터 생성: gameId={}", request.gameId());
                 } else {
                     // 이미 저장된 카드뽑기 데이터가 있으면 그것을 사용
-                    try {
-                        cardDrawData = objectMapper.readValue(game.getCardDrawData(), 
-                            objectMapper.getTypeFactory().constructMapType(Map.class, Integer.class, List.class));
-                        log.info("저장된 카드뽑기 데이터 사용: gameId={}", request.gameId());
-                    } catch (JsonProcessingException e) {
-                        log.error("저장된 카드뽑기 데이터 파싱 실패: gameId={}, error={}", request.gameId(), e.getMessage());
-                        throw new RuntimeException("카드뽑기 데이터 파싱 실패", e);
-                    }
+                    cardDrawData = stored;
+                    reuseStored = true;
+                    log.info("저장된 카드뽑기 데이터 사용: gameId={}", request.gameId());
                 }
             }
             
-            // 카드뽑기 데이터를 JSON 문자열로 변환하여 DB에 저장
-            try {
-                String cardDrawDataJson = objectMapper.writeValueAsString(cardDrawData);
-                game.setCardDrawData(cardDrawDataJson);
-                game.updateCardDraw(); // 카드뽑기 상태 활성화
-                gameRepository.save(game);
-                log.info("카드뽑기 데이터 저장 완료: gameId={}", request.gameId());
-            } catch (JsonProcessingException e) {
-                log.error("카드뽑기 데이터 JSON 변환 실패: gameId={}, error={}", request.gameId(), e.getMessage());
-                throw new RuntimeException("카드뽑기 데이터 저장 실패", e);
+            // 카드 배열은 card_draw_slot 에 저장 (이미 저장된 배열을 그대로 쓰는 경우는 생략)
+            if (!reuseStored) {
+                cardDrawSlotRepository.replaceCardDrawData(request.gameId(), cardDrawData);
+            }
+            game.updateCardDraw(); // 카드뽑기 상태 활성화
+            gameRepository.save(game);
+            CardDrawBoard cardDrawBoard = null;
+            if (game.isCardDraw()) {
+                cardDrawBoard = CardDrawBoard.of(cardDrawData, scoreboardRepository.findAllWithMemberMetaByGameId(request.gameId()));
+                cardDrawRegistry.put(request.gameId(), cardDrawBoard);
+            } else {
+                cardDrawRegistry.evict(request.gameId());
             }
+            boolean cardDrawStarted = game.isCardDraw();
+            CardDrawBoard startedBoard = cardDrawBoard;
+            snapshotCache.update(request.gameId(), snapshot -> snapshot.applyCardDraw(cardDrawStarted, startedBoard));
+            log.info("카드뽑기 데이터 저장 완료: gameId={}", request.gameId());
             
             // STOMP 메시지로 모든 클라이언트에게 카드뽑기 데이터 전송
             Map<String, Object> cardDrawStart = new HashMap<>();
@@ -501,7 +582,7 @@ public class ScoreboardServiceImpl implements ScoreboardService {
             cardDrawStart.put("timestamp", System.currentTimeMillis());
             
             String destination = "/sub/scoreboard/" + request.gameId();
-            simpMessagingTemplate.convertAndSend(destination, cardDrawStart);
+            scoreboardBroadcaster.broadcast(request.gameId(), cardDrawStart);
             log.info("카드뽑기 시작 알림 전송 완료: destination={}, teamCount={}", destination, request.teamCount());
             
         } catch (Exception e) {
@@ -513,40 +594,83 @@ public class ScoreboardServiceImpl implements ScoreboardService {
      * 카드 선택 - 사용자가 카드를 선택했을 때 팀 번호 업데이트
      */
     @Override
-    public void selectCard(CardSelectRequestDto request) {
+    public void selectCard(CardSelectRequestDto request, String user, String sessionId) {
+        Long gameId = request.gameId();
+        Long userId = request.userId();
         log.info("카드 선택: gameId={}, userId={}, grade={}, cardIndex={}", 
-                request.gameId(), request.userId(), request.grade(), request.cardIndex());
+                gameId, userId, request.grade(), request.cardIndex());
         
         try {
-            // 해당 사용자의 scoreboard 조회
-            Scoreboard scoreboard = scoreboardRepository.findByGameIdAndUserId(request.gameId(), request.userId())
-                    .orElseThrow(() -> new RuntimeException("사용자의 scoreboard를 찾을 수 없습니다."));
-            
-            // 실제 팀 번호 계산 (카드에 있는 팀 번호 사용)
-            int actualTeamNumber = request.teamNumber();
-            scoreboard.updateTeamNumber(actualTeamNumber);
-            scoreboardRepository.save(scoreboard);
-            
-            log.info("팀 번호 업데이트 완료: userId={}, teamNumber={}", request.userId(), actualTeamNumber);
-            
-            // STOMP 메시지로 모든 클라이언트에게 카드 선택 알림 전송
-            Map<String, Object> cardSelected = new HashMap<>();
-            cardSelected.put("type", "cardSelected");
-            cardSelected.put("gameId", request.gameId());
-            cardSelected.put("userId", request.userId());
-            cardSelected.put("grade", request.grade());
-            cardSelected.put("cardIndex", request.cardIndex());
-            cardSelected.put("teamNumber", actualTeamNumber);
-            cardSelected.put("timestamp", System.currentTimeMillis());
-            
-            String destination = "/sub/scoreboard/" + request.gameId();
-            simpMessagingTemplate.convertAndSend(destination, cardSelected);
-            log.info("카드 선택 알림 전송 완료: destination={}", destination);
-            
+            CardDrawBoard board = cardDrawBoard(gameId);
+            // 같은 사용자의 선택은 선점 → DB 반영을 순서대로 처리
+            // (UPDATE 행 잠금을 락 안에서 잡으므로 나중에 선점한 카드가 나중에 커밋됨)
+            synchronized (board.lockOf(userId)) {
+                claimCard(board, request, user, sessionId);
+            }
         } catch (Exception e) {
+            // 메모리 선점 상태가 DB와 어긋나지 않도록 다음 요청 때 다시 복원
+            cardDrawRegistry.evict(gameId);
             log.error("카드 선택 실패: gameId={}, userId={}, error={}", 
-                    request.gameId(), request.userId(), e.getMessage());
+                    gameId, userId, e.getMessage());
+        }
+    }
+
+    /**
+     * 카드 선점 후 팀 번호 반영 (사용자 락 안에서 호출)
+     * - 메모리 선점은 노드마다 따로이므로 DB에는 카드가 남아 있을 때만 반영 (다른 노드가 먼저 반영했으면 거절)
+     */
+    private void claimCard(CardDrawBoard board, CardSelectRequestDto request, String user, String sessionId) {
+        Long gameId = request.gameId();
+        Long userId = request.userId();
+        // 메모리에서 먼저 카드 선점 (동시에 같은 카드를 누르면 한 명만 성공, 자기 군의 카드만 가능)
+        CardClaimResult result = board.claim(userId, request.grade(), request.cardIndex());
+        if (!result.isClaimed()) {
+            rejectCardSelect(request, user, sessionId, result.status(), result.claimedBy());
+            return;
+        }
+
+        // 실제 팀 번호는 카드에 있는 팀 번호 사용
+        int actualTeamNumber = result.teamNumber();
+        int updated = scoreboardRepository.claimTeamNumber(gameId, userId, request.grade(), actualTeamNumber);
+        if (updated == 0) {
+            // 다른 노드에서 같은 카드가 먼저 반영됨 → 이 노드의 선점 상태는 DB와 어긋나므로 다시 복원
+            cardDrawRegistry.evict(gameId);
+            rejectCardSelect(request, user, sessionId, CardClaimResult.Status.TAKEN, null);
+            return;
         }
+        snapshotCache.update(gameId, snapshot -> snapshot.applyTeamNumber(userId, actualTeamNumber));
+        
+        log.info("팀 번호 업데이트 완료: userId={}, teamNumber={}", userId, actualTeamNumber);
+        
+        // STOMP 메시지로 모든 클라이언트에게 카드 선택 알림 전송
+        Map<String, Object> cardSelected = new HashMap<>();
+        cardSelected.put("type", "cardSelected");
+        cardSelected.put("gameId", gameId);
+        cardSelected.put("userId", userId);
+        cardSelected.put("grade", request.grade());
+        cardSelected.put("cardIndex", request.cardIndex());
+        cardSelected.put("teamNumber", actualTeamNumber);
+        cardSelected.put("timestamp", System.currentTimeMillis());
+        
+        scoreboardBroadcaster.broadcast(gameId, cardSelected);
+        log.info("카드 선택 알림 전송 완료: gameId={}", gameId);
+    }
+
+    private void rejectCardSelect(CardSelectRequestDto request, String user, String sessionId,
+                                  CardClaimResult.Status reason, Long claimedBy) {
+        Map<String, Object> rejected = new HashMap<>();
+        rejected.put("type", "cardSelectRejected");
+        rejected.put("gameId", request.gameId());
+        rejected.put("userId", request.userId());
+        rejected.put("grade", request.grade());
+        rejected.put("cardIndex", request.cardIndex());
+        rejected.put("reason", reason.name());
+        rejected.put("claimedBy", claimedBy);
+        rejected.put("timestamp", System.currentTimeMillis());
+
+        scoreboardBroadcaster.sendToSession(request.gameId(), user, sessionId, rejected);
+        log.info("카드 선택 거절: gameId={}, userId={}, grade={}, cardIndex={}, reason={}, claimedBy={}",
+                request.gameId(), request.userId(), request.grade(), request.cardIndex(), reason, claimedBy);
     }
 
     /**
@@ -563,6 +687,8 @@ public class ScoreboardServiceImpl implements ScoreboardService {
                 scoreboard.updateTeamNumber(0);
             }
             scoreboardRepository.saveAll(scoreboards);
+            cardDrawRegistry.evict(request.gameId());
+            snapshotCache.update(request.gameId(), ScoreboardSnapshot::resetCardDraw);
             
             // 2. 게임의 카드뽑기 상태를 false로 설정하고 카드뽑기 데이터 초기화
             Game game = gameRepository.findById(request.gameId())
@@ -570,7 +696,7 @@ public class ScoreboardServiceImpl implements ScoreboardService {
             
             if (game.isCardDraw() != null && game.isCardDraw()) {
                 game.updateCardDraw();
-                game.setCardDrawData(null); // 카드뽑기 데이터 초기화
+                cardDrawSlotRepository.deleteByGameIds(List.of(request.gameId())); // 카드뽑기 데이터 초기화
                 gameRepository.save(game);
                 log.info("카드뽑기 상태 비활성화 및 데이터 초기화: gameId={}", request.gameId());
             }
@@ -582,7 +708,7 @@ public class ScoreboardServiceImpl implements ScoreboardService {
             cardDrawReset.put("timestamp", System.currentTimeMillis());
             
             String destination = "/sub/scoreboard/" + request.gameId();
-            simpMessagingTemplate.convertAndSend(destination, cardDrawReset);
+            scoreboardBroadcaster.broadcast(request.gameId(), cardDrawReset);
             log.info("카드뽑기 초기화 알림 전송 완료: destination={}", destination);
             
         } catch (Exception e) {
@@ -0,0 +1,141 @@
+package com.kh.pinpal2.scoreboard.snapshot;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kh.pinpal2.scoreboard.carddraw.CardDrawBoard;
+import com.kh.pinpal2.scoreboard.dto.ScoreboardMemberRow;
+import com.kh.pinpal2.scoreboard.dto.UserGradeUpdateDto;
+import com.kh.pinpal2.scoreboard.dto.UserTeamUpdateDto;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+/**
+ * 게임 하나의 초기 데이터(initialData) 스냅샷
+ * - 참가자 행 + 카드뽑기 데이터를 보관하고 이벤트마다 해당 부분만 갱신
+ * - 카드뽑기 데이터와 선택된 카드는 CardDrawBoard를 그대로 참조
+ * - 직렬화 결과(byte[])는 (버전, seq)가 같으면 재사용
+ */
+public class ScoreboardSnapshot {
+
+    private final Long gameId;
+    private final Map<Long, ScoreboardMemberRow> rowsByUserId = new LinkedHashMap<>();
+    private boolean scoreCounting;
+    private boolean cardDrawStarted;
+    private CardDrawBoard cardDrawBoard;
+
+    private long version;
+    private byte[] serialized;
+    private long serializedVersion = -1;
+    private long serializedSeq = -1;
+    private String serializedEpoch;
+
+    public ScoreboardSnapshot(Long gameId, List<ScoreboardMemberRow> rows, boolean scoreCounting,
+                              boolean cardDrawStarted, CardDrawBoard cardDrawBoard) {
+        this.gameId = gameId;
+        rows.forEach(row -> rowsByUserId.put(row.memberId(), row));
+        this.scoreCounting = scoreCounting;
+        this.cardDrawStarted = cardDrawStarted;
+        this.cardDrawBoard = cardDrawBoard;
+    }
+
+    public synchronized void applyScores(Long userId, int score1, int score2, int score3, int score4) {
+        updateRow(userId, row -> row.withScores(score1, score2, score3, score4));
+    }
+
+    public synchronized void applyTeamNumbers(List<UserTeamUpdateDto> users) {
+        users.forEach(user -> updateRow(user.userId(), row -> row.withTeamNumber(user.teamNumber())));
+    }
+
+    public synchronized void applyTeamNumber(Long userId, int teamNumber) {
+        updateRow(userId, row -> row.withTeamNumber(teamNumber));
+    }
+
+    public synchronized void applyGrades(List<UserGradeUpdateDto> users) {
+        users.forEach(user -> updateRow(user.userId(), row -> row.withGrade(user.grade())));
+    }
+
+    /**
+     * @param sideType "grade1" → side, "avg" → sideAvg
+     */
+    public synchronized void applySide(Long userId, String sideType, boolean joined) {
+        if ("grade1".equals(sideType)) {
+            updateRow(userId, row -> row.withSide(row.sideAvg(), joined));
+        } else if ("avg".equals(sideType)) {
+            updateRow(userId, row -> row.withSide(joined, row.side()));
+        }
+    }
+
+    public synchronized void applyConfirmed(Long userId, boolean confirmed) {
+        updateRow(userId, row -> row.withConfirmedJoin(confirmed));
+    }
+
+    public synchronized void applyAvg(Long userId, Integer memberAvg) {
+        updateRow(userId, row -> row.withMemberAvg(memberAvg));
+    }
+
+    public synchronized void applyScoreCounting(boolean scoreCounting) {
+        this.scoreCounting = scoreCounting;
+        rowsByUserId.replaceAll((userId, row) -> row.withGameFlags(scoreCounting, cardDrawStarted));
+        version++;
+    }
+
+    public synchronized void addParticipant(ScoreboardMemberRow row) {
+        rowsByUserId.put(row.memberId(), row);
+        version++;
+    }
+
+    public synchronized void applyCardDraw(boolean cardDrawStarted, CardDrawBoard cardDrawBoard) {
+        this.cardDrawStarted = cardDrawStarted;
+        this.cardDrawBoard = cardDrawBoard;
+        rowsByUserId.replaceAll((userId, row) -> row.withGameFlags(scoreCounting, cardDrawStarted));
+        version++;
+    }
+
+    public synchronized void resetCardDraw() {
+        this.cardDrawStarted = false;
+        this.cardDrawBoard = null;
+        rowsByUserId.replaceAll((userId, row) -> row.withGameFlags(scoreCounting, false).withTeamNumber(0));
+        version++;
+    }
+
+    /**
+     * initialData 형식의 JSON 직렬화 (변경이 없고 seq/epoch도 같으면 이전 결과 재사용)
+     */
+    public synchronized byte[] serialize(long seq, String epoch, ObjectMapper objectMapper) {
+        if (serialized != null && serializedVersion == version && serializedSeq == seq && epoch.equals(serializedEpoch)) {
+            return serialized;
+        }
+
+        Map<String, Object> initialData = new HashMap<>();
+        initialData.put("type", "initialData");
+        initialData.put("scoreboards", new ArrayList<>(rowsByUserId.values()));
+        initialData.put("cardDrawStarted", cardDrawStarted);
+        if (cardDrawStarted && cardDrawBoard != null) {
+            initialData.put("cardDrawData", cardDrawBoard.cardDrawData());
+            initialData.put("selectedCards", cardDrawBoard.selectedCards());
+        }
+        initialData.put("seq", seq);
+        initialData.put("epoch", epoch);
+
+        try {
+            serialized = objectMapper.writeValueAsBytes(initialData);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("스냅샷 직렬화 실패: gameId=" + gameId, e);
+        }
+        serializedVersion = version;
+        serializedSeq = seq;
+        serializedEpoch = epoch;
+        return serialized;
+    }
+
+    private void updateRow(Long userId, UnaryOperator<ScoreboardMemberRow> update) {
+        if (rowsByUserId.computeIfPresent(userId, (key, row) -> update.apply(row)) != null) {
+            version++;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.kh.pinpal2.scoreboard.snapshot;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 게임별 초기 데이터 스냅샷 캐시
+ * - 처음 요청될 때만 DB에서 만들고, 이후에는 이벤트로 부분 갱신 (입장 시 DB 접근 없음)
+ * - 적재 중에 들어온 이벤트가 있으면 그 적재 결과는 캐시에 넣지 않음 (오래된 스냅샷 방지)
+ * - 이벤트로 표현되지 않는 변경(게임 수정, 참가 취소, 종료 등)은 evict
+ */
+@Slf4j
+@Component
+public class ScoreboardSnapshotCache {
+
+    private final Cache<Long, ScoreboardSnapshot> snapshots;
+    // 적재 중인 게임 → 적재 도중 놓친 이벤트 수
+    private final Map<Long, AtomicInteger> loading = new ConcurrentHashMap<>();
+    private final Object lock = new Object();
+
+    public ScoreboardSnapshotCache(
+            @Value("${pinpal.scoreboard.snapshot.maximum-size:500}") long maximumSize,
+            @Value("${pinpal.scoreboard.snapshot.expire-after-access-ms:21600000}") long expireAfterAccessMillis) {
+        this.snapshots = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(expireAfterAccessMillis, TimeUnit.MILLISECONDS)
+                .build();
+    }
+
+    /**
+     * 스냅샷 조회 (없으면 loader로 만들고, 그 사이 변경이 없었던 경우에만 캐시에 저장)
+     */
+    public ScoreboardSnapshot get(Long gameId, Function<Long, ScoreboardSnapshot> loader) {
+        ScoreboardSnapshot cached = snapshots.getIfPresent(gameId);
+        if (cached != null) {
+            return cached;
+        }
+
+        AtomicInteger missed = new AtomicInteger();
+        loading.put(gameId, missed);
+
+        ScoreboardSnapshot loaded = loader.apply(gameId);
+
+        synchronized (lock) {
+            if (loading.remove(gameId, missed) && missed.get() == 0) {
+                snapshots.put(gameId, loaded);
+                log.info("스냅샷 캐시 적재: gameId={}", gameId);
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * 캐시된 스냅샷에만 변경 반영 (없으면 진행 중인 적재를 무효 처리)
+     */
+    public void update(Long gameId, Consumer<ScoreboardSnapshot> change) {
+        ScoreboardSnapshot snapshot;
+        synchronized (lock) {
+            snapshot = snapshots.getIfPresent(gameId);
+            if (snapshot == null) {
+                AtomicInteger missed = loading.get(gameId);
+                if (missed != null) {
+                    missed.incrementAndGet();
+                }
+                return;
+            }
+        }
+        change.accept(snapshot);
+    }
+
+    /**
+     * 스냅샷 제거 (트랜잭션 안이면 커밋 후에 한 번 더 제거해 커밋 전 데이터로 다시 적재되는 것을 막음)
+     */
+    public void evict(Long gameId) {
+        invalidate(gameId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(gameId);
+                }
+            });
+        }
+    }
+
+    private void invalidate(Long gameId) {
+        synchronized (lock) {
+            snapshots.invalidate(gameId);
+            AtomicInteger missed = loading.get(gameId);
+            if (missed != null) {
+                missed.incrementAndGet();
+            }
+        }
+    }
+}
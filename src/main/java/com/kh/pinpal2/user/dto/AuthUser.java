@@ -0,0 +1,11 @@
+package com.kh.pinpal2.user.dto;
+
+/**
+ * 인증된 사용자 정보 (요청마다 User 엔티티를 조회하지 않기 위한 최소 정보)
+ */
+public record AuthUser(
+        Long id,
+        String email,
+        int gender
+) {
+}
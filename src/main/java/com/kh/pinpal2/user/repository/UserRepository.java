@@ -1,7 +1,10 @@
 package com.kh.pinpal2.user.repository;
 
+import com.kh.pinpal2.user.dto.AuthUser;
 import com.kh.pinpal2.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -12,5 +15,9 @@ public interface UserRepository extends JpaRepository<User,Long> {
 
     Optional<User> findByEmail(String name);
 
+    // 인증 정보 캐시 적재용 (엔티티 대신 필요한 컬럼만 조회)
+    @Query("SELECT new com.kh.pinpal2.user.dto.AuthUser(u.id, u.email, u.gender) FROM User u WHERE u.email = :email")
+    Optional<AuthUser> findAuthUserByEmail(@Param("email") String email);
+
     boolean existsByEmail(String email);
 }
@@ -1,6 +1,8 @@
 package com.kh.pinpal2.user.service;
 
+import com.kh.pinpal2.base.provider.CurrentUserProvider;
 import com.kh.pinpal2.base.util.SecurityUtil;
+import com.kh.pinpal2.user.dto.AuthUser;
 import com.kh.pinpal2.user.dto.UserRespDto;
 import com.kh.pinpal2.user.entity.User;
 import com.kh.pinpal2.user.mapper.UserMapper;
@@ -23,15 +25,16 @@ public class UserServiceImpl implements UserService {
     private final UserClubRepository userClubRepository;
     private final UserClubMapper userClubMapper;
     private final UserMapper userMapper;
+    private final CurrentUserProvider currentUserProvider;
 
     @Override
     @Transactional(readOnly = true)
     public List<UserClubRespDto> getMyClubs() {
         // 현재 인증된 사용자 정보 가져오기
-        User user = SecurityUtil.getCurrentUser(userRepository);
+        AuthUser user = currentUserProvider.getCurrentUser();
         
         // 사용자가 가입한 모든 클럽 조회
-        List<UserClub> userClubs = userClubRepository.findByUserId(user.getId());
+        List<UserClub> userClubs = userClubRepository.findByUserId(user.id());
         
         // UserClubRespDto로 변환하여 반환
         return userClubs.stream()
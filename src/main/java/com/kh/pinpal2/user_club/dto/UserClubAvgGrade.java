@@ -0,0 +1,8 @@
+package com.kh.pinpal2.user_club.dto;
+
+public record UserClubAvgGrade(
+        Long userId,
+        int avg,
+        int grade
+) {
+}
@@ -0,0 +1,10 @@
+package com.kh.pinpal2.user_club.repository;
+
+import com.kh.pinpal2.user_club.dto.UserClubAvgGrade;
+
+import java.util.List;
+
+public interface UserClubCustomRepository {
+
+    int bulkUpdateAvgAndGrade(Long clubId, List<UserClubAvgGrade> members);
+}
@@ -0,0 +1,46 @@
+package com.kh.pinpal2.user_club.repository;
+
+import com.kh.pinpal2.user_club.dto.UserClubAvgGrade;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class UserClubCustomRepositoryImpl implements UserClubCustomRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 클럽 회원들의 에버/군을 한 번의 UPDATE ... FROM (VALUES ...) 로 반영
+     */
+    @Override
+    public int bulkUpdateAvgAndGrade(Long clubId, List<UserClubAvgGrade> members) {
+        if (members.isEmpty()) {
+            return 0;
+        }
+
+        String values = String.join(", ", Collections.nCopies(members.size(), "(?::bigint, ?::integer, ?::integer)"));
+        String sql = "UPDATE user_club uc SET avg = v.avg, grade = v.grade, updated_at = ? " +
+                "FROM (VALUES " + values + ") AS v(user_id, avg, grade) " +
+                "WHERE uc.club_id = ? AND uc.user_id = v.user_id";
+
+        // 파라미터 순서: updated_at → VALUES → club_id
+        List<Object> params = new ArrayList<>(members.size() * 3 + 2);
+        params.add(Timestamp.from(Instant.now()));
+        for (UserClubAvgGrade member : members) {
+            params.add(member.userId());
+            params.add(member.avg());
+            params.add(member.grade());
+        }
+        params.add(clubId);
+
+        return jdbcTemplate.update(sql, params.toArray());
+    }
+}
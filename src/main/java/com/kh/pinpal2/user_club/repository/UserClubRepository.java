@@ -1,5 +1,6 @@
 package com.kh.pinpal2.user_club.repository;
 
+import com.kh.pinpal2.user_club.entity.ClubRole;
 import com.kh.pinpal2.user_club.entity.UserClub;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -12,13 +13,17 @@ import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface UserClubRepository extends JpaRepository<UserClub,Long> {
+public interface UserClubRepository extends JpaRepository<UserClub,Long>, UserClubCustomRepository {
     boolean existsByUserIdAndClubId(Long userId, Long clubId);
     @Modifying
     @Query("DELETE FROM UserClub uc WHERE uc.club.id = :clubId")
     void deleteByClubId(@Param("clubId") Long clubId);
 
     Optional<UserClub> findByClubIdAndUserId(Long clubId, Long userId);
+
+    // 권한 확인용 (가입하지 않았으면 empty)
+    @Query("SELECT uc.role FROM UserClub uc WHERE uc.club.id = :clubId AND uc.user.id = :userId")
+    Optional<ClubRole> findRoleByClubIdAndUserId(@Param("clubId") Long clubId, @Param("userId") Long userId);
     
     List<UserClub> findByClubId(Long clubId);
     
@@ -0,0 +1,11 @@
+-- 카드뽑기 카드 배열을 game.card_draw_data(JSON) 대신 card_draw_slot 행으로 보관
+-- prod는 ddl-auto: validate 이므로 새 버전 배포 전에 실행
+CREATE TABLE IF NOT EXISTS card_draw_slot (
+    id          bigserial PRIMARY KEY,
+    created_at  timestamp with time zone NOT NULL,
+    game_id     bigint  NOT NULL REFERENCES game (id),
+    grade       integer NOT NULL,
+    slot_index  integer NOT NULL,
+    team_number integer NOT NULL,
+    CONSTRAINT uk_card_draw_slot_game_grade_slot UNIQUE (game_id, grade, slot_index)
+);
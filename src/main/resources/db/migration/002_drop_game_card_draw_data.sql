@@ -0,0 +1,16 @@
+-- 남아 있는 game.card_draw_data(JSON)를 card_draw_slot 으로 옮긴 뒤 컬럼 삭제
+-- 모든 노드가 card_draw_slot 을 쓰는 버전으로 배포된 후에 실행 (이전 버전은 이 컬럼을 읽음)
+BEGIN;
+
+INSERT INTO card_draw_slot (created_at, game_id, grade, slot_index, team_number)
+SELECT now(), g.id, e.key::integer, c.ordinality - 1, c.value::integer
+FROM game g
+         CROSS JOIN LATERAL jsonb_each(g.card_draw_data::jsonb) AS e(key, value)
+         CROSS JOIN LATERAL jsonb_array_elements_text(e.value) WITH ORDINALITY AS c(value, ordinality)
+WHERE g.card_draw_data IS NOT NULL
+  AND g.card_draw_data <> ''
+ON CONFLICT (game_id, grade, slot_index) DO NOTHING;
+
+ALTER TABLE game DROP COLUMN IF EXISTS card_draw_data;
+
+COMMIT;
@@ -0,0 +1,3 @@
+-- 클럽 스코어보드 기록 조회 (club_id + status + date 범위) 인덱스
+-- CONCURRENTLY 이므로 트랜잭션 밖에서 실행
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_game_club_status_date ON game (club_id, status, date);
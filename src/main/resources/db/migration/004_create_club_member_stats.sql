@@ -0,0 +1,29 @@
+-- 클럽 회원 통계 + 클럽별 집계 표시
+-- prod는 ddl-auto: validate 이므로 새 버전 배포 전에 실행
+CREATE TABLE IF NOT EXISTS club_member_stats (
+    id            bigserial PRIMARY KEY,
+    created_at    timestamp with time zone NOT NULL,
+    updated_at    timestamp with time zone,
+    club_id       bigint  NOT NULL,
+    user_id       bigint  NOT NULL,
+    game_count    integer NOT NULL,
+    series_count  integer NOT NULL,
+    pin_total     bigint  NOT NULL,
+    average       integer NOT NULL DEFAULT 0,
+    high_game     integer NOT NULL,
+    high_series   integer NOT NULL,
+    count_200     integer NOT NULL,
+    recent_scores integer[],
+    last_game_id  bigint,
+    CONSTRAINT uk_club_member_stats_club_user UNIQUE (club_id, user_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_club_member_stats_average ON club_member_stats (club_id, average, user_id);
+CREATE INDEX IF NOT EXISTS idx_club_member_stats_pin_total ON club_member_stats (club_id, pin_total, user_id);
+CREATE INDEX IF NOT EXISTS idx_club_member_stats_high_game ON club_member_stats (club_id, high_game, user_id);
+
+-- 행이 있으면 해당 클럽은 전체 기록으로 집계 완료 (종료 게임이 없는 클럽 포함)
+CREATE TABLE IF NOT EXISTS club_member_stats_build (
+    club_id  bigint PRIMARY KEY,
+    built_at timestamp with time zone NOT NULL
+);
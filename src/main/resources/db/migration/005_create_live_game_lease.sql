@@ -0,0 +1,7 @@
+-- 진행 중 게임의 메모리 상태를 가진 노드 (게임 주인이 바뀔 때 이전 주인의 flush가 끝날 때까지 새 주인 적재를 막음)
+-- pinpal.cluster.membership: postgres 인 경우에만 사용
+CREATE TABLE IF NOT EXISTS live_game_lease (
+    game_id     bigint PRIMARY KEY,
+    node_id     varchar(255) NOT NULL,
+    acquired_at timestamp with time zone NOT NULL
+);
@@ -0,0 +1,91 @@
+package com.kh.pinpal2.base.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 한 JVM에 컨텍스트 두 개(노드 A, B)를 띄우고 A의 무효화가 B의 캐시에 반영되는지 확인
+ */
+class LocalCacheInvalidationBusTest {
+
+    private AnnotationConfigApplicationContext nodeA;
+    private AnnotationConfigApplicationContext nodeB;
+    private BroadcastingCache cacheA;
+    private BroadcastingCache cacheB;
+
+    @BeforeEach
+    void setUp() {
+        nodeA = new AnnotationConfigApplicationContext(LocalCacheInvalidationBus.class);
+        nodeB = new AnnotationConfigApplicationContext(LocalCacheInvalidationBus.class);
+        cacheA = cacheOf(nodeA);
+        cacheB = cacheOf(nodeB);
+
+        cacheA.put(1L, "club-1");
+        cacheA.put(2L, "club-2");
+        cacheB.put(1L, "club-1");
+        cacheB.put(2L, "club-2");
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        nodeA.close();
+        nodeB.close();
+    }
+
+    @Test
+    void evictOnNodeAIsSeenOnNodeB() {
+        cacheA.evict(1L);
+
+        assertThat(cacheA.get(1L)).isNull();
+        assertThat(cacheB.get(1L)).isNull();
+        assertThat(cacheB.get(2L)).isNotNull();
+    }
+
+    @Test
+    void clearOnNodeAIsSeenOnNodeB() {
+        cacheA.clear();
+
+        assertThat(cacheB.get(1L)).isNull();
+        assertThat(cacheB.get(2L)).isNull();
+    }
+
+    @Test
+    void evictInTransactionReachesNodeBOnlyAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        cacheA.evict(1L);
+
+        // 커밋 전: 다른 노드는 아직 이전 값을 봄 (커밋 전 데이터로 다시 적재하지 않도록)
+        assertThat(cacheB.get(1L)).isNotNull();
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        assertThat(cacheB.get(1L)).isNull();
+    }
+
+    @Test
+    void closedNodeNoLongerReceives() {
+        nodeB.close();
+
+        cacheA.evict(1L);
+
+        assertThat(cacheB.get(1L)).isNotNull();
+    }
+
+    // CacheConfig와 같은 방식으로 감싸고 구독
+    private static BroadcastingCache cacheOf(AnnotationConfigApplicationContext node) {
+        CacheInvalidationBus bus = node.getBean(CacheInvalidationBus.class);
+        BroadcastingCache cache = new BroadcastingCache(new ConcurrentMapCache("clubs"), bus);
+        bus.subscribe(cache::apply);
+        return cache;
+    }
+}
@@ -0,0 +1,118 @@
+package com.kh.pinpal2.base.cluster;
+
+import com.kh.pinpal2.base.event.listener.GameAffinityEventListener;
+import com.kh.pinpal2.scoreboard.dto.ScoreboardScoreFlush;
+import com.kh.pinpal2.scoreboard.live.LiveGameRegistry;
+import com.kh.pinpal2.scoreboard.live.LiveGameState;
+import com.kh.pinpal2.scoreboard.live.ScoreboardWriteBehindFlusher;
+import com.kh.pinpal2.scoreboard.repository.ScoreboardRepository;
+import com.kh.pinpal2.support.TestClusterNodes;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+
+/**
+ * 한 JVM에 노드(컨텍스트) 여러 개를 띄우고 게임 주인이 바뀔 때 메모리 상태가 넘어가는지 확인
+ * - 이전 주인이 flush 후 보유 표시를 놓기 전에는 새 주인이 적재하지 않음
+ */
+class GameAffinityHandoffTest {
+
+    private final List<AnnotationConfigApplicationContext> nodes = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        nodes.forEach(AnnotationConfigApplicationContext::close);
+    }
+
+    @Test
+    void closingOwnerFlushesBeforeNextOwnerLoads() {
+        AnnotationConfigApplicationContext nodeA = node("node-a");
+        AnnotationConfigApplicationContext nodeB = node("node-b");
+        Long gameId = ownedBy(nodeB);
+
+        LiveGameState stateB = nodeB.getBean(LiveGameRegistry.class).getOrLoad(gameId).orElseThrow();
+        stateB.applyScore(1L, 150, 0, 0, 0);
+        assertThat(nodeA.getBean(LiveGameRegistry.class).getOrLoad(gameId)).isEmpty();
+        ScoreboardRepository repositoryB = nodeB.getBean(ScoreboardRepository.class);
+
+        nodeB.close();
+
+        assertThat(nodeA.getBean(GameAffinityRing.class).isLocal(gameId)).isTrue();
+        assertThat(nodeA.getBean(LiveGameRegistry.class).getOrLoad(gameId)).isPresent();
+
+        ScoreboardRepository repositoryA = nodeA.getBean(ScoreboardRepository.class);
+        InOrder order = inOrder(repositoryB, repositoryA);
+        order.verify(repositoryB).batchUpdateScores(List.of(new ScoreboardScoreFlush(100L, 150, 0, 0, 0)));
+        order.verify(repositoryA).findAllByGameId(gameId);
+    }
+
+    @Test
+    void newOwnerWaitsWhilePreviousOwnerHasNotFlushed() {
+        node("node-a");
+        node("node-b");
+        AnnotationConfigApplicationContext nodeC = node("node-c");
+        Long gameId = ownedBy(nodeC);
+        nodeC.close();
+
+        // C가 빠진 동안의 주인(A 또는 B)이 상태를 가짐
+        AnnotationConfigApplicationContext previousOwner = nodes.stream()
+                .filter(node -> node.isActive() && node.getBean(GameAffinityRing.class).isLocal(gameId))
+                .findFirst().orElseThrow();
+        previousOwner.getBean(LiveGameRegistry.class).getOrLoad(gameId).orElseThrow().applyScore(2L, 170, 0, 0, 0);
+        ScoreboardRepository previousRepository = previousOwner.getBean(ScoreboardRepository.class);
+        doThrow(new IllegalStateException("db down")).when(previousRepository).batchUpdateScores(anyList());
+
+        // C가 다시 들어와 주인이 되지만 이전 주인의 반영이 실패 → C는 적재하지 않음 (점수는 DB에 바로 저장)
+        AnnotationConfigApplicationContext rejoined = node("node-c");
+        assertThat(rejoined.getBean(GameAffinityRing.class).isLocal(gameId)).isTrue();
+        assertThat(previousOwner.getBean(LiveGameRegistry.class).find(gameId)).isPresent();
+        assertThat(rejoined.getBean(LiveGameRegistry.class).getOrLoad(gameId)).isEmpty();
+
+        // 다음 flush 주기에 이전 주인이 반영 후 내려놓으면 C가 적재
+        doNothing().when(previousRepository).batchUpdateScores(anyList());
+        previousOwner.getBean(ScoreboardWriteBehindFlusher.class).flushDirtyScores();
+
+        assertThat(previousOwner.getBean(LiveGameRegistry.class).find(gameId)).isEmpty();
+        assertThat(rejoined.getBean(LiveGameRegistry.class).getOrLoad(gameId)).isPresent();
+    }
+
+    @Test
+    void leaseHeldByDepartedNodeIsTakenOver() {
+        AnnotationConfigApplicationContext nodeA = node("node-a");
+        AnnotationConfigApplicationContext nodeB = node("node-b");
+        Long gameId = ownedBy(nodeB);
+
+        GameOwnershipLease leaseA = nodeA.getBean(GameOwnershipLease.class);
+        GameOwnershipLease leaseB = nodeB.getBean(GameOwnershipLease.class);
+        assertThat(leaseB.tryAcquire(gameId)).isTrue();
+        assertThat(leaseA.tryAcquire(gameId)).isFalse();
+
+        // B가 release 없이 노드 목록에서 빠짐 (비정상 종료)
+        nodeB.getBean(LocalClusterMembership.class).leave();
+
+        assertThat(leaseA.tryAcquire(gameId)).isTrue();
+        assertThat(leaseB.tryAcquire(gameId)).isFalse();
+        leaseA.release(gameId);
+    }
+
+    private static Long ownedBy(AnnotationConfigApplicationContext node) {
+        return TestClusterNodes.gameOwnedBy(node);
+    }
+
+    private AnnotationConfigApplicationContext node(String nodeId) {
+        AnnotationConfigApplicationContext context = TestClusterNodes.node(nodeId,
+                ScoreboardWriteBehindFlusher.class, GameAffinityEventListener.class);
+        nodes.add(context);
+        return context;
+    }
+}
@@ -0,0 +1,81 @@
+package com.kh.pinpal2.base.provider;
+
+import com.kh.pinpal2.base.cache.CacheInvalidationBus;
+import com.kh.pinpal2.base.cache.LocalCacheInvalidationBus;
+import com.kh.pinpal2.user.dto.AuthUser;
+import com.kh.pinpal2.user.repository.UserRepository;
+import com.kh.pinpal2.user_club.entity.ClubRole;
+import com.kh.pinpal2.user_club.repository.UserClubRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 한 JVM에 노드 두 개(A, B)를 띄우고 A에서 바뀐 클럽 권한이 B의 캐시에서도 지워지는지 확인
+ */
+class CurrentUserProviderTest {
+
+    private AnnotationConfigApplicationContext nodeA;
+    private AnnotationConfigApplicationContext nodeB;
+    private final UserClubRepository userClubRepository = mock(UserClubRepository.class);
+
+    @BeforeEach
+    void setUp() {
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("user@pinpal.com", null));
+        nodeA = node();
+        nodeB = node();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        nodeA.close();
+        nodeB.close();
+    }
+
+    @Test
+    void membershipEvictionOnNodeAIsSeenOnNodeB() {
+        when(userClubRepository.findRoleByClubIdAndUserId(10L, 1L)).thenReturn(Optional.of(ClubRole.STAFF));
+        CurrentUserProvider providerB = nodeB.getBean(CurrentUserProvider.class);
+        assertThat(providerB.findRole(10L)).contains(ClubRole.STAFF);
+
+        // A에서 권한 변경 → B에도 전파되어 다음 조회에서 DB 값을 다시 읽음
+        when(userClubRepository.findRoleByClubIdAndUserId(10L, 1L)).thenReturn(Optional.of(ClubRole.MEMBER));
+        nodeA.getBean(CurrentUserProvider.class).evictMembership(10L, 1L);
+
+        assertThat(providerB.findRole(10L)).contains(ClubRole.MEMBER);
+    }
+
+    @Test
+    void clubEvictionOnNodeAIsSeenOnNodeB() {
+        when(userClubRepository.findRoleByClubIdAndUserId(10L, 1L)).thenReturn(Optional.of(ClubRole.MEMBER));
+        CurrentUserProvider providerB = nodeB.getBean(CurrentUserProvider.class);
+        assertThat(providerB.findRole(10L)).contains(ClubRole.MEMBER);
+
+        when(userClubRepository.findRoleByClubIdAndUserId(10L, 1L)).thenReturn(Optional.empty());
+        nodeA.getBean(CurrentUserProvider.class).evictClub(10L);
+
+        assertThat(providerB.findRole(10L)).isEmpty();
+    }
+
+    private AnnotationConfigApplicationContext node() {
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findAuthUserByEmail("user@pinpal.com")).thenReturn(Optional.of(new AuthUser(1L, "user@pinpal.com", 0)));
+
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.register(LocalCacheInvalidationBus.class);
+        context.registerBean(CurrentUserProvider.class, () -> new CurrentUserProvider(userRepository, userClubRepository,
+                context.getBean(CacheInvalidationBus.class), 300_000, 60_000, 100));
+        context.refresh();
+        return context;
+    }
+}
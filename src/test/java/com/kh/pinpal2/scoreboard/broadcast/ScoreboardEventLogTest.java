@@ -0,0 +1,173 @@
+package com.kh.pinpal2.scoreboard.broadcast;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScoreboardEventLogTest {
+
+    private final ScoreboardEventLog eventLog = new ScoreboardEventLog(4, 60_000);
+
+    private static Map<String, Object> event(String type) {
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("type", type);
+        return payload;
+    }
+
+    private static List<Object> seqs(List<Map<String, Object>> events) {
+        return events.stream().map(event -> event.get("seq")).toList();
+    }
+
+    @Test
+    void appendStampsSeqAndEpoch() {
+        ScoreboardEventLog.GameEvents events = eventLog.of(1L);
+
+        Map<String, Object> first = event("scoreUpdated");
+        assertThat(events.append(first)).isEqualTo(1);
+        assertThat(events.append(event("scoreUpdated"))).isEqualTo(2);
+
+        assertThat(first).containsEntry("seq", 1L).containsEntry("epoch", events.epoch());
+        assertThat(events.currentSeq()).isEqualTo(2);
+    }
+
+    @Test
+    void sinceReturnsMissedEventsWithinBuffer() {
+        ScoreboardEventLog.GameEvents events = eventLog.of(1L);
+        for (int i = 0; i < 6; i++) {
+            events.append(event("scoreUpdated"));
+        }
+        String epoch = events.epoch();
+
+        assertThat(events.since(epoch, 6)).contains(List.of());
+        assertThat(events.since(epoch, 3).map(ScoreboardEventLogTest::seqs)).contains(List.of(4L, 5L, 6L));
+        assertThat(events.since(epoch, 2).map(ScoreboardEventLogTest::seqs)).contains(List.of(3L, 4L, 5L, 6L));
+        // 버퍼(4개)에서 이미 밀려난 범위, 아직 없는 seq, 잘못된 seq
+        assertThat(events.since(epoch, 1)).isEmpty();
+        assertThat(events.since(epoch, 7)).isEmpty();
+        assertThat(events.since(epoch, -1)).isEmpty();
+    }
+
+    @Test
+    void sinceRejectsOtherEpoch() {
+        ScoreboardEventLog.GameEvents events = eventLog.of(1L);
+        events.append(event("scoreUpdated"));
+
+        // 재시작/만료 후 새 로그는 seq가 다시 1부터 시작하지만 epoch가 다름
+        ScoreboardEventLog.GameEvents restarted = new ScoreboardEventLog(4, 60_000).of(1L);
+        restarted.append(event("scoreUpdated"));
+        restarted.append(event("scoreUpdated"));
+
+        assertThat(restarted.epoch()).isNotEqualTo(events.epoch());
+        assertThat(restarted.since(events.epoch(), 1)).isEmpty();
+        assertThat(restarted.since(null, 1)).isEmpty();
+    }
+
+    @Test
+    void recordAdoptsSenderEpochAndFlagsBrokenSequence() {
+        ScoreboardEventLog.GameEvents sender = eventLog.of(1L);
+        ScoreboardEventLog.GameEvents receiver = new ScoreboardEventLog(4, 60_000).of(1L);
+        receiver.append(event("local"));
+
+        for (int i = 0; i < 3; i++) {
+            Map<String, Object> payload = event("scoreUpdated");
+            long seq = sender.append(payload);
+            assertThat(receiver.record((String) payload.get("epoch"), seq, payload)).isSameAs(payload);
+        }
+
+        assertThat(receiver.epoch()).isEqualTo(sender.epoch());
+        assertThat(receiver.since(sender.epoch(), 1).map(ScoreboardEventLogTest::seqs)).contains(List.of(2L, 3L));
+
+        // seq 5가 먼저 오면(4 누락) 버퍼를 비워 이전 seq에서의 이어받기를 막고 resync 표시로 전달
+        Map<String, Object> gap = receiver.record(sender.epoch(), 5, event("scoreUpdated"));
+        assertThat(gap).containsEntry("seq", 5L).containsEntry("resync", true);
+        assertThat(receiver.since(sender.epoch(), 3)).isEmpty();
+        assertThat(receiver.since(sender.epoch(), 4)).contains(List.of(gap));
+
+        // 다른 노드가 같은 seq를 부여한 이벤트도 버리지 않고 다음 seq에 resync 표시로 기록
+        Map<String, Object> collided = event("collided");
+        Map<String, Object> recorded = receiver.record(sender.epoch(), 5, collided);
+        assertThat(recorded).containsEntry("type", "collided").containsEntry("seq", 6L).containsEntry("resync", true);
+        assertThat(collided).doesNotContainKey("resync");
+        assertThat(receiver.currentSeq()).isEqualTo(6);
+        assertThat(receiver.since(sender.epoch(), 5)).contains(List.of(recorded));
+    }
+
+    @Test
+    void resyncClearsBufferAndTakesNextSeq() {
+        ScoreboardEventLog.GameEvents events = eventLog.of(1L);
+        events.append(event("scoreUpdated"));
+        events.append(event("scoreUpdated"));
+        String epoch = events.epoch();
+
+        // 놓친 구간을 건너뛴 이어받기는 막고, resync 직전에서 이어받으면 resync 이벤트를 받음
+        Map<String, Object> resync = event("resync");
+        assertThat(events.resync(resync)).isEqualTo(3);
+        assertThat(resync).containsEntry("resync", true).containsEntry("epoch", epoch);
+        assertThat(events.since(epoch, 1)).isEmpty();
+        assertThat(events.since(epoch, 2)).contains(List.of(resync));
+    }
+
+    /**
+     * append와 since가 동시에 일어나도 since 결과는 항상 빈틈 없이 이어지는 seq
+     */
+    @Test
+    void concurrentAppendAndSinceStayContiguous() throws Exception {
+        ScoreboardEventLog.GameEvents events = new ScoreboardEventLog(64, 60_000).of(1L);
+        String epoch = events.epoch();
+        int writers = 8;
+        int appendsPerWriter = 5000;
+
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean writing = new AtomicBoolean(true);
+        AtomicReference<String> violation = new AtomicReference<>();
+
+        Thread reader = new Thread(() -> {
+            while (writing.get()) {
+                long current = events.currentSeq();
+                long after = Math.max(0, current - 32);
+                Optional<List<Map<String, Object>>> missed = events.since(epoch, after);
+                if (missed.isEmpty()) {
+                    continue;   // 그 사이 버퍼가 밀려난 경우
+                }
+                long expected = after + 1;
+                for (Map<String, Object> payload : missed.get()) {
+                    if (((Number) payload.get("seq")).longValue() != expected++) {
+                        violation.set("since(" + after + ") = " + seqs(missed.get()));
+                    }
+                }
+            }
+        });
+
+        reader.start();
+        for (int i = 0; i < writers; i++) {
+            executor.submit(() -> {
+                start.await();
+                for (int j = 0; j < appendsPerWriter; j++) {
+                    events.append(event("scoreUpdated"));
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        writing.set(false);
+        reader.join();
+
+        assertThat(violation.get()).isNull();
+        assertThat(events.currentSeq()).isEqualTo((long) writers * appendsPerWriter);
+        assertThat(events.since(epoch, events.currentSeq() - 64)).map(List::size).contains(64);
+    }
+}
@@ -0,0 +1,114 @@
+package com.kh.pinpal2.scoreboard.broadcast;
+
+import com.kh.pinpal2.scoreboard.live.LiveGameRegistry;
+import com.kh.pinpal2.scoreboard.live.LiveGameState;
+import com.kh.pinpal2.scoreboard.snapshot.ScoreboardSnapshotCache;
+import com.kh.pinpal2.support.TestClusterNodes;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 한 JVM에 노드 두 개(컨텍스트 A, B)를 띄우고 A에서 보낸 이벤트가 B의 구독자에게 seq 그대로 전달되는지 확인
+ */
+class ScoreboardRelayTest {
+
+    private AnnotationConfigApplicationContext nodeA;
+    private AnnotationConfigApplicationContext nodeB;
+    private Long gameId;
+
+    @BeforeEach
+    void setUp() {
+        nodeA = node("node-a");
+        nodeB = node("node-b");
+        // B가 주인인 게임 (B만 메모리 상태를 가짐)
+        gameId = TestClusterNodes.gameOwnedBy(nodeB);
+    }
+
+    private static AnnotationConfigApplicationContext node(String nodeId) {
+        return TestClusterNodes.node(nodeId, LocalScoreboardRelay.class, ScoreboardEventLog.class,
+                CompactSubscriptionRegistry.class, ScoreboardCompactEncoder.class, ScoreboardBroadcaster.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        nodeA.close();
+        nodeB.close();
+    }
+
+    @Test
+    void relayedEventReachesOtherNodeWithSenderSeqAndEpoch() {
+        ScoreboardBroadcaster broadcasterA = nodeA.getBean(ScoreboardBroadcaster.class);
+
+        Map<String, Object> first = scoreUpdated(1L, 150);
+        Map<String, Object> second = scoreUpdated(2L, 170);
+        broadcasterA.broadcast(gameId, first);
+        broadcasterA.broadcast(gameId, second);
+
+        // B에 다시 접속한 클라이언트도 A의 epoch/seq로 이어받을 수 있음
+        ScoreboardEventLog.GameEvents eventsA = broadcasterA.events(gameId);
+        ScoreboardEventLog.GameEvents eventsB = nodeB.getBean(ScoreboardBroadcaster.class).events(gameId);
+        await().atMost(Duration.ofSeconds(5)).until(() -> eventsB.currentSeq() == 2L);
+
+        String destination = ScoreboardBroadcaster.DESTINATION_PREFIX + gameId;
+        verify(nodeB.getBean(SimpMessagingTemplate.class)).convertAndSend(destination, (Object) first);
+        verify(nodeB.getBean(SimpMessagingTemplate.class)).convertAndSend(destination, (Object) second);
+        verify(nodeB.getBean(ScoreboardSnapshotCache.class), times(2)).evict(gameId);
+
+        assertThat(eventsB.epoch()).isEqualTo(eventsA.epoch());
+        assertThat(eventsB.currentSeq()).isEqualTo(2L);
+        assertThat(eventsB.since(eventsA.epoch(), 1L)).hasValueSatisfying(missed -> assertThat(missed).containsExactly(second));
+    }
+
+    @Test
+    void relayedScoreUpdatesOwnerStateAndMarksItForFlush() {
+        LiveGameState stateB = nodeB.getBean(LiveGameRegistry.class).getOrLoad(gameId).orElseThrow();
+        // 주인이 아닌 A는 메모리 상태를 만들지 않음 (점수는 DB에 바로 저장)
+        assertThat(nodeA.getBean(LiveGameRegistry.class).getOrLoad(gameId)).isEmpty();
+
+        nodeA.getBean(ScoreboardBroadcaster.class).broadcast(gameId, scoreUpdated(1L, 180));
+
+        // 주인의 flush가 A의 저장을 예전 점수로 덮어썼더라도 다음 flush에서 바로잡힘
+        await().atMost(Duration.ofSeconds(5)).until(stateB::hasDirty);
+        assertThat(stateB.applyScore(1L, 180, 0, 0, 0)).isZero();
+    }
+
+    @Test
+    void concurrentBroadcastsOnBothNodesDoNotDeadlock() {
+        ScoreboardBroadcaster broadcasterA = nodeA.getBean(ScoreboardBroadcaster.class);
+        ScoreboardBroadcaster broadcasterB = nodeB.getBean(ScoreboardBroadcaster.class);
+
+        // 두 노드가 같은 게임 잠금을 쥔 채 서로에게 보내도 멈추지 않음
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> CompletableFuture.allOf(
+                CompletableFuture.runAsync(() -> IntStream.range(0, 200).forEach(i -> broadcasterA.broadcast(gameId, scoreUpdated(1L, i)))),
+                CompletableFuture.runAsync(() -> IntStream.range(0, 200).forEach(i -> broadcasterB.broadcast(gameId, scoreUpdated(2L, i))))
+        ).join());
+    }
+
+    private Map<String, Object> scoreUpdated(Long userId, int score1) {
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("type", "scoreUpdated");
+        payload.put("gameId", gameId);
+        payload.put("userId", userId);
+        payload.put("score1", score1);
+        payload.put("score2", 0);
+        payload.put("score3", 0);
+        payload.put("score4", 0);
+        payload.put("changedMask", 1);
+        return payload;
+    }
+}
@@ -0,0 +1,128 @@
+package com.kh.pinpal2.scoreboard.carddraw;
+
+import com.kh.pinpal2.scoreboard.dto.ScoreboardMemberRow;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongFunction;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CardDrawBoardTest {
+
+    private static ScoreboardMemberRow member(long userId, int grade, int teamNumber) {
+        return new ScoreboardMemberRow(userId * 10, userId, "member" + userId, null, 1L, "game", false, true,
+                0, 0, 0, 0, grade, false, false, false, teamNumber, null, 0, 0);
+    }
+
+    private static List<ScoreboardMemberRow> members(int count, int grade) {
+        return LongStream.rangeClosed(1, count).mapToObj(userId -> member(userId, grade, 0)).toList();
+    }
+
+    @Test
+    void claimReleasesPreviousCard() {
+        CardDrawBoard board = CardDrawBoard.of(Map.of(1, List.of(3, 1, 2)), members(2, 1));
+
+        assertThat(board.claim(1L, 1, 0)).isEqualTo(CardClaimResult.claimed(3));
+        assertThat(board.claim(1L, 1, 0)).isEqualTo(CardClaimResult.claimed(3));
+        assertThat(board.claim(2L, 1, 0)).isEqualTo(CardClaimResult.taken(3, 1L));
+
+        assertThat(board.claim(1L, 1, 2)).isEqualTo(CardClaimResult.claimed(2));
+        assertThat(board.selectedCards()).containsOnlyKeys("1-2");
+        assertThat(board.claim(2L, 1, 0)).isEqualTo(CardClaimResult.claimed(3));
+    }
+
+    @Test
+    void claimRejectsOtherGradeAndNonParticipants() {
+        List<ScoreboardMemberRow> rows = List.of(member(1L, 1, 0), member(2L, 2, 0));
+        CardDrawBoard board = CardDrawBoard.of(Map.of(1, List.of(1), 2, List.of(1)), rows);
+
+        assertThat(board.claim(1L, 2, 0).status()).isEqualTo(CardClaimResult.Status.WRONG_GRADE);
+        assertThat(board.claim(3L, 1, 0).status()).isEqualTo(CardClaimResult.Status.INVALID);
+        assertThat(board.claim(1L, 1, 5).status()).isEqualTo(CardClaimResult.Status.INVALID);
+        assertThat(board.claim(1L, 3, 0).status()).isEqualTo(CardClaimResult.Status.INVALID);
+        assertThat(board.selectedCards()).isEmpty();
+    }
+
+    @Test
+    void restoresClaimsFromTeamNumbers() {
+        List<ScoreboardMemberRow> rows = List.of(member(1L, 1, 2), member(2L, 1, 0));
+        CardDrawBoard board = CardDrawBoard.of(Map.of(1, List.of(1, 2)), rows);
+
+        assertThat(board.selectedCards()).containsOnlyKeys("1-1");
+        assertThat(board.claim(2L, 1, 1)).isEqualTo(CardClaimResult.taken(2, 1L));
+    }
+
+    /**
+     * 모든 사용자가 같은 카드를 동시에 누르면 정확히 한 명만 성공
+     */
+    @Test
+    void concurrentClaimsOfSameCardHaveSingleWinner() throws Exception {
+        int users = 32;
+        CardDrawBoard board = CardDrawBoard.of(Map.of(1, IntStream.rangeClosed(1, users).boxed().toList()), members(users, 1));
+
+        List<CardClaimResult> results = runConcurrently(users, userId -> board.claim(userId, 1, 0));
+
+        assertThat(results).filteredOn(CardClaimResult::isClaimed).hasSize(1);
+        assertThat(board.selectedCards()).hasSize(1);
+    }
+
+    /**
+     * 사용자마다 여러 카드를 동시에 옮겨 다녀도 끝나면 사용자당 카드 하나, 카드당 사용자 하나
+     */
+    @Test
+    void concurrentMovesKeepOneCardPerUser() throws Exception {
+        int users = 16;
+        int cards = 24;
+        CardDrawBoard board = CardDrawBoard.of(Map.of(1, IntStream.rangeClosed(1, cards).boxed().toList()), members(users, 1));
+
+        runConcurrently(users, userId -> {
+            CardClaimResult last = null;
+            for (int i = 0; i < 2000; i++) {
+                int cardIndex = (int) ((userId * 7 + i) % cards);
+                synchronized (board.lockOf(userId)) {
+                    CardClaimResult result = board.claim(userId, 1, cardIndex);
+                    if (result.isClaimed()) {
+                        last = result;
+                    }
+                }
+            }
+            return last;
+        });
+
+        List<Object> owners = board.selectedCards().values().stream().map(card -> card.get("userId")).toList();
+        assertThat(owners).doesNotHaveDuplicates();
+        assertThat(owners).hasSizeLessThanOrEqualTo(users);
+    }
+
+    private static List<CardClaimResult> runConcurrently(int users, LongFunction<CardClaimResult> task)
+            throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(users);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<CardClaimResult>> futures = new ArrayList<>();
+        for (long userId = 1; userId <= users; userId++) {
+            long id = userId;
+            futures.add(executor.submit(() -> {
+                start.await();
+                return task.apply(id);
+            }));
+        }
+        start.countDown();
+
+        List<CardClaimResult> results = new ArrayList<>();
+        for (Future<CardClaimResult> future : futures) {
+            results.add(future.get(30, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+        return results;
+    }
+}
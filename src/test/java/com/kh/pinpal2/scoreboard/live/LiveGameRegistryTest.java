@@ -0,0 +1,140 @@
+package com.kh.pinpal2.scoreboard.live;
+
+import com.kh.pinpal2.base.cluster.GameAffinityRing;
+import com.kh.pinpal2.base.cluster.GameOwnershipLease;
+import com.kh.pinpal2.game.entity.Game;
+import com.kh.pinpal2.game.repository.GameRepository;
+import com.kh.pinpal2.scoreboard.repository.ScoreboardRepository;
+import com.kh.pinpal2.support.TestClusterNodes;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class LiveGameRegistryTest {
+
+    private final GameRepository gameRepository = mock(GameRepository.class);
+    private final ScoreboardRepository scoreboardRepository = mock(ScoreboardRepository.class);
+    private final GameAffinityRing gameAffinityRing = mock(GameAffinityRing.class);
+    private final GameOwnershipLease gameOwnershipLease = mock(GameOwnershipLease.class);
+    private final Game game = new Game();
+    private LiveGameRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        game.updateStatus("ACTIVE");
+        when(gameRepository.findById(1L)).thenReturn(Optional.of(game));
+        when(scoreboardRepository.findAllByGameId(1L)).thenReturn(TestClusterNodes.scoreboards(2));
+        when(gameAffinityRing.isLocal(1L)).thenReturn(true);
+        when(gameOwnershipLease.tryAcquire(1L)).thenReturn(true);
+        registry = new LiveGameRegistry(gameRepository, scoreboardRepository, gameAffinityRing, gameOwnershipLease);
+    }
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void finishedGameIsNotLoaded() {
+        game.updateStatus("FINISHED");
+
+        assertThat(registry.getOrLoad(1L)).isEmpty();
+        assertThat(registry.find(1L)).isEmpty();
+    }
+
+    @Test
+    void gameOwnedByAnotherNodeIsNotLoaded() {
+        when(gameAffinityRing.isLocal(1L)).thenReturn(false);
+
+        assertThat(registry.getOrLoad(1L)).isEmpty();
+        assertThat(registry.find(1L)).isEmpty();
+        verifyNoInteractions(scoreboardRepository);
+    }
+
+    @Test
+    void gameStillLeasedByPreviousOwnerIsNotLoaded() {
+        when(gameOwnershipLease.tryAcquire(1L)).thenReturn(false);
+
+        assertThat(registry.getOrLoad(1L)).isEmpty();
+
+        when(gameOwnershipLease.tryAcquire(1L)).thenReturn(true);
+        assertThat(registry.getOrLoad(1L)).isPresent();
+    }
+
+    @Test
+    void failedLoadReleasesLease() {
+        when(scoreboardRepository.findAllByGameId(1L)).thenThrow(new IllegalStateException("db down"));
+
+        assertThatThrownBy(() -> registry.getOrLoad(1L)).isInstanceOf(IllegalStateException.class);
+
+        assertThat(registry.find(1L)).isEmpty();
+        verify(gameOwnershipLease).release(1L);
+    }
+
+    @Test
+    void evictWaitsForCommitAndRejectsScoresMeanwhile() {
+        LiveGameState state = registry.getOrLoad(1L).orElseThrow();
+        state.applyScore(1L, 150, 0, 0, 0);
+
+        TransactionSynchronizationManager.initSynchronization();
+        registry.flushAndEvict(1L);
+        verify(scoreboardRepository).batchUpdateScores(anyList());
+
+        // 커밋 전: 닫힌 상태가 남아 있어 커밋 전 DB 값으로 다시 적재되지 않음
+        assertThat(registry.getOrLoad(1L)).containsSame(state);
+        assertThat(state.applyScore(1L, 200, 0, 0, 0)).isEqualTo(LiveGameState.CLOSED);
+
+        game.updateStatus("FINISHED");
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        assertThat(registry.find(1L)).isEmpty();
+        assertThat(registry.getOrLoad(1L)).isEmpty();
+        verify(gameOwnershipLease).release(1L);
+    }
+
+    @Test
+    void rollbackReopensStateWithFlushedRowsDirty() {
+        LiveGameState state = registry.getOrLoad(1L).orElseThrow();
+        state.applyScore(2L, 180, 0, 0, 0);
+
+        TransactionSynchronizationManager.initSynchronization();
+        registry.flushAndEvict(1L);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertThat(registry.find(1L)).containsSame(state);
+        assertThat(state.isClosed()).isFalse();
+        assertThat(state.hasDirty()).isTrue();
+        verify(gameOwnershipLease, never()).release(1L);
+    }
+
+    @Test
+    void failedFlushKeepsStateAndScores() {
+        LiveGameState state = registry.getOrLoad(1L).orElseThrow();
+        state.applyScore(1L, 150, 0, 0, 0);
+        doThrow(new IllegalStateException("db down")).when(scoreboardRepository).batchUpdateScores(anyList());
+
+        assertThatThrownBy(() -> registry.flushAndEvict(1L)).isInstanceOf(IllegalStateException.class);
+
+        assertThat(registry.find(1L)).containsSame(state);
+        assertThat(state.isClosed()).isFalse();
+        assertThat(state.hasDirty()).isTrue();
+    }
+}
@@ -0,0 +1,123 @@
+package com.kh.pinpal2.scoreboard.live;
+
+import com.kh.pinpal2.scoreboard.dto.ScoreboardScoreFlush;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.kh.pinpal2.support.TestClusterNodes.scoreboards;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LiveGameStateTest {
+
+    @Test
+    void applyScoreReturnsChangedMaskAndMarksDirty() {
+        LiveGameState state = new LiveGameState(1L, scoreboards(2));
+
+        assertThat(state.applyScore(1L, 100, 0, 0, 0)).isEqualTo(1);
+        assertThat(state.applyScore(1L, 100, 0, 150, 0)).isEqualTo(4);
+        assertThat(state.applyScore(1L, 100, 0, 150, 0)).isZero();
+        assertThat(state.applyScore(99L, 1, 1, 1, 1)).isEqualTo(LiveGameState.NOT_PARTICIPANT);
+
+        assertThat(state.drainDirty()).containsExactly(new ScoreboardScoreFlush(100L, 100, 0, 150, 0));
+        assertThat(state.hasDirty()).isFalse();
+        assertThat(state.drainDirty()).isEmpty();
+    }
+
+    @Test
+    void closedStateRejectsScoresUntilReopened() {
+        LiveGameState state = new LiveGameState(1L, scoreboards(1));
+
+        state.close();
+        assertThat(state.applyScore(1L, 100, 0, 0, 0)).isEqualTo(LiveGameState.CLOSED);
+        assertThat(state.hasDirty()).isFalse();
+
+        state.reopen();
+        assertThat(state.applyScore(1L, 100, 0, 0, 0)).isEqualTo(1);
+    }
+
+    @Test
+    void relayedScoreIsAppliedAndMarkedDirty() {
+        LiveGameState state = new LiveGameState(1L, scoreboards(2));
+        state.applyScore(2L, 120, 0, 0, 0);
+
+        state.applyRelayedScore(1L, 180, 190, 0, 0);
+
+        // 예전 점수로 덮어쓴 flush가 있었을 수 있으므로 다시 저장하고, 같은 점수가 다시 들어오면 변경 없음
+        assertThat(state.drainDirty()).containsExactly(
+                new ScoreboardScoreFlush(100L, 180, 190, 0, 0),
+                new ScoreboardScoreFlush(200L, 120, 0, 0, 0));
+        assertThat(state.applyScore(1L, 180, 190, 0, 0)).isZero();
+    }
+
+    @Test
+    void markDirtyRestoresDrainedRows() {
+        LiveGameState state = new LiveGameState(1L, scoreboards(3));
+        state.applyScore(2L, 120, 0, 0, 0);
+
+        List<ScoreboardScoreFlush> drained = state.drainDirty();
+        state.markDirty(drained);
+
+        assertThat(state.drainDirty()).isEqualTo(drained);
+    }
+
+    /**
+     * 점수 변경과 drain이 동시에 일어나도 마지막으로 꺼낸 값이 최종 점수와 같아야 함 (유실 없음)
+     */
+    @Test
+    void concurrentApplyAndDrainNeverLosesLatestScore() throws Exception {
+        int users = 20;
+        int updatesPerUser = 2000;
+        LiveGameState state = new LiveGameState(1L, scoreboards(users));
+
+        ExecutorService executor = Executors.newFixedThreadPool(users);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean writing = new AtomicBoolean(true);
+        Map<Long, ScoreboardScoreFlush> lastFlushed = new HashMap<>();
+
+        Thread drainer = new Thread(() -> {
+            while (writing.get()) {
+                state.drainDirty().forEach(row -> lastFlushed.put(row.scoreboardId(), row));
+            }
+        });
+
+        List<Runnable> writers = new ArrayList<>();
+        for (long userId = 1; userId <= users; userId++) {
+            long id = userId;
+            writers.add(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int score = 1; score <= updatesPerUser; score++) {
+                    state.applyScore(id, score % 300, 0, 0, (int) id);
+                }
+            });
+        }
+
+        drainer.start();
+        writers.forEach(executor::submit);
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        writing.set(false);
+        drainer.join();
+        state.drainDirty().forEach(row -> lastFlushed.put(row.scoreboardId(), row));
+
+        assertThat(lastFlushed).hasSize(users);
+        for (long userId = 1; userId <= users; userId++) {
+            assertThat(lastFlushed.get(userId * 100))
+                    .isEqualTo(new ScoreboardScoreFlush(userId * 100, updatesPerUser % 300, 0, 0, (int) userId));
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.kh.pinpal2.support;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kh.pinpal2.base.cluster.ClusterNode;
+import com.kh.pinpal2.base.cluster.GameAffinityRing;
+import com.kh.pinpal2.base.cluster.LocalClusterMembership;
+import com.kh.pinpal2.base.cluster.LocalGameOwnershipLease;
+import com.kh.pinpal2.game.entity.Game;
+import com.kh.pinpal2.game.repository.GameRepository;
+import com.kh.pinpal2.scoreboard.carddraw.CardDrawRegistry;
+import com.kh.pinpal2.scoreboard.entity.Scoreboard;
+import com.kh.pinpal2.scoreboard.live.LiveGameRegistry;
+import com.kh.pinpal2.scoreboard.repository.ScoreboardRepository;
+import com.kh.pinpal2.scoreboard.snapshot.ScoreboardSnapshotCache;
+import com.kh.pinpal2.user.entity.User;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 한 JVM에 노드(컨텍스트) 여러 개를 띄우는 테스트용 도구
+ * - 노드마다 LocalClusterMembership / GameAffinityRing / LocalGameOwnershipLease / LiveGameRegistry / CardDrawRegistry를 올림
+ * - 저장소와 메시지 전송은 목(mock), 모든 게임은 ACTIVE이고 참가자는 scoreboards(2)
+ */
+public final class TestClusterNodes {
+
+    private TestClusterNodes() {
+    }
+
+    /**
+     * 참가자 행 (userId 1..size, scoreboardId = userId * 100)
+     */
+    public static List<Scoreboard> scoreboards(int size) {
+        return LongStream.rangeClosed(1, size).mapToObj(userId -> {
+            User user = new User();
+            ReflectionTestUtils.setField(user, "id", userId);
+            Scoreboard scoreboard = new Scoreboard(null, user, 0);
+            ReflectionTestUtils.setField(scoreboard, "id", userId * 100);
+            return scoreboard;
+        }).toList();
+    }
+
+    /**
+     * @param components 노드에 더 올릴 빈 (릴레이, flusher 등)
+     */
+    public static AnnotationConfigApplicationContext node(String nodeId, Class<?>... components) {
+        Game game = new Game();
+        game.updateStatus("ACTIVE");
+        GameRepository gameRepository = mock(GameRepository.class);
+        when(gameRepository.findById(anyLong())).thenReturn(Optional.of(game));
+        ScoreboardRepository scoreboardRepository = mock(ScoreboardRepository.class);
+        when(scoreboardRepository.findAllByGameId(anyLong())).thenReturn(scoreboards(2));
+
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.registerBean(ClusterNode.class, () -> new ClusterNode(nodeId, ""));
+        context.registerBean(ObjectMapper.class, () -> new ObjectMapper());
+        context.registerBean(SimpMessagingTemplate.class, () -> mock(SimpMessagingTemplate.class));
+        context.registerBean(ScoreboardSnapshotCache.class, () -> mock(ScoreboardSnapshotCache.class));
+        context.registerBean(GameRepository.class, () -> gameRepository);
+        context.registerBean(ScoreboardRepository.class, () -> scoreboardRepository);
+        context.register(LocalClusterMembership.class, GameAffinityRing.class, LocalGameOwnershipLease.class,
+                LiveGameRegistry.class, CardDrawRegistry.class);
+        if (components.length > 0) {
+            context.register(components);
+        }
+        context.refresh();
+        return context;
+    }
+
+    /**
+     * 해당 노드가 주인인 첫 번째 게임 id
+     */
+    public static Long gameOwnedBy(AnnotationConfigApplicationContext node) {
+        GameAffinityRing ring = node.getBean(GameAffinityRing.class);
+        return LongStream.rangeClosed(1, 1000).boxed().filter(ring::isLocal).findFirst().orElseThrow();
+    }
+}